@@ -1,8 +1,11 @@
 package com.github.aaivan28.url.shortener.admin.application;
 
 import com.github.aaivan28.url.shortener.admin.domain.port.inbound.DeleteUrlUseCase;
+import com.github.aaivan28.url.shortener.admin.domain.port.inbound.DisableUrlUseCase;
+import com.github.aaivan28.url.shortener.admin.domain.port.inbound.ExportUrlUseCase;
 import com.github.aaivan28.url.shortener.admin.domain.port.inbound.GetUrlDetailUseCase;
 import com.github.aaivan28.url.shortener.admin.domain.port.inbound.SearchUrlUseCase;
 
-public interface UrlService extends SearchUrlUseCase, GetUrlDetailUseCase, DeleteUrlUseCase {
+public interface UrlService extends SearchUrlUseCase, GetUrlDetailUseCase, DeleteUrlUseCase, DisableUrlUseCase,
+        ExportUrlUseCase {
 }
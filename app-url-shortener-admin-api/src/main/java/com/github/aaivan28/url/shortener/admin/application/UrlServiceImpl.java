@@ -1,22 +1,117 @@
 package com.github.aaivan28.url.shortener.admin.application;
 
-import com.github.aaivan28.url.shortener.admin.domain.model.Page;
+import com.github.aaivan28.url.shortener.admin.domain.model.ExportQuery;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageCursor;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageInfo;
+import com.github.aaivan28.url.shortener.admin.domain.model.SearchQuery;
+import com.github.aaivan28.url.shortener.admin.domain.model.UrlDetail;
 import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.ClickStatsRepository;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlCacheEvictor;
 import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlRepository;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
 @RequiredArgsConstructor
 public class UrlServiceImpl implements UrlService {
 
     private final UrlRepository repository;
+    private final UrlCacheEvictor cacheEvictor;
+    private final ClickStatsRepository clickStatsRepository;
+    private final long countLimit;
+    private final int batchSize;
+
+    @Override
+    public Optional<UrlDetail> getUrlDetail(final String urlKey, final LocalDateTime clicksSince) {
+        return this.repository.findByKey(urlKey)
+                .map(url -> new UrlDetail(url, this.clickStatsRepository.getClickStats(urlKey, clicksSince)));
+    }
+
+    @Override
+    public PageInfo searchUrl(final SearchQuery query, final Consumer<UrlDocument> documents) {
+        UrlDocument last = null;
+        int size = 0;
+        boolean hasMore = false;
+
+        // One extra document tells whether there is a next page without counting
+        try (Stream<UrlDocument> stream = this.repository.search(query, query.size() + 1)) {
+            for (final Iterator<UrlDocument> iterator = stream.iterator(); iterator.hasNext(); ) {
+                final UrlDocument document = iterator.next();
+                if (size == query.size()) {
+                    hasMore = true;
+                    break;
+                }
+                documents.accept(document);
+                last = document;
+                size++;
+            }
+        }
+
+        final PageInfo.PageInfoBuilder page = PageInfo.builder()
+                .size(size)
+                .nextCursor(hasMore ? PageCursor.of(last).encode() : null);
+        switch (query.total()) {
+            case EXACT -> page.totalElements(this.repository.count(query, 0));
+            case ESTIMATED -> {
+                final long total = query.hasFilters() ? this.repository.count(query, this.countLimit) : this.repository.estimatedCount();
+                page.totalElements(total).totalEstimated(!query.hasFilters() || total >= this.countLimit);
+            }
+            case NONE -> { }
+        }
+        return page.build();
+    }
+
+    @Override
+    public long exportUrls(final ExportQuery query, final Consumer<UrlDocument> documents) {
+        long count = 0;
+        try (Stream<UrlDocument> stream = this.repository.export(query)) {
+            for (final Iterator<UrlDocument> iterator = stream.iterator(); iterator.hasNext(); count++) {
+                documents.accept(iterator.next());
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean deleteUrl(final String urlKey) {
+        return this.deleteUrls(List.of(urlKey)) > 0;
+    }
 
     @Override
-    public UrlDocument getUrlDetail(final String urlKey) {
-        return null;
+    public long deleteUrls(final Collection<String> urlKeys) {
+        return this.inBatches(urlKeys, this.repository::delete, this.cacheEvictor::evict);
     }
 
     @Override
-    public Page<UrlDocument> searchUrl(final String searchText, int page, int size) {
-        return null;
+    public boolean setEnabled(final String urlKey, final boolean enabled) {
+        return this.setEnabled(List.of(urlKey), enabled) > 0;
+    }
+
+    @Override
+    public long setEnabled(final Collection<String> urlKeys, final boolean enabled) {
+        return this.inBatches(urlKeys, batch -> this.repository.updateEnabled(batch, enabled), this.cacheEvictor::refresh);
+    }
+
+    // The database is written first, a redirect racing with the cache update can only reload the new state. The cache
+    // is updated even when nothing matched, in case it holds an entry the database no longer has.
+    private long inBatches(final Collection<String> urlKeys, final ToLongFunction<List<String>> write,
+                           final Consumer<List<String>> updateCache) {
+        final List<String> keys = new ArrayList<>(urlKeys);
+        long affected = 0;
+        for (int from = 0; from < keys.size(); from += this.batchSize) {
+            final List<String> batch = keys.subList(from, Math.min(from + this.batchSize, keys.size()));
+            affected += write.applyAsLong(batch);
+            updateCache.accept(batch);
+        }
+        return affected;
     }
 }
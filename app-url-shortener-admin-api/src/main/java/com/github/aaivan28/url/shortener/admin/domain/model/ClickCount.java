@@ -0,0 +1,6 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+import java.time.LocalDateTime;
+
+public record ClickCount(LocalDateTime minute, long count) {
+}
@@ -0,0 +1,22 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Clicks on one key: the all-time total and the minutes with clicks since {@code since}, oldest first. Recent clicks
+ * show up after the redirect service flushes them.
+ */
+@Builder
+public record ClickStats(
+        long total,
+        LocalDateTime lastClickAt,
+        LocalDateTime since,
+        List<ClickCount> perMinute) {
+
+    public static ClickStats none(final LocalDateTime since) {
+        return new ClickStats(0, null, since, List.of());
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ExportQuery(
+        boolean enabledOnly,
+        LocalDateTime createdSince) {
+}
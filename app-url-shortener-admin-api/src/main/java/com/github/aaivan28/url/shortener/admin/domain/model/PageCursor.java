@@ -0,0 +1,40 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last document of a page in {@code (createdAt, id)} descending order. Clients only see the opaque
+ * encoded form.
+ */
+public record PageCursor(
+        LocalDateTime createdAt,
+        String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static PageCursor of(final UrlDocument document) {
+        return new PageCursor(document.createdAt(), document.id());
+    }
+
+    public String encode() {
+        final String value = (this.createdAt == null ? "" : this.createdAt.toString()) + SEPARATOR + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(final String cursor) {
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separator = value.indexOf(SEPARATOR);
+            if (separator < 0 || separator == value.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            final LocalDateTime createdAt = separator == 0 ? null : LocalDateTime.parse(value.substring(0, separator));
+            return new PageCursor(createdAt, value.substring(separator + 1));
+        } catch (final DateTimeParseException exception) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, exception);
+        }
+    }
+}
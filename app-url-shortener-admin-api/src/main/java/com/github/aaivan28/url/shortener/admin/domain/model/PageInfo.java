@@ -0,0 +1,19 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+import lombok.Builder;
+
+/**
+ * Describes a page whose content has already been handed to the caller. {@code nextCursor} is {@code null} on the last
+ * page and {@code totalElements} is {@code null} unless a total was requested.
+ */
+@Builder
+public record PageInfo(
+        int size,
+        String nextCursor,
+        Long totalElements,
+        boolean totalEstimated) {
+
+    public boolean last() {
+        return this.nextCursor == null;
+    }
+}
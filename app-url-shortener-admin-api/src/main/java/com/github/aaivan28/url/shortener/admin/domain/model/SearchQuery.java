@@ -0,0 +1,16 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+import lombok.Builder;
+
+@Builder
+public record SearchQuery(
+        String text,
+        String keyPrefix,
+        PageCursor after,
+        int size,
+        TotalMode total) {
+
+    public boolean hasFilters() {
+        return (this.text != null && !this.text.isBlank()) || (this.keyPrefix != null && !this.keyPrefix.isEmpty());
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+/**
+ * How the total of a search is computed. Counting is never free on a large collection, so it is opt-in.
+ */
+public enum TotalMode {
+    /** No total. */
+    NONE,
+    /** Collection metadata without filters, a count capped at the configured limit otherwise. */
+    ESTIMATED,
+    /** Exact count of the matching documents. */
+    EXACT
+}
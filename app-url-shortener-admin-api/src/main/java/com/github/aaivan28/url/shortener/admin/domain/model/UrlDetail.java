@@ -0,0 +1,4 @@
+package com.github.aaivan28.url.shortener.admin.domain.model;
+
+public record UrlDetail(UrlDocument url, ClickStats clicks) {
+}
@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 
 @Builder
 public record UrlDocument(
+        String id,
         String key,
         String url,
         String description,
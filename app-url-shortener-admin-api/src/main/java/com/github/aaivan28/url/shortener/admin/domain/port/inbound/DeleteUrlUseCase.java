@@ -1,4 +1,10 @@
 package com.github.aaivan28.url.shortener.admin.domain.port.inbound;
 
+import java.util.Collection;
+
 public interface DeleteUrlUseCase {
+
+    boolean deleteUrl(final String urlKey);
+
+    long deleteUrls(final Collection<String> urlKeys);
 }
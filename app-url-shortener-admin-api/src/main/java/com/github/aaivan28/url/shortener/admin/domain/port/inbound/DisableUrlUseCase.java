@@ -0,0 +1,10 @@
+package com.github.aaivan28.url.shortener.admin.domain.port.inbound;
+
+import java.util.Collection;
+
+public interface DisableUrlUseCase {
+
+    boolean setEnabled(final String urlKey, final boolean enabled);
+
+    long setEnabled(final Collection<String> urlKeys, final boolean enabled);
+}
@@ -0,0 +1,14 @@
+package com.github.aaivan28.url.shortener.admin.domain.port.inbound;
+
+import com.github.aaivan28.url.shortener.admin.domain.model.ExportQuery;
+import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
+
+import java.util.function.Consumer;
+
+public interface ExportUrlUseCase {
+
+    /**
+     * Hands every matching document to {@code documents} as it is read and returns how many were exported.
+     */
+    long exportUrls(final ExportQuery query, final Consumer<UrlDocument> documents);
+}
@@ -1,8 +1,11 @@
 package com.github.aaivan28.url.shortener.admin.domain.port.inbound;
 
-import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
+import com.github.aaivan28.url.shortener.admin.domain.model.UrlDetail;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface GetUrlDetailUseCase {
 
-    UrlDocument getUrlDetail(final String urlKey);
+    Optional<UrlDetail> getUrlDetail(final String urlKey, final LocalDateTime clicksSince);
 }
@@ -1,9 +1,12 @@
 package com.github.aaivan28.url.shortener.admin.domain.port.inbound;
 
-import com.github.aaivan28.url.shortener.admin.domain.model.Page;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageInfo;
+import com.github.aaivan28.url.shortener.admin.domain.model.SearchQuery;
 import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
 
+import java.util.function.Consumer;
+
 public interface SearchUrlUseCase {
 
-    Page<UrlDocument> searchUrl(final String searchText, final int page, final int size);
+    PageInfo searchUrl(final SearchQuery query, final Consumer<UrlDocument> documents);
 }
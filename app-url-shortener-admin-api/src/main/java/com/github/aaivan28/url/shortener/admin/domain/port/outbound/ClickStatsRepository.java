@@ -0,0 +1,10 @@
+package com.github.aaivan28.url.shortener.admin.domain.port.outbound;
+
+import com.github.aaivan28.url.shortener.admin.domain.model.ClickStats;
+
+import java.time.LocalDateTime;
+
+public interface ClickStatsRepository {
+
+    ClickStats getClickStats(final String urlKey, final LocalDateTime since);
+}
@@ -0,0 +1,18 @@
+package com.github.aaivan28.url.shortener.admin.domain.port.outbound;
+
+import java.util.Collection;
+
+/**
+ * Keeps the cache of the redirect service in line with the changes made here, so a change is visible on the next
+ * redirect.
+ */
+public interface UrlCacheEvictor {
+
+    void evict(final Collection<String> urlKeys);
+
+    /**
+     * Replaces the cached entries of the keys with their current state, so the next redirect does not have to read the
+     * database. Keys that no longer exist are evicted.
+     */
+    void refresh(final Collection<String> urlKeys);
+}
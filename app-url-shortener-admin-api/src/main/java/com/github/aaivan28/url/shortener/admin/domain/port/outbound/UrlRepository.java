@@ -1,9 +1,35 @@
 package com.github.aaivan28.url.shortener.admin.domain.port.outbound;
 
+import com.github.aaivan28.url.shortener.admin.domain.model.ExportQuery;
+import com.github.aaivan28.url.shortener.admin.domain.model.SearchQuery;
 import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
-import org.springframework.data.domain.Page;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UrlRepository {
 
-    Page<UrlDocument> getRecords();
+    Optional<UrlDocument> findByKey(final String urlKey);
+
+    /**
+     * Documents matching the query after its cursor, newest first. The stream holds a database cursor and must be closed.
+     */
+    Stream<UrlDocument> search(final SearchQuery query, final int limit);
+
+    /**
+     * Counts the documents matching the query filters, stopping at {@code limit} when it is positive.
+     */
+    long count(final SearchQuery query, final long limit);
+
+    long estimatedCount();
+
+    /**
+     * Every document matching the query, in no particular order. The stream holds a database cursor and must be closed.
+     */
+    Stream<UrlDocument> export(final ExportQuery query);
+
+    long delete(final Collection<String> urlKeys);
+
+    long updateEnabled(final Collection<String> urlKeys, final boolean enabled);
 }
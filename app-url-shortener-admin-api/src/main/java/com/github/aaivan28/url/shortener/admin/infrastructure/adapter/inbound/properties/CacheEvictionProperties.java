@@ -0,0 +1,12 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener-admin.cache-eviction")
+public record CacheEvictionProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("2s") Duration secondEvictionDelay) {
+}
@@ -0,0 +1,12 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener-admin.click-stats")
+public record ClickStatsProperties(
+        @DefaultValue("24h") Duration defaultWindow,
+        @DefaultValue("7d") Duration maxWindow) {
+}
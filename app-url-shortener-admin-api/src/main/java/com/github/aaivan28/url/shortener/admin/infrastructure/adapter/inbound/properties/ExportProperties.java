@@ -0,0 +1,9 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener-admin.export")
+public record ExportProperties(
+        @DefaultValue("1000") int batchSize) {
+}
@@ -0,0 +1,29 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.admin.domain.model.ClickStats;
+import com.github.aaivan28.url.shortener.admin.domain.model.UrlDetail;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.ClickStatsDTO;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDetailDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UrlDetailDTOConverter implements Converter<UrlDetail, UrlDetailDTO> {
+
+    private final UrlDocumentDTOConverter urlDocumentDTOConverter;
+
+    @Override
+    public UrlDetailDTO convert(final UrlDetail source) {
+        final ClickStats clicks = source.clicks();
+        return new UrlDetailDTO(this.urlDocumentDTOConverter.convert(source.url()), ClickStatsDTO.builder()
+                .total(clicks.total())
+                .lastClickAt(clicks.lastClickAt())
+                .since(clicks.since())
+                .perMinute(clicks.perMinute().stream()
+                        .map(count -> new ClickStatsDTO.ClickCountDTO(count.minute(), count.count()))
+                        .toList())
+                .build());
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDocumentDTO;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UrlDocumentDTOConverter implements Converter<UrlDocument, UrlDocumentDTO> {
+
+    @Override
+    public UrlDocumentDTO convert(final UrlDocument source) {
+        return UrlDocumentDTO.builder()
+                .id(source.id())
+                .urlKey(source.key())
+                .url(source.url())
+                .enabled(source.enabled())
+                .description(source.description())
+                .createdAt(source.createdAt())
+                .updatedAt(source.updatedAt())
+                .build();
+    }
+}
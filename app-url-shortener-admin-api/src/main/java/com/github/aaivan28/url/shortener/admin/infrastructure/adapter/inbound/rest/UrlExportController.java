@@ -0,0 +1,76 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.aaivan28.url.shortener.admin.application.UrlService;
+import com.github.aaivan28.url.shortener.admin.domain.model.ExportQuery;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest.export.ExportFormat;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest.export.ExportWriter;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDocumentDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Streams the whole catalog without a content length, so the response is sent chunked while the Mongo cursor is read
+ * batch by batch. Memory use does not depend on the size of the collection.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class UrlExportController {
+
+    private final UrlService urlService;
+    private final ConversionService conversionService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping("/document/export")
+    public void export(final @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                       final @RequestParam(value = "enabledOnly", defaultValue = "false") boolean enabledOnly,
+                       final @RequestParam(value = "createdSince", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdSince,
+                       final HttpServletResponse response) throws IOException {
+        final ExportFormat exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        final ExportQuery query = ExportQuery.builder()
+                .enabledOnly(enabledOnly)
+                .createdSince(createdSince)
+                .build();
+
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("shortened_url." + exportFormat.name().toLowerCase(Locale.ROOT))
+                .build()
+                .toString());
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8))) {
+            final ExportWriter exportWriter = exportFormat.writer(writer, this.objectMapper);
+            exportWriter.writeHeader();
+            final long count = this.urlService.exportUrls(query, document -> {
+                try {
+                    exportWriter.write(this.conversionService.convert(document, UrlDocumentDTO.class));
+                } catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            log.info("Exported {} documents as {}", count, exportFormat);
+        }
+    }
+}
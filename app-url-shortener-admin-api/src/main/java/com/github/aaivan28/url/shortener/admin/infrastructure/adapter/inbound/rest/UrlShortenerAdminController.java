@@ -1,36 +1,134 @@
 package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.aaivan28.url.shortener.admin.application.UrlService;
-import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.PaginateResponse;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageCursor;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageInfo;
+import com.github.aaivan28.url.shortener.admin.domain.model.SearchQuery;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.ClickStatsProperties;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.BulkKeysRequest;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.BulkOperationResponse;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.SearchUrlRequest;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDetailDTO;
 import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDocumentDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/admin")
 @RequiredArgsConstructor
 public class UrlShortenerAdminController {
 
     private final UrlService urlService;
+    private final ConversionService conversionService;
+    private final ObjectMapper objectMapper;
+    private final ClickStatsProperties clickStatsProperties;
+
+    /**
+     * Writes each document as soon as it is read from the database, followed by the page metadata. The next page is
+     * requested with {@code nextCursor}.
+     */
+    @PostMapping(value = "/document/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public void search(final @Valid @RequestBody SearchUrlRequest request, final HttpServletResponse response) throws IOException {
+        // Decoded before anything is written so an invalid cursor can still be answered with a 400
+        final SearchQuery query = SearchQuery.builder()
+                .text(request.text())
+                .keyPrefix(request.keyPrefix())
+                .after(request.cursor() == null ? null : PageCursor.decode(request.cursor()))
+                .size(request.sizeOrDefault())
+                .total(request.totalOrDefault())
+                .build();
 
-    @PostMapping("/document/search")
-    public PaginateResponse<UrlDocumentDTO> search(final Pageable pageable) {
-        return null;
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = this.objectMapper.createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            final PageInfo page = this.urlService.searchUrl(query,
+                    document -> write(generator, this.conversionService.convert(document, UrlDocumentDTO.class)));
+            generator.writeEndArray();
+            writeMetadata(generator, page);
+            generator.writeEndObject();
+        }
     }
 
+    /**
+     * The document with its click totals and per-minute clicks since {@code clicksSince}, by default over the last
+     * {@code default-window}.
+     */
     @GetMapping("/document/{key}")
-    public UrlDocumentDTO getDetail(final @PathVariable("key") String key) {
-        return null;
+    public ResponseEntity<UrlDetailDTO> getDetail(final @PathVariable("key") String key,
+                                                  final @RequestParam(value = "clicksSince", required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime clicksSince) {
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime since = clicksSince == null ? now.minus(this.clickStatsProperties.defaultWindow()) : clicksSince;
+        if (since.isBefore(now.minus(this.clickStatsProperties.maxWindow()))) {
+            throw new IllegalArgumentException("clicksSince must be within " + this.clickStatsProperties.maxWindow());
+        }
+        return ResponseEntity.of(this.urlService.getUrlDetail(key, since)
+                .map(detail -> this.conversionService.convert(detail, UrlDetailDTO.class)));
     }
 
     @DeleteMapping("/document/{key}")
-    public void delete(final @PathVariable("key") String key) {
+    public ResponseEntity<Void> delete(final @PathVariable("key") String key) {
+        return this.urlService.deleteUrl(key) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/document/{key}/disable")
+    public ResponseEntity<Void> disable(final @PathVariable("key") String key) {
+        return this.urlService.setEnabled(key, false) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/document/{key}/enable")
+    public ResponseEntity<Void> enable(final @PathVariable("key") String key) {
+        return this.urlService.setEnabled(key, true) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/document/bulk/delete")
+    public BulkOperationResponse deleteAll(final @Valid @RequestBody BulkKeysRequest request) {
+        return new BulkOperationResponse(request.keys().size(), this.urlService.deleteUrls(request.keys()));
+    }
+
+    @PostMapping("/document/bulk/disable")
+    public BulkOperationResponse disableAll(final @Valid @RequestBody BulkKeysRequest request) {
+        return new BulkOperationResponse(request.keys().size(), this.urlService.setEnabled(request.keys(), false));
+    }
+
+    // Absent fields are omitted: nextCursor on the last page, totalElements when no total was requested
+    private static void writeMetadata(final JsonGenerator generator, final PageInfo page) throws IOException {
+        generator.writeNumberField("size", page.size());
+        if (page.nextCursor() != null) {
+            generator.writeStringField("nextCursor", page.nextCursor());
+        }
+        generator.writeBooleanField("last", page.last());
+        if (page.totalElements() != null) {
+            generator.writeNumberField("totalElements", page.totalElements());
+        }
+        generator.writeBooleanField("totalEstimated", page.totalEstimated());
+    }
 
+    private static void write(final JsonGenerator generator, final Object value) {
+        try {
+            generator.writeObject(value);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
     }
 }
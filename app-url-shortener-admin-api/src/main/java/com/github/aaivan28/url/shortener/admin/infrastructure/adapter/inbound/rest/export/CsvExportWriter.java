@@ -0,0 +1,55 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest.export;
+
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDocumentDTO;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * RFC 4180 rows; fields containing a separator, a quote or a line break are quoted.
+ */
+@RequiredArgsConstructor
+public class CsvExportWriter implements ExportWriter {
+
+    private static final String HEADER = "id,urlKey,url,enabled,description,createdAt,updatedAt";
+
+    private final Writer writer;
+
+    @Override
+    public void writeHeader() throws IOException {
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void write(final UrlDocumentDTO document) throws IOException {
+        this.field(document.id()).separator();
+        this.field(document.urlKey()).separator();
+        this.field(document.url()).separator();
+        this.field(String.valueOf(document.enabled())).separator();
+        this.field(document.description()).separator();
+        this.field(Objects.toString(document.createdAt(), null)).separator();
+        this.field(Objects.toString(document.updatedAt(), null));
+        this.writer.write("\r\n");
+    }
+
+    private CsvExportWriter field(final String value) throws IOException {
+        if (value == null) {
+            return this;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            this.writer.write(value);
+            return this;
+        }
+        this.writer.write('"');
+        this.writer.write(value.replace("\"", "\"\""));
+        this.writer.write('"');
+        return this;
+    }
+
+    private void separator() throws IOException {
+        this.writer.write(',');
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Writer;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson") {
+        @Override
+        public ExportWriter writer(final Writer writer, final ObjectMapper objectMapper) {
+            return new NdjsonExportWriter(writer, objectMapper.writer());
+        }
+    },
+    CSV("text/csv") {
+        @Override
+        public ExportWriter writer(final Writer writer, final ObjectMapper objectMapper) {
+            return new CsvExportWriter(writer);
+        }
+    };
+
+    private final String contentType;
+
+    ExportFormat(final String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return this.contentType;
+    }
+
+    public abstract ExportWriter writer(final Writer writer, final ObjectMapper objectMapper);
+}
@@ -0,0 +1,12 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest.export;
+
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDocumentDTO;
+
+import java.io.IOException;
+
+public interface ExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void write(final UrlDocumentDTO document) throws IOException;
+}
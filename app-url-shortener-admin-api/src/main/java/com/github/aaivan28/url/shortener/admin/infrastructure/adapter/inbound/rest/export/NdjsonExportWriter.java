@@ -0,0 +1,25 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDocumentDTO;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.Writer;
+
+@RequiredArgsConstructor
+public class NdjsonExportWriter implements ExportWriter {
+
+    private final Writer writer;
+    private final ObjectWriter objectWriter;
+
+    @Override
+    public void writeHeader() {
+    }
+
+    @Override
+    public void write(final UrlDocumentDTO document) throws IOException {
+        this.writer.write(this.objectWriter.writeValueAsString(document));
+        this.writer.write('\n');
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkKeysRequest(
+        @NotEmpty @Size(max = 10000) List<@NotBlank String> keys) {
+}
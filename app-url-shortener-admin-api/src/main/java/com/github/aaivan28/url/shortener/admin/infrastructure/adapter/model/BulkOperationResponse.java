@@ -0,0 +1,6 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model;
+
+public record BulkOperationResponse(
+        int requested,
+        long affected) {
+}
@@ -0,0 +1,17 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+public record ClickStatsDTO(
+        long total,
+        LocalDateTime lastClickAt,
+        LocalDateTime since,
+        List<ClickCountDTO> perMinute) {
+
+    public record ClickCountDTO(LocalDateTime minute, long count) {
+    }
+}
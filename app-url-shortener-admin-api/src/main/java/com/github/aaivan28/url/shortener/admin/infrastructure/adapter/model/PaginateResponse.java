@@ -1,20 +0,0 @@
-package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model;
-
-import lombok.Builder;
-import lombok.Value;
-import lombok.extern.jackson.Jacksonized;
-
-import java.util.List;
-
-@Value
-@Jacksonized
-@Builder(toBuilder = true)
-public class PaginateResponse<T> {
-    List<T> content;
-    int page;
-    int size;
-    long totalElements;
-    int totalPages;
-    boolean first;
-    boolean last;
-}
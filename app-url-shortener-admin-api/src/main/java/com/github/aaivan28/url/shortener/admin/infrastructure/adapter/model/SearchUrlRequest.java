@@ -0,0 +1,24 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model;
+
+import com.github.aaivan28.url.shortener.admin.domain.model.TotalMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+public record SearchUrlRequest(
+        @Size(max = 256) String text,
+        @Size(max = 64) String keyPrefix,
+        String cursor,
+        @Min(1) @Max(100) Integer size,
+        TotalMode total) {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    public int sizeOrDefault() {
+        return this.size == null ? DEFAULT_SIZE : this.size;
+    }
+
+    public TotalMode totalOrDefault() {
+        return this.total == null ? TotalMode.NONE : this.total;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+/**
+ * The document fields as in search results, plus its click statistics.
+ */
+public record UrlDetailDTO(
+        @JsonUnwrapped UrlDocumentDTO url,
+        ClickStatsDTO clicks) {
+}
@@ -3,7 +3,7 @@ package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model;
 import lombok.Builder;
 import lombok.extern.jackson.Jacksonized;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Jacksonized
 @Builder(toBuilder = true)
@@ -13,6 +13,6 @@ public record UrlDocumentDTO(
         String url,
         boolean enabled,
         String description,
-        LocalDate createdAt,
-        LocalDate updatedAt) {
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
 }
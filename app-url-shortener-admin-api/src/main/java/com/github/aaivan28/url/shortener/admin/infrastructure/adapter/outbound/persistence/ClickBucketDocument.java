@@ -0,0 +1,27 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.outbound.persistence;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-minute clicks written by the redirect service, which also owns the retention index.
+ */
+@Value
+@Builder
+@Document(ClickBucketDocument.COLLECTION_NAME)
+@CompoundIndex(name = ClickBucketDocument.KEY_MINUTE_INDEX, def = "{ 'key': 1, 'minute': 1 }")
+public class ClickBucketDocument {
+    public static final String COLLECTION_NAME = "url_clicks";
+    public static final String KEY_MINUTE_INDEX = "key_minute";
+
+    @Id
+    String id;
+    String key;
+    LocalDateTime minute;
+    long count;
+}
@@ -0,0 +1,20 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.outbound.persistence;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+@Document(ClickTotalDocument.COLLECTION_NAME)
+public class ClickTotalDocument {
+    public static final String COLLECTION_NAME = "url_click_totals";
+
+    @Id
+    String key;
+    long count;
+    LocalDateTime lastClickAt;
+}
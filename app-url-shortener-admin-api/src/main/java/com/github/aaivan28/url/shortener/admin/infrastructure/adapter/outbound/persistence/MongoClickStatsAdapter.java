@@ -0,0 +1,45 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.url.shortener.admin.domain.model.ClickCount;
+import com.github.aaivan28.url.shortener.admin.domain.model.ClickStats;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.ClickStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MongoClickStatsAdapter implements ClickStatsRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public ClickStats getClickStats(final String urlKey, final LocalDateTime since) {
+        final ClickTotalDocument total = this.mongoTemplate.findById(urlKey, ClickTotalDocument.class);
+        if (total == null) {
+            return ClickStats.none(since);
+        }
+
+        // Answered from the key_minute index
+        final Query query = new Query(Criteria.where("key").is(urlKey).and("minute").gte(since))
+                .with(Sort.by("minute"))
+                .withHint(ClickBucketDocument.KEY_MINUTE_INDEX);
+        query.fields().include("minute", "count").exclude("_id");
+        final List<ClickCount> perMinute = this.mongoTemplate.find(query, ClickBucketDocument.class).stream()
+                .map(bucket -> new ClickCount(bucket.getMinute(), bucket.getCount()))
+                .toList();
+
+        return ClickStats.builder()
+                .total(total.getCount())
+                .lastClickAt(total.getLastClickAt())
+                .since(since)
+                .perMinute(perMinute)
+                .build();
+    }
+}
@@ -1,15 +1,136 @@
 package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.outbound.persistence;
 
-import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
+import com.github.aaivan28.url.shortener.admin.domain.model.ExportQuery;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageCursor;
+import com.github.aaivan28.url.shortener.admin.domain.model.SearchQuery;
 import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlRepository;
-import org.springframework.data.domain.Page;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.ExportProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Component
+@RequiredArgsConstructor
 public class MongoRepositoryAdapter implements UrlRepository {
 
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, CREATED_AT, ID);
+
+    private final MongoTemplate mongoTemplate;
+    private final ExportProperties exportProperties;
+
+    @Override
+    public Optional<com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument> findByKey(final String urlKey) {
+        return Optional.ofNullable(this.mongoTemplate.findOne(new Query(Criteria.where("key").is(urlKey)), UrlDocument.class))
+                .map(MongoRepositoryAdapter::toModel);
+    }
+
+    @Override
+    public Stream<com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument> search(final SearchQuery search, final int limit) {
+        final Query query = filter(search).with(NEWEST_FIRST).limit(limit).cursorBatchSize(limit);
+        if (search.after() != null) {
+            query.addCriteria(after(search.after()));
+        }
+        return this.mongoTemplate.stream(query, UrlDocument.class).map(MongoRepositoryAdapter::toModel);
+    }
+
+    @Override
+    public long count(final SearchQuery search, final long limit) {
+        final Query query = filter(search);
+        if (limit > 0) {
+            query.limit((int) Math.min(limit, Integer.MAX_VALUE));
+        }
+        return this.mongoTemplate.count(query, UrlDocument.class);
+    }
+
     @Override
-    public Page<UrlDocument> getRecords() {
-        return null;
+    public long estimatedCount() {
+        return this.mongoTemplate.estimatedCount(UrlDocument.class);
+    }
+
+    @Override
+    public Stream<com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument> export(final ExportQuery export) {
+        // A slow client can leave the cursor idle for longer than the server timeout; the stream is always closed
+        final Query query = new Query().cursorBatchSize(this.exportProperties.batchSize()).noCursorTimeout();
+        if (export.enabledOnly()) {
+            query.addCriteria(Criteria.where("enabled").is(true));
+        }
+        if (export.createdSince() != null) {
+            query.addCriteria(Criteria.where(CREATED_AT).gte(export.createdSince()));
+        }
+        return this.mongoTemplate.stream(query, UrlDocument.class).map(MongoRepositoryAdapter::toModel);
+    }
+
+    @Override
+    public long delete(final Collection<String> urlKeys) {
+        return this.mongoTemplate.remove(byKeys(urlKeys), UrlDocument.class).getDeletedCount();
+    }
+
+    @Override
+    public long updateEnabled(final Collection<String> urlKeys, final boolean enabled) {
+        final Update update = new Update().set("enabled", enabled).set("updatedAt", LocalDateTime.now());
+        return this.mongoTemplate.updateMulti(byKeys(urlKeys), update, UrlDocument.class).getMatchedCount();
+    }
+
+    private static Query byKeys(final Collection<String> urlKeys) {
+        return new Query(Criteria.where("key").in(urlKeys));
+    }
+
+    private static Query filter(final SearchQuery search) {
+        final Query query = search.text() == null || search.text().isBlank()
+                ? new Query()
+                : TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(search.text()));
+        if (search.keyPrefix() != null && !search.keyPrefix().isEmpty()) {
+            // An anchored literal prefix is answered from the unique key index
+            query.addCriteria(Criteria.where("key").regex("^" + escape(search.keyPrefix())));
+        }
+        return query;
+    }
+
+    // Newest first: strictly older, or the same instant with a lower id. Documents without a creation date sort last.
+    private static Criteria after(final PageCursor cursor) {
+        if (cursor.createdAt() == null) {
+            return Criteria.where(CREATED_AT).is(null).and(ID).lt(cursor.id());
+        }
+        return new Criteria().orOperator(
+                Criteria.where(CREATED_AT).lt(cursor.createdAt()),
+                Criteria.where(CREATED_AT).is(cursor.createdAt()).and(ID).lt(cursor.id()),
+                Criteria.where(CREATED_AT).is(null));
+    }
+
+    private static String escape(final String value) {
+        final StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char current = value.charAt(i);
+            if ("\\^$.|?*+()[]{}".indexOf(current) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(current);
+        }
+        return escaped.toString();
+    }
+
+    private static com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument toModel(final UrlDocument document) {
+        return com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument.builder()
+                .id(document.getId())
+                .key(document.getKey())
+                .url(document.getUrl())
+                .description(document.getDescription())
+                .enabled(document.isEnabled())
+                .createdAt(document.getCreatedAt())
+                .updatedAt(document.getUpdatedAt())
+                .build();
     }
 }
@@ -0,0 +1,101 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.cache.redis.codec.CacheValueFormat;
+import com.github.aaivan28.cache.redis.contract.CachedUrl;
+import com.github.aaivan28.cache.redis.contract.UrlCacheContract;
+import com.github.aaivan28.cache.redis.properties.CacheValueProperties;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlCacheEvictor;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.CacheEvictionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Updates the {@code url} cache of the redirect service with one pipelined write or one {@code DEL} per batch and
+ * broadcasts the keys so every node drops its local copy. Refreshed entries are written in the shared
+ * {@link UrlCacheContract} layout, read back from the database after the change.
+ * <p>
+ * A redirect that read the database just before the write can still store the old value afterwards. The keys are
+ * evicted or refreshed a second time after {@code second-eviction-delay} to close that window.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisUrlCacheEvictor implements UrlCacheEvictor {
+
+    static final String CACHE_NAME = UrlCacheContract.CACHE_NAME;
+
+    private final RedisCacheBatchOperations cacheBatchOperations;
+    private final MongoTemplate mongoTemplate;
+    private final CacheValueProperties cacheValueProperties;
+    private final CacheEvictionProperties properties;
+
+    @Override
+    public void evict(final Collection<String> urlKeys) {
+        final List<String> keys = List.copyOf(urlKeys);
+        this.evictNow(keys);
+        this.again(keys, this::evictNow);
+    }
+
+    @Override
+    public void refresh(final Collection<String> urlKeys) {
+        final List<String> keys = List.copyOf(urlKeys);
+        this.refreshNow(keys);
+        this.again(keys, this::refreshNow);
+    }
+
+    private void evictNow(final List<String> keys) {
+        this.cacheBatchOperations.evictAll(CACHE_NAME, keys);
+    }
+
+    private void refreshNow(final List<String> keys) {
+        // Only the compact layout is shared, a JSON value would name a class the redirect service does not have
+        if (this.cacheValueProperties.format() != CacheValueFormat.COMPACT) {
+            this.evictNow(keys);
+            return;
+        }
+
+        final Query query = Query.query(Criteria.where("key").in(keys));
+        query.fields().include("key", "url", "enabled", "redirectStatus").exclude("_id");
+        final Map<String, CachedUrl> entries = new HashMap<>();
+        for (final Document document : this.mongoTemplate.find(query, Document.class, UrlCacheContract.COLLECTION_NAME)) {
+            entries.put(document.getString("key"), new CachedUrl(document.getString("url"),
+                    Boolean.TRUE.equals(document.getBoolean("enabled")), document.getInteger("redirectStatus")));
+        }
+
+        if (!entries.isEmpty()) {
+            this.cacheBatchOperations.putAll(CACHE_NAME, entries);
+        }
+        final List<String> missing = keys.stream().filter(key -> !entries.containsKey(key)).toList();
+        if (!missing.isEmpty()) {
+            this.evictNow(missing);
+        }
+    }
+
+    private void again(final List<String> keys, final Consumer<List<String>> update) {
+        final long delay = this.properties.secondEvictionDelay().toMillis();
+        if (delay > 0) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    update.accept(keys);
+                } catch (final DataAccessException exception) {
+                    log.warn("Unable to update {} cached keys a second time", keys.size(), exception);
+                }
+            }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.outbound.persistence;
 
+import com.github.aaivan28.cache.redis.contract.UrlCacheContract;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -13,14 +16,18 @@ import java.time.LocalDateTime;
 @Builder
 @Jacksonized
 @Document(UrlDocument.COLLECTION_NAME)
+@CompoundIndex(name = UrlDocument.CREATED_AT_INDEX, def = "{ 'createdAt': -1, '_id': -1 }")
 public class UrlDocument {
-    public static final String COLLECTION_NAME = "shortened_url";
+    public static final String COLLECTION_NAME = UrlCacheContract.COLLECTION_NAME;
+    public static final String CREATED_AT_INDEX = "createdAt_id";
 
     @Id
     String id;
     @Indexed(unique = true)
     String key;
+    @TextIndexed
     String description;
+    @TextIndexed
     String url;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
@@ -2,7 +2,11 @@ package com.github.aaivan28.url.shortener.admin.infrastructure.configuration;
 
 import com.github.aaivan28.url.shortener.admin.application.UrlService;
 import com.github.aaivan28.url.shortener.admin.application.UrlServiceImpl;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.ClickStatsRepository;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlCacheEvictor;
 import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlRepository;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.CacheEvictionProperties;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.SearchProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,7 +14,11 @@ import org.springframework.context.annotation.Configuration;
 public class ApplicationConfiguration {
 
     @Bean
-    UrlService urlService(final UrlRepository repository) {
-        return new UrlServiceImpl(repository);
+    UrlService urlService(final UrlRepository repository,
+                          final UrlCacheEvictor cacheEvictor,
+                          final ClickStatsRepository clickStatsRepository,
+                          final SearchProperties searchProperties,
+                          final CacheEvictionProperties cacheEvictionProperties) {
+        return new UrlServiceImpl(repository, cacheEvictor, clickStatsRepository, searchProperties.countLimit(), cacheEvictionProperties.batchSize());
     }
 }
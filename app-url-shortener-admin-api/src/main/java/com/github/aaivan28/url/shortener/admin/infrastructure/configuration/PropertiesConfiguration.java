@@ -0,0 +1,14 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.configuration;
+
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.CacheEvictionProperties;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.ClickStatsProperties;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.ExportProperties;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.SearchProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({SearchProperties.class, ExportProperties.class, CacheEvictionProperties.class,
+        ClickStatsProperties.class})
+public class PropertiesConfiguration {
+}
@@ -0,0 +1,17 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.configuration;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueCodec;
+import com.github.aaivan28.cache.redis.contract.CachedUrl;
+import com.github.aaivan28.cache.redis.contract.CachedUrlCodec;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UrlCacheConfiguration {
+
+    // Same layout as the redirect service codec, entries refreshed here are read there as its own documents
+    @Bean
+    CacheValueCodec<CachedUrl> cachedUrlCodec() {
+        return new CachedUrlCodec();
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.aaivan28.url.shortener.admin.application;
+
+import com.github.aaivan28.url.shortener.admin.domain.model.ClickStats;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageCursor;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageInfo;
+import com.github.aaivan28.url.shortener.admin.domain.model.SearchQuery;
+import com.github.aaivan28.url.shortener.admin.domain.model.TotalMode;
+import com.github.aaivan28.url.shortener.admin.domain.model.UrlDetail;
+import com.github.aaivan28.url.shortener.admin.domain.model.UrlDocument;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.ClickStatsRepository;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlCacheEvictor;
+import com.github.aaivan28.url.shortener.admin.domain.port.outbound.UrlRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UrlServiceImpl Tests")
+class UrlServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private UrlRepository repository;
+
+    @Mock
+    private UrlCacheEvictor cacheEvictor;
+
+    @Mock
+    private ClickStatsRepository clickStatsRepository;
+
+    private UrlServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UrlServiceImpl(repository, cacheEvictor, clickStatsRepository, 100, 2);
+    }
+
+    @Test
+    @DisplayName("Should return a cursor to the last document when there is a next page")
+    void shouldReturnCursorWhenThereIsNextPage() {
+        // Given
+        final SearchQuery query = query(null, 2, TotalMode.NONE);
+        when(repository.search(query, 3)).thenReturn(documents(3));
+        final List<UrlDocument> content = new ArrayList<>();
+
+        // When
+        final PageInfo page = service.searchUrl(query, content::add);
+
+        // Then
+        assertThat(content).extracting(UrlDocument::id).containsExactly("id0", "id1");
+        assertThat(page.size()).isEqualTo(2);
+        assertThat(page.last()).isFalse();
+        assertThat(PageCursor.decode(page.nextCursor())).isEqualTo(new PageCursor(NOW.minusMinutes(1), "id1"));
+        verify(repository, never()).count(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should flag the last page without a cursor")
+    void shouldFlagLastPage() {
+        // Given
+        final SearchQuery query = query(null, 5, TotalMode.EXACT);
+        when(repository.search(query, 6)).thenReturn(documents(2));
+        when(repository.count(query, 0)).thenReturn(2L);
+
+        // When
+        final PageInfo page = service.searchUrl(query, document -> { });
+
+        // Then
+        assertThat(page.last()).isTrue();
+        assertThat(page.totalElements()).isEqualTo(2L);
+        assertThat(page.totalEstimated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should estimate totals from metadata without filters and cap counts with filters")
+    void shouldEstimateTotals() {
+        // Given
+        final SearchQuery unfiltered = query(null, 5, TotalMode.ESTIMATED);
+        final SearchQuery filtered = query("example", 5, TotalMode.ESTIMATED);
+        when(repository.search(any(), any(Integer.class))).thenAnswer(invocation -> Stream.empty());
+        when(repository.estimatedCount()).thenReturn(50_000_000L);
+        when(repository.count(filtered, 100)).thenReturn(100L);
+
+        // When
+        final PageInfo unfilteredPage = service.searchUrl(unfiltered, document -> { });
+        final PageInfo filteredPage = service.searchUrl(filtered, document -> { });
+
+        // Then
+        assertThat(unfilteredPage.totalElements()).isEqualTo(50_000_000L);
+        assertThat(unfilteredPage.totalEstimated()).isTrue();
+        assertThat(filteredPage.totalElements()).isEqualTo(100L);
+        assertThat(filteredPage.totalEstimated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should round trip cursors and reject malformed ones")
+    void shouldRoundTripCursors() {
+        // Given
+        final PageCursor cursor = new PageCursor(NOW, "65a1f0c2e4b0a1b2c3d4e5f6");
+
+        // When / Then
+        assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(PageCursor.decode(new PageCursor(null, "id").encode())).isEqualTo(new PageCursor(null, "id"));
+        assertThatThrownBy(() -> PageCursor.decode("not-a-cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should write each batch before refreshing exactly its cached keys")
+    void shouldWriteBeforeRefreshingInBatches() {
+        // Given
+        when(repository.updateEnabled(List.of("a", "b"), false)).thenReturn(2L);
+        when(repository.updateEnabled(List.of("c"), false)).thenReturn(0L);
+
+        // When
+        final long affected = service.setEnabled(List.of("a", "b", "c"), false);
+
+        // Then
+        assertThat(affected).isEqualTo(2L);
+        final InOrder order = inOrder(repository, cacheEvictor);
+        order.verify(repository).updateEnabled(List.of("a", "b"), false);
+        order.verify(cacheEvictor).refresh(List.of("a", "b"));
+        order.verify(repository).updateEnabled(List.of("c"), false);
+        order.verify(cacheEvictor).refresh(List.of("c"));
+        verify(cacheEvictor, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("Should evict a deleted key even when it is no longer stored")
+    void shouldEvictDeletedKeyEvenWhenMissing() {
+        // Given
+        when(repository.delete(List.of("gone"))).thenReturn(0L);
+
+        // When
+        final boolean deleted = service.deleteUrl("gone");
+
+        // Then
+        assertThat(deleted).isFalse();
+        verify(cacheEvictor).evict(List.of("gone"));
+    }
+
+    @Test
+    @DisplayName("Should return the document with its click statistics")
+    void shouldReturnDetailWithClickStats() {
+        // Given
+        final UrlDocument document = documents(1).findFirst().orElseThrow();
+        final ClickStats clicks = ClickStats.builder().total(42).since(NOW.minusDays(1)).perMinute(List.of()).build();
+        when(repository.findByKey("key0")).thenReturn(Optional.of(document));
+        when(clickStatsRepository.getClickStats("key0", NOW.minusDays(1))).thenReturn(clicks);
+
+        // When
+        final Optional<UrlDetail> detail = service.getUrlDetail("key0", NOW.minusDays(1));
+
+        // Then
+        assertThat(detail).contains(new UrlDetail(document, clicks));
+    }
+
+    @Test
+    @DisplayName("Should not read click statistics for an unknown key")
+    void shouldNotReadClickStatsForUnknownKey() {
+        // Given
+        when(repository.findByKey("unknown")).thenReturn(Optional.empty());
+
+        // When
+        final Optional<UrlDetail> detail = service.getUrlDetail("unknown", NOW);
+
+        // Then
+        assertThat(detail).isEmpty();
+        verifyNoInteractions(clickStatsRepository);
+    }
+
+    private static SearchQuery query(final String text, final int size, final TotalMode total) {
+        return SearchQuery.builder().text(text).size(size).total(total).build();
+    }
+
+    private static Stream<UrlDocument> documents(final int count) {
+        return IntStream.range(0, count).mapToObj(i -> UrlDocument.builder()
+                .id("id" + i)
+                .key("key" + i)
+                .url("https://example.com/" + i)
+                .enabled(true)
+                .createdAt(NOW.minusMinutes(i))
+                .build());
+    }
+}
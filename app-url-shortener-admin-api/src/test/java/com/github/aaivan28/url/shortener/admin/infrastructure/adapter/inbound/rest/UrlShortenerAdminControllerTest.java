@@ -0,0 +1,68 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.aaivan28.url.shortener.admin.application.UrlService;
+import com.github.aaivan28.url.shortener.admin.domain.model.PageInfo;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.SearchUrlRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UrlShortenerAdminController Tests")
+class UrlShortenerAdminControllerTest {
+
+    @Mock
+    private UrlService urlService;
+
+    @Mock
+    private ConversionService conversionService;
+
+    private UrlShortenerAdminController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new UrlShortenerAdminController(urlService, conversionService, new ObjectMapper(), null);
+    }
+
+    @Test
+    @DisplayName("Should write the page metadata after the content")
+    void shouldWritePageMetadataAfterContent() throws IOException {
+        // Given
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        when(urlService.searchUrl(any(), any())).thenReturn(new PageInfo(20, "next", 1234L, true));
+
+        // When
+        controller.search(new SearchUrlRequest(null, null, null, null, null), response);
+
+        // Then
+        assertThat(response.getContentAsString())
+                .isEqualTo("{\"content\":[],\"size\":20,\"nextCursor\":\"next\",\"last\":false,\"totalElements\":1234,\"totalEstimated\":true}");
+    }
+
+    @Test
+    @DisplayName("Should omit the cursor on the last page and the total when it was not requested")
+    void shouldOmitAbsentMetadata() throws IOException {
+        // Given
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        when(urlService.searchUrl(any(), any())).thenReturn(new PageInfo(3, null, null, false));
+
+        // When
+        controller.search(new SearchUrlRequest(null, null, null, null, null), response);
+
+        // Then
+        assertThat(response.getContentAsString())
+                .isEqualTo("{\"content\":[],\"size\":3,\"last\":true,\"totalEstimated\":false}");
+    }
+}
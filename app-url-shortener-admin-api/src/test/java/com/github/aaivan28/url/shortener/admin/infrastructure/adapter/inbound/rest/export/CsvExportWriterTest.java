@@ -0,0 +1,41 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.rest.export;
+
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.model.UrlDocumentDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CsvExportWriter Tests")
+class CsvExportWriterTest {
+
+    @Test
+    @DisplayName("Should write a header and quote fields that need it")
+    void shouldWriteHeaderAndQuoteFields() throws IOException {
+        // Given
+        final StringWriter output = new StringWriter();
+        final CsvExportWriter writer = new CsvExportWriter(output);
+        final UrlDocumentDTO document = UrlDocumentDTO.builder()
+                .id("65a1f0c2e4b0a1b2c3d4e5f6")
+                .urlKey("abc123")
+                .url("https://example.com/?a=1,2")
+                .enabled(true)
+                .description("Say \"hi\"")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+
+        // When
+        writer.writeHeader();
+        writer.write(document);
+
+        // Then
+        assertThat(output.toString()).isEqualTo("""
+                id,urlKey,url,enabled,description,createdAt,updatedAt\r
+                65a1f0c2e4b0a1b2c3d4e5f6,abc123,"https://example.com/?a=1,2",true,"Say ""hi\""",2025-01-01T12:00,\r
+                """);
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.aaivan28.url.shortener.admin.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.cache.redis.codec.CacheValueFormat;
+import com.github.aaivan28.cache.redis.contract.CachedUrl;
+import com.github.aaivan28.cache.redis.contract.UrlCacheContract;
+import com.github.aaivan28.cache.redis.properties.CacheValueProperties;
+import com.github.aaivan28.url.shortener.admin.infrastructure.adapter.inbound.properties.CacheEvictionProperties;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisUrlCacheEvictor Tests")
+class RedisUrlCacheEvictorTest {
+
+    private static final CacheEvictionProperties NO_SECOND_EVICTION = new CacheEvictionProperties(1000, Duration.ZERO);
+
+    @Mock
+    private RedisCacheBatchOperations cacheBatchOperations;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("Should write the current state of refreshed keys and evict the ones that no longer exist")
+    void shouldWriteCurrentStateAndEvictMissingKeys() {
+        // Given
+        final RedisUrlCacheEvictor evictor = evictor(CacheValueFormat.COMPACT);
+        when(mongoTemplate.find(any(Query.class), any(), any(String.class))).thenReturn(List.of(
+                new Document("key", "abc123").append("url", "https://example.com").append("enabled", false).append("redirectStatus", 301)));
+
+        // When
+        evictor.refresh(List.of("abc123", "gone"));
+
+        // Then
+        verify(cacheBatchOperations).putAll(UrlCacheContract.CACHE_NAME,
+                Map.of("abc123", new CachedUrl("https://example.com", false, 301)));
+        verify(cacheBatchOperations).evictAll(UrlCacheContract.CACHE_NAME, List.of("gone"));
+    }
+
+    @Test
+    @DisplayName("Should evict instead of refreshing when values are not written in the shared layout")
+    void shouldEvictWhenValuesAreNotCompact() {
+        // Given
+        final RedisUrlCacheEvictor evictor = evictor(CacheValueFormat.JSON);
+
+        // When
+        evictor.refresh(List.of("abc123"));
+
+        // Then
+        verify(cacheBatchOperations).evictAll(UrlCacheContract.CACHE_NAME, List.of("abc123"));
+        verify(cacheBatchOperations, never()).putAll(any(), anyMap());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    private RedisUrlCacheEvictor evictor(final CacheValueFormat format) {
+        return new RedisUrlCacheEvictor(cacheBatchOperations, mongoTemplate, new CacheValueProperties(format), NO_SECOND_EVICTION);
+    }
+}
@@ -1,8 +0,0 @@
-package com.github.aaivan28.url.shortener.application.exception;
-
-public class UrlNotFoundException extends RuntimeException {
-
-    public UrlNotFoundException(String message) {
-        super(message);
-    }
-}
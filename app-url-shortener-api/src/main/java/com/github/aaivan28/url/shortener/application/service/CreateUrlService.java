@@ -0,0 +1,29 @@
+package com.github.aaivan28.url.shortener.application.service;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.CreateUrlUsesCases;
+import com.github.aaivan28.url.shortener.domain.port.outbound.KeyGenerator;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCreationRepository;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class CreateUrlService implements CreateUrlUsesCases {
+
+    // Generated keys are unique among themselves, a clash can only come from a key stored by other means
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final KeyGenerator keyGenerator;
+    private final UrlCreationRepository repository;
+
+    @Override
+    public ShortUrl createUrl(final String url, final String description, final RedirectType redirectType) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            final String urlKey = this.keyGenerator.nextKey();
+            if (this.repository.createUrl(urlKey, url, description, redirectType)) {
+                return new ShortUrl(urlKey, url, description);
+            }
+        }
+        throw new IllegalStateException("Unable to allocate a free key after " + MAX_ATTEMPTS + " attempts");
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.aaivan28.url.shortener.application.service;
+
+import com.github.aaivan28.url.shortener.domain.model.ImportResult;
+import com.github.aaivan28.url.shortener.domain.model.ImportRow;
+import com.github.aaivan28.url.shortener.domain.model.ImportSummary;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.ImportUrlUsesCases;
+import com.github.aaivan28.url.shortener.domain.port.outbound.KeyGenerator;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCacheWarmer;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlImportRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class ImportUrlService implements ImportUrlUsesCases {
+
+    private final KeyGenerator keyGenerator;
+    private final UrlImportRepository repository;
+    private final UrlCacheWarmer cacheWarmer;
+    private final int batchSize;
+
+    @Override
+    public ImportSummary importUrls(final Iterator<ImportRow> rows, final Consumer<ImportResult> results) {
+        final List<ImportRow> batch = new ArrayList<>(this.batchSize);
+        long created = 0;
+        long failed = 0;
+
+        while (rows.hasNext()) {
+            final ImportRow row = rows.next();
+            if (!row.isValid()) {
+                results.accept(ImportResult.failed(row.line(), row.error()));
+                failed++;
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == this.batchSize) {
+                final int batchCreated = this.write(batch, results);
+                created += batchCreated;
+                failed += batch.size() - batchCreated;
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            final int batchCreated = this.write(batch, results);
+            created += batchCreated;
+            failed += batch.size() - batchCreated;
+        }
+        return new ImportSummary(created, failed);
+    }
+
+    private int write(final List<ImportRow> batch, final Consumer<ImportResult> results) {
+        final List<String> keys = this.keyGenerator.nextKeys(batch.size());
+        final List<ShortUrl> shortUrls = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            shortUrls.add(new ShortUrl(keys.get(i), batch.get(i).url(), batch.get(i).description()));
+        }
+
+        final Map<Integer, String> failures = this.repository.createUrls(shortUrls);
+        final List<ShortUrl> stored = new ArrayList<>(shortUrls.size() - failures.size());
+        for (int i = 0; i < shortUrls.size(); i++) {
+            if (!failures.containsKey(i)) {
+                stored.add(shortUrls.get(i));
+            }
+        }
+        // Before reporting, so the keys are registered everywhere by the time the caller sees them
+        this.cacheWarmer.prewarm(stored);
+
+        for (int i = 0; i < shortUrls.size(); i++) {
+            final String error = failures.get(i);
+            results.accept(error == null
+                    ? ImportResult.created(batch.get(i).line(), shortUrls.get(i))
+                    : ImportResult.failed(batch.get(i).line(), error));
+        }
+        return stored.size();
+    }
+}
@@ -0,0 +1,18 @@
+package com.github.aaivan28.url.shortener.application.service;
+
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.ReactiveUrlUsesCases;
+import com.github.aaivan28.url.shortener.domain.port.outbound.ReactiveUrlRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactiveUrlService implements ReactiveUrlUsesCases {
+
+    private final ReactiveUrlRepository repository;
+
+    @Override
+    public Mono<UrlLookup> getUrl(final String urlKey) {
+        return this.repository.getUrl(urlKey);
+    }
+}
@@ -1,7 +1,8 @@
 package com.github.aaivan28.url.shortener.application.service;
 
-import com.github.aaivan28.url.shortener.application.exception.UrlNotFoundException;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
 import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.UrlUsesCases;
+import com.github.aaivan28.url.shortener.domain.port.outbound.ClickRepository;
 import com.github.aaivan28.url.shortener.domain.port.outbound.UrlRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -9,9 +10,17 @@ import lombok.RequiredArgsConstructor;
 public class UrlService implements UrlUsesCases {
 
     private final UrlRepository repository;
+    private final ClickRepository clickRepository;
 
+    /**
+     * Resolves a key for a redirect; every lookup of an existing URL counts as a click.
+     */
     @Override
-    public String getUrl(final String urlKey) {
-        return this.repository.getUrl(urlKey).orElseThrow(() -> new UrlNotFoundException("Key not found: " + urlKey));
+    public UrlLookup getUrl(final String urlKey) {
+        final UrlLookup lookup = this.repository.getUrl(urlKey);
+        if (lookup.isFound()) {
+            this.clickRepository.record(urlKey);
+        }
+        return lookup;
     }
 }
@@ -0,0 +1,16 @@
+package com.github.aaivan28.url.shortener.domain.model;
+
+public record ImportResult(
+        long line,
+        String urlKey,
+        String url,
+        String error) {
+
+    public static ImportResult created(final long line, final ShortUrl shortUrl) {
+        return new ImportResult(line, shortUrl.key(), shortUrl.url(), null);
+    }
+
+    public static ImportResult failed(final long line, final String error) {
+        return new ImportResult(line, null, null, error);
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.aaivan28.url.shortener.domain.model;
+
+/**
+ * One input row of a bulk import. Rows that could not be parsed carry the reason in {@code error} and are reported
+ * without being written.
+ */
+public record ImportRow(
+        long line,
+        String url,
+        String description,
+        String error) {
+
+    public static ImportRow valid(final long line, final String url, final String description) {
+        return new ImportRow(line, url, description, null);
+    }
+
+    public static ImportRow invalid(final long line, final String error) {
+        return new ImportRow(line, null, null, error);
+    }
+
+    public boolean isValid() {
+        return this.error == null;
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.aaivan28.url.shortener.domain.model;
+
+public record ImportSummary(
+        long created,
+        long failed) {
+}
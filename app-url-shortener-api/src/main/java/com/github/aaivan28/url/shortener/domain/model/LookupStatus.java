@@ -0,0 +1,7 @@
+package com.github.aaivan28.url.shortener.domain.model;
+
+public enum LookupStatus {
+    FOUND,
+    NOT_FOUND,
+    DISABLED
+}
@@ -0,0 +1,50 @@
+package com.github.aaivan28.url.shortener.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * HTTP redirect used for a short URL. Permanent redirects may be cached by browsers and CDNs, so later clicks do not
+ * reach the API; 307 and 308 also keep the request method.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RedirectType {
+    MOVED_PERMANENTLY(301, true),
+    FOUND(302, false),
+    TEMPORARY_REDIRECT(307, false),
+    PERMANENT_REDIRECT(308, true);
+
+    public static final RedirectType DEFAULT = FOUND;
+
+    private final int statusCode;
+    private final boolean permanent;
+
+    /**
+     * @return the redirect type of the status code, {@link #DEFAULT} for {@code null}
+     * @throws IllegalArgumentException if the status code is not a supported redirect
+     */
+    public static RedirectType ofStatusCode(final Integer statusCode) {
+        if (statusCode == null) {
+            return DEFAULT;
+        }
+        final RedirectType type = find(statusCode);
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported redirect status: " + statusCode);
+        }
+        return type;
+    }
+
+    public static boolean isSupported(final Integer statusCode) {
+        return statusCode == null || find(statusCode) != null;
+    }
+
+    private static RedirectType find(final int statusCode) {
+        for (final RedirectType type : values()) {
+            if (type.statusCode == statusCode) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
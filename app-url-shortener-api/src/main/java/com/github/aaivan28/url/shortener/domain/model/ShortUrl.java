@@ -0,0 +1,7 @@
+package com.github.aaivan28.url.shortener.domain.model;
+
+public record ShortUrl(
+        String key,
+        String url,
+        String description) {
+}
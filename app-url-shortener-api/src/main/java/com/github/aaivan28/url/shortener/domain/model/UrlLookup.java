@@ -0,0 +1,38 @@
+package com.github.aaivan28.url.shortener.domain.model;
+
+/**
+ * Outcome of resolving a short key. Misses are plain values so the redirect path never pays for building, throwing
+ * and resolving an exception.
+ */
+public record UrlLookup(
+        LookupStatus status,
+        String url,
+        RedirectType redirectType) {
+
+    private static final UrlLookup NOT_FOUND = new UrlLookup(LookupStatus.NOT_FOUND, null, RedirectType.DEFAULT);
+    private static final UrlLookup DISABLED = new UrlLookup(LookupStatus.DISABLED, null, RedirectType.DEFAULT);
+
+    public static UrlLookup found(final String url) {
+        return found(url, RedirectType.DEFAULT);
+    }
+
+    public static UrlLookup found(final String url, final RedirectType redirectType) {
+        return new UrlLookup(LookupStatus.FOUND, url, redirectType);
+    }
+
+    public static UrlLookup notFound() {
+        return NOT_FOUND;
+    }
+
+    public static UrlLookup disabled() {
+        return DISABLED;
+    }
+
+    public boolean isFound() {
+        return this.status == LookupStatus.FOUND;
+    }
+
+    public String urlOrElse(final String fallbackUrl) {
+        return this.isFound() ? this.url : fallbackUrl;
+    }
+}
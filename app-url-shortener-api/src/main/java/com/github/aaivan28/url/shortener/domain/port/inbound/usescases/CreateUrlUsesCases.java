@@ -0,0 +1,9 @@
+package com.github.aaivan28.url.shortener.domain.port.inbound.usescases;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+
+public interface CreateUrlUsesCases {
+
+    ShortUrl createUrl(final String url, final String description, final RedirectType redirectType);
+}
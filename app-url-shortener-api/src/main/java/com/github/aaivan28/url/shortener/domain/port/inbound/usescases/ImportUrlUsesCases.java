@@ -0,0 +1,16 @@
+package com.github.aaivan28.url.shortener.domain.port.inbound.usescases;
+
+import com.github.aaivan28.url.shortener.domain.model.ImportResult;
+import com.github.aaivan28.url.shortener.domain.model.ImportRow;
+import com.github.aaivan28.url.shortener.domain.model.ImportSummary;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+public interface ImportUrlUsesCases {
+
+    /**
+     * Creates a short URL for every valid row, reporting each row to {@code results} as soon as its batch is written.
+     */
+    ImportSummary importUrls(final Iterator<ImportRow> rows, final Consumer<ImportResult> results);
+}
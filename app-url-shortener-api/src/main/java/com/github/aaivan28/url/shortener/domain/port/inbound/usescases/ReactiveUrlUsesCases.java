@@ -0,0 +1,8 @@
+package com.github.aaivan28.url.shortener.domain.port.inbound.usescases;
+
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUrlUsesCases {
+    Mono<UrlLookup> getUrl(final String urlKey);
+}
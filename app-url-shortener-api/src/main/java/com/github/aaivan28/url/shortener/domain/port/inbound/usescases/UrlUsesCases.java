@@ -1,5 +1,7 @@
 package com.github.aaivan28.url.shortener.domain.port.inbound.usescases;
 
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+
 public interface UrlUsesCases {
-    String getUrl(final String urlKey);
+    UrlLookup getUrl(final String urlKey);
 }
@@ -0,0 +1,6 @@
+package com.github.aaivan28.url.shortener.domain.port.outbound;
+
+public interface ClickRepository {
+
+    void record(final String urlKey);
+}
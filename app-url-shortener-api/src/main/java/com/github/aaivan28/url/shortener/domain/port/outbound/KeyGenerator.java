@@ -0,0 +1,10 @@
+package com.github.aaivan28.url.shortener.domain.port.outbound;
+
+import java.util.List;
+
+public interface KeyGenerator {
+
+    String nextKey();
+
+    List<String> nextKeys(final int count);
+}
@@ -0,0 +1,8 @@
+package com.github.aaivan28.url.shortener.domain.port.outbound;
+
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUrlRepository {
+    Mono<UrlLookup> getUrl(final String urlKey);
+}
@@ -0,0 +1,10 @@
+package com.github.aaivan28.url.shortener.domain.port.outbound;
+
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+
+import java.util.List;
+
+public interface UrlCacheWarmer {
+
+    void prewarm(final List<ShortUrl> shortUrls);
+}
@@ -0,0 +1,11 @@
+package com.github.aaivan28.url.shortener.domain.port.outbound;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+
+public interface UrlCreationRepository {
+
+    /**
+     * Stores a new short URL, returning {@code false} if the key is already taken.
+     */
+    boolean createUrl(final String urlKey, final String url, final String description, final RedirectType redirectType);
+}
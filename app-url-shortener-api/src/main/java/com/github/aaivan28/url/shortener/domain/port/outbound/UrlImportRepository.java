@@ -0,0 +1,14 @@
+package com.github.aaivan28.url.shortener.domain.port.outbound;
+
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UrlImportRepository {
+
+    /**
+     * Stores all the short URLs, returning the reason for every one that could not be stored by its position in the list.
+     */
+    Map<Integer, String> createUrls(final List<ShortUrl> shortUrls);
+}
@@ -1,7 +1,7 @@
 package com.github.aaivan28.url.shortener.domain.port.outbound;
 
-import java.util.Optional;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
 
 public interface UrlRepository {
-    Optional<String> getUrl(final String urlKey);
+    UrlLookup getUrl(final String urlKey);
 }
@@ -0,0 +1,7 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics;
+
+/**
+ * A tracked key. {@code count} may overestimate the real number of requests by at most {@code error}.
+ */
+public record HeavyHitter(String key, long count, long error) {
+}
@@ -0,0 +1,78 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics;
+
+import com.github.aaivan28.cache.redis.near.CacheTier;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectMetricsProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index.UrlIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redirect latency tagged by outcome only, so the number of time series is fixed. Per-key popularity goes to a bounded
+ * top-K tracker instead of meter tags.
+ */
+@Component
+public class RedirectMetrics {
+
+    static final String TIMER_NAME = "url.shortener.api.controller.redirect";
+    public static final String OUTCOME_HEADER = "X-Redirect-Outcome";
+
+    private final Map<RedirectOutcome, Timer> timers = new EnumMap<>(RedirectOutcome.class);
+    private final SpaceSaving topKeys;
+    private final boolean outcomeHeader;
+
+    public RedirectMetrics(final MeterRegistry meterRegistry, final RedirectMetricsProperties properties) {
+        for (final RedirectOutcome outcome : RedirectOutcome.values()) {
+            this.timers.put(outcome, Timer.builder(TIMER_NAME)
+                    .description("Redirect to the original URL")
+                    .tag("outcome", outcome.getTag())
+                    .register(meterRegistry));
+        }
+        this.topKeys = properties.topKeysEnabled() ? new SpaceSaving(properties.topKeysCapacity()) : null;
+        this.outcomeHeader = properties.outcomeHeader();
+    }
+
+    /**
+     * Outcome of the lookup that just ran on this thread, must be called once per lookup.
+     */
+    public RedirectOutcome outcome(final UrlLookup lookup) {
+        return RedirectOutcome.of(lookup, CacheTier.pop(), UrlIndex.popHit());
+    }
+
+    /**
+     * Clears what a lookup that threw before {@link #outcome} left on this thread, so the next request does not read it.
+     */
+    public void clear() {
+        CacheTier.pop();
+        UrlIndex.popHit();
+    }
+
+    public void record(final String urlKey, final RedirectOutcome outcome, final long durationNanos) {
+        this.timers.get(outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+        if (this.topKeys != null && outcome.isFound()) {
+            this.topKeys.offer(urlKey);
+        }
+    }
+
+    public boolean isOutcomeHeaderEnabled() {
+        return this.outcomeHeader;
+    }
+
+    public boolean isTopKeysEnabled() {
+        return this.topKeys != null;
+    }
+
+    public List<HeavyHitter> topKeys(final int limit) {
+        return this.topKeys == null ? List.of() : this.topKeys.top(limit);
+    }
+
+    public long skippedTopKeyUpdates() {
+        return this.topKeys == null ? 0 : this.topKeys.skipped();
+    }
+}
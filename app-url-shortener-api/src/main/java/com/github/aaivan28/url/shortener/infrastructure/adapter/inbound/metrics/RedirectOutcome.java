@@ -0,0 +1,32 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics;
+
+import com.github.aaivan28.cache.redis.near.CacheTier;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RedirectOutcome {
+    INDEX_HIT("index_hit"),
+    L1_HIT("l1_hit"),
+    REDIS_HIT("redis_hit"),
+    MONGO_HIT("mongo_hit"),
+    NOT_FOUND("not_found"),
+    DISABLED("disabled"),
+    ERROR("error");
+
+    private final String tag;
+
+    public static RedirectOutcome of(final UrlLookup lookup, final CacheTier tier, final boolean indexHit) {
+        return switch (lookup.status()) {
+            case NOT_FOUND -> NOT_FOUND;
+            case DISABLED -> DISABLED;
+            case FOUND -> indexHit ? INDEX_HIT : tier == CacheTier.LOCAL ? L1_HIT : tier == CacheTier.REMOTE ? REDIS_HIT : MONGO_HIT;
+        };
+    }
+
+    public boolean isFound() {
+        return this != NOT_FOUND && this != DISABLED && this != ERROR;
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Space-Saving top-K tracker: keeps at most {@code capacity} counters in a min-heap and, when full, hands the smallest
+ * counter over to the new key. Memory is bounded regardless of how many distinct keys are seen.
+ */
+final class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final Counter[] heap;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder skipped = new LongAdder();
+    private int size;
+
+    SpaceSaving(final int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    void offer(final String key) {
+        // Under contention the update is dropped rather than making the request wait, the result is a sample
+        if (!this.lock.tryLock()) {
+            this.skipped.increment();
+            return;
+        }
+        try {
+            final Counter counter = this.counters.get(key);
+            if (counter != null) {
+                counter.count++;
+                this.siftDown(counter.index);
+            } else if (this.size < this.capacity) {
+                final Counter added = new Counter(key, this.size);
+                this.heap[this.size++] = added;
+                this.counters.put(key, added);
+                this.siftUp(added.index);
+            } else {
+                final Counter smallest = this.heap[0];
+                this.counters.remove(smallest.key);
+                smallest.key = key;
+                smallest.error = smallest.count;
+                smallest.count++;
+                this.counters.put(key, smallest);
+                this.siftDown(0);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    List<HeavyHitter> top(final int limit) {
+        final List<HeavyHitter> hitters = new ArrayList<>(this.size);
+        this.lock.lock();
+        try {
+            for (int i = 0; i < this.size; i++) {
+                hitters.add(new HeavyHitter(this.heap[i].key, this.heap[i].count, this.heap[i].error));
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        hitters.sort(Comparator.comparingLong(HeavyHitter::count).reversed());
+        return hitters.subList(0, Math.min(limit, hitters.size()));
+    }
+
+    long skipped() {
+        return this.skipped.sum();
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (this.heap[parent].count <= this.heap[index].count) {
+                return;
+            }
+            this.swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= this.size) {
+                return;
+            }
+            final int right = left + 1;
+            final int smallest = right < this.size && this.heap[right].count < this.heap[left].count ? right : left;
+            if (this.heap[index].count <= this.heap[smallest].count) {
+                return;
+            }
+            this.swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(final int first, final int second) {
+        final Counter counter = this.heap[first];
+        this.heap[first] = this.heap[second];
+        this.heap[second] = counter;
+        this.heap[first].index = first;
+        this.heap[second].index = second;
+    }
+
+    private static final class Counter {
+
+        private String key;
+        private long count = 1;
+        private long error;
+        private int index;
+
+        private Counter(final String key, final int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "topkeys")
+@RequiredArgsConstructor
+public class TopKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final RedirectMetrics redirectMetrics;
+
+    @ReadOperation
+    public TopKeys topKeys(final @Nullable Integer limit) {
+        return new TopKeys(this.redirectMetrics.isTopKeysEnabled(),
+                this.redirectMetrics.skippedTopKeyUpdates(),
+                this.redirectMetrics.topKeys(limit == null ? DEFAULT_LIMIT : limit));
+    }
+
+    public record TopKeys(boolean enabled, long skippedUpdates, List<HeavyHitter> keys) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.bulk-import")
+public record BulkImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("true") boolean prewarmCache) {
+}
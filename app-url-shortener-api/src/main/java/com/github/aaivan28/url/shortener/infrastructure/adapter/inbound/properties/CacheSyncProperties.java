@@ -0,0 +1,17 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.cache-sync")
+public record CacheSyncProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("30s") Duration leaseTime,
+        @DefaultValue("5s") Duration restartDelay,
+        @DefaultValue("false") boolean beforeChangeImages,
+        @DefaultValue("5s") Duration reapplyDelay) {
+}
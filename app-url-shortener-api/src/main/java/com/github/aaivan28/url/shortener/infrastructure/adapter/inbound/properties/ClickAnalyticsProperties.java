@@ -0,0 +1,14 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.clicks")
+public record ClickAnalyticsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("65536") int bufferCapacity,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("10000") int flushBatchSize) {
+}
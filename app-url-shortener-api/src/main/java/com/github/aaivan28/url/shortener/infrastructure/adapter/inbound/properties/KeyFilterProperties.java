@@ -0,0 +1,15 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.key-filter")
+public record KeyFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000000") long expectedKeys,
+        @DefaultValue("0.01") double falsePositiveProbability,
+        @DefaultValue("100000") long negativeMaximumSize,
+        @DefaultValue("30s") Duration negativeTimeToLive) {
+}
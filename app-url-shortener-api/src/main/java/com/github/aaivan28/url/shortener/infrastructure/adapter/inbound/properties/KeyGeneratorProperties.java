@@ -0,0 +1,12 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.key-generator")
+public record KeyGeneratorProperties(
+        @DefaultValue("url") String sequenceName,
+        @DefaultValue("1000") int segmentSize,
+        // 62^5, the first six character key
+        @DefaultValue("916132832") long offset) {
+}
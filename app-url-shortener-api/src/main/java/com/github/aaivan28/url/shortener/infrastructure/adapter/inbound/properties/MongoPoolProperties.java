@@ -0,0 +1,13 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.mongo-pool")
+public record MongoPoolProperties(
+        @DefaultValue("0") int minSize,
+        @DefaultValue("100") int maxSize,
+        @DefaultValue("2m") Duration maxWaitTime) {
+}
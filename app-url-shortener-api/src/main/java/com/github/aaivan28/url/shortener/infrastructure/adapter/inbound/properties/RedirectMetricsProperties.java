@@ -0,0 +1,12 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.metrics")
+public record RedirectMetricsProperties(
+        @DefaultValue("true") boolean topKeysEnabled,
+        @DefaultValue("1000") int topKeysCapacity,
+        // Tells load tests which tier answered each redirect, off in production
+        @DefaultValue("false") boolean outcomeHeader) {
+}
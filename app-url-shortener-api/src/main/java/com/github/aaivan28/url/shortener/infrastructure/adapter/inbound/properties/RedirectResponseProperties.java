@@ -0,0 +1,14 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.redirect-response")
+public record RedirectResponseProperties(
+        @DefaultValue("true") boolean preparedEnabled,
+        @DefaultValue("10000") long preparedMaximumSize,
+        @DefaultValue("1d") Duration permanentMaxAge,
+        @DefaultValue("0s") Duration temporaryMaxAge) {
+}
@@ -0,0 +1,13 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.url-index")
+public record UrlIndexProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("url-index") Path directory,
+        @DefaultValue("100000") int maxStaleKeys) {
+}
@@ -0,0 +1,32 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "github.aaivan28.url-shortener.warm-up")
+public record WarmUpProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"hot-keys", "recent"}) List<Source> sources,
+        @DefaultValue("10000") int maxKeys,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("5000") int keysPerSecond,
+        @DefaultValue("60s") Duration maxDuration,
+        Path file,
+        @DefaultValue("url-shortener-hot-keys") String snapshotKey,
+        @DefaultValue("1000") int snapshotSize,
+        @DefaultValue("5m") Duration snapshotInterval,
+        @DefaultValue("1d") Duration snapshotTimeToLive) {
+
+    public enum Source {
+        /** Most requested keys, as last snapshotted to Redis by any node. */
+        HOT_KEYS,
+        /** Most recently created keys. */
+        RECENT,
+        /** One key per line in {@code file}. */
+        FILE
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+
+/**
+ * Status and headers of a redirect, built once and written as they are. Unlike {@code sendRedirect} it does not reset
+ * the buffer or resolve the location against the request, stored URLs are already absolute.
+ *
+ * @param cacheControl {@code null} to let clients apply their defaults, which do not cache 302 and 307
+ * @param etag         {@code null} for redirects that must not be revalidated, such as the fallback
+ */
+record PreparedRedirect(
+        int status,
+        String location,
+        String cacheControl,
+        String etag) {
+
+    static PreparedRedirect of(final RedirectType redirectType, final String location, final Duration maxAge) {
+        final String cacheControl = maxAge.isZero() ? null : "public, max-age=" + maxAge.toSeconds();
+        return new PreparedRedirect(redirectType.getStatusCode(), location, cacheControl, etag(redirectType, location));
+    }
+
+    static PreparedRedirect fallback(final String location) {
+        return new PreparedRedirect(RedirectType.DEFAULT.getStatusCode(), location, null, null);
+    }
+
+    boolean matches(final UrlLookup lookup) {
+        return this.status == lookup.redirectType().getStatusCode() && this.location.equals(lookup.url());
+    }
+
+    /**
+     * Writes the redirect, or {@code 304} if {@code ifNoneMatch} already names it.
+     */
+    void writeTo(final HttpServletResponse response, final String ifNoneMatch) {
+        if (this.cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, this.cacheControl);
+        }
+        if (this.etag != null) {
+            response.setHeader(HttpHeaders.ETAG, this.etag);
+            if (ifNoneMatch != null && this.isNamedBy(ifNoneMatch)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+        }
+        response.setStatus(this.status);
+        response.setHeader(HttpHeaders.LOCATION, this.location);
+    }
+
+    // If-None-Match is "*" or a comma-separated list of tags compared weakly, so W/ is ignored. Our tags hold no commas.
+    private boolean isNamedBy(final String ifNoneMatch) {
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.strip();
+            if ("*".equals(tag) || this.etag.equals(tag.startsWith("W/") ? tag.substring(2) : tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // FNV-1a over the status and the location, a changed target gets a different tag
+    private static String etag(final RedirectType redirectType, final String location) {
+        long hash = 0xcbf29ce484222325L ^ redirectType.getStatusCode();
+        for (int i = 0; i < location.length(); i++) {
+            hash = (hash ^ location.charAt(i)) * 0x100000001b3L;
+        }
+        return '"' + Long.toHexString(hash) + '"';
+    }
+}
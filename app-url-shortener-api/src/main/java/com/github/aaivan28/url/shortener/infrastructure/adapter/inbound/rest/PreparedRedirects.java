@@ -0,0 +1,52 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.inbound.properties.RedirectBaseUrlProperty;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectResponseProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redirect responses of the hottest keys, ready to write. Caffeine's frequency-based admission keeps the keys that are
+ * requested most. An entry is reused only while it matches the current lookup, so an updated or re-typed URL never
+ * needs an invalidation here.
+ */
+@Component
+public class PreparedRedirects {
+
+    private final RedirectResponseProperties properties;
+    private final RedirectBaseUrlProperty redirectBaseUrlProperty;
+    private final Cache<String, PreparedRedirect> prepared;
+
+    public PreparedRedirects(final RedirectResponseProperties properties, final RedirectBaseUrlProperty redirectBaseUrlProperty) {
+        this.properties = properties;
+        this.redirectBaseUrlProperty = redirectBaseUrlProperty;
+        this.prepared = properties.preparedEnabled()
+                ? Caffeine.newBuilder().maximumSize(properties.preparedMaximumSize()).build()
+                : null;
+    }
+
+    PreparedRedirect get(final String urlKey, final UrlLookup lookup) {
+        if (!lookup.isFound()) {
+            return PreparedRedirect.fallback(this.redirectBaseUrlProperty.redirectBaseUrl());
+        }
+        if (this.prepared == null) {
+            return this.prepare(lookup);
+        }
+
+        final PreparedRedirect cached = this.prepared.getIfPresent(urlKey);
+        if (cached != null && cached.matches(lookup)) {
+            return cached;
+        }
+        final PreparedRedirect redirect = this.prepare(lookup);
+        this.prepared.put(urlKey, redirect);
+        return redirect;
+    }
+
+    private PreparedRedirect prepare(final UrlLookup lookup) {
+        return PreparedRedirect.of(lookup.redirectType(), lookup.url(), lookup.redirectType().isPermanent()
+                ? this.properties.permanentMaxAge()
+                : this.properties.temporaryMaxAge());
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.CreateUrlUsesCases;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.model.CreateUrlRequest;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.model.CreateUrlResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+public class UrlCreationController {
+
+    private final CreateUrlUsesCases createUrlUsesCases;
+
+    @PostMapping("/")
+    public ResponseEntity<CreateUrlResponse> create(final @Valid @RequestBody CreateUrlRequest request) {
+        final ShortUrl shortUrl = this.createUrlUsesCases.createUrl(request.url(), request.description(),
+                RedirectType.ofStatusCode(request.redirectStatus()));
+        return ResponseEntity.created(URI.create("/" + shortUrl.key()))
+                .body(new CreateUrlResponse(shortUrl.key(), shortUrl.url()));
+    }
+}
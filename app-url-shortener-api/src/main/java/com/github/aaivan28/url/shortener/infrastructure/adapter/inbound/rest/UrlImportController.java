@@ -0,0 +1,72 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.aaivan28.url.shortener.domain.model.ImportSummary;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.ImportUrlUsesCases;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.importer.CsvImportRowReader;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.importer.ImportRowReader;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.importer.NdjsonImportRowReader;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams the body in and the per-row results out as NDJSON, one line per input row followed by a summary line, so
+ * imports of any size run in constant memory.
+ */
+@Slf4j
+@RestController
+public class UrlImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final ImportUrlUsesCases importUrlUsesCases;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+
+    public UrlImportController(final ImportUrlUsesCases importUrlUsesCases, final ObjectMapper objectMapper) {
+        this.importUrlUsesCases = importUrlUsesCases;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.copy().setSerializationInclusion(JsonInclude.Include.NON_NULL).writer();
+    }
+
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV})
+    public void importUrls(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8))) {
+            final ImportRowReader rows = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                    ? new CsvImportRowReader(reader)
+                    : new NdjsonImportRowReader(reader, this.objectMapper);
+
+            final ImportSummary summary = this.importUrlUsesCases.importUrls(rows, result -> this.writeLine(writer, result));
+            this.writeLine(writer, summary);
+            log.info("Bulk import finished: {} created, {} failed", summary.created(), summary.failed());
+        }
+    }
+
+    private void writeLine(final Writer writer, final Object value) {
+        try {
+            writer.write(this.resultWriter.writeValueAsString(value));
+            writer.write('\n');
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
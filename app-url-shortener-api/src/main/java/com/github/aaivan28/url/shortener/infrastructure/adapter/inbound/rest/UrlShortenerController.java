@@ -1,25 +1,49 @@
 package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest;
 
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
 import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.UrlUsesCases;
-import io.micrometer.core.annotation.Timed;
-import io.micrometer.core.aop.MeterTag;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.RedirectMetrics;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.RedirectOutcome;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
-
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 public class UrlShortenerController {
 
     private final UrlUsesCases urlUsesCases;
+    private final PreparedRedirects preparedRedirects;
+    private final RedirectMetrics redirectMetrics;
 
     @GetMapping("/{urlKey}")
-    @Timed(value = "url.shortener.api.controller.redirect", description = "Redirect to the original URL")
-    public void redirect(final HttpServletResponse response, final @MeterTag(key = "key") @PathVariable("urlKey") String urlKey) throws IOException {
-        response.sendRedirect(this.urlUsesCases.getUrl(urlKey));
+    public void redirect(final HttpServletResponse response,
+                         final @PathVariable("urlKey") String urlKey,
+                         final @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final long start = System.nanoTime();
+        RedirectOutcome outcome = RedirectOutcome.ERROR;
+        try {
+            final UrlLookup lookup = this.urlUsesCases.getUrl(urlKey);
+            if (!lookup.isFound()) {
+                log.debug("Key {}: {}", lookup.status(), urlKey);
+            }
+            final RedirectOutcome lookupOutcome = this.redirectMetrics.outcome(lookup);
+            if (this.redirectMetrics.isOutcomeHeaderEnabled()) {
+                response.setHeader(RedirectMetrics.OUTCOME_HEADER, lookupOutcome.getTag());
+            }
+            this.preparedRedirects.get(urlKey, lookup).writeTo(response, ifNoneMatch);
+            outcome = lookupOutcome;
+        } finally {
+            if (outcome == RedirectOutcome.ERROR) {
+                this.redirectMetrics.clear();
+            }
+            this.redirectMetrics.record(urlKey, outcome, System.nanoTime() - start);
+        }
     }
 }
@@ -0,0 +1,74 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.importer;
+
+import com.github.aaivan28.url.shortener.domain.model.ImportRow;
+
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code url[,description]} per line, with an optional {@code url,description} header. Fields may be quoted with
+ * {@code "}, doubling it inside; quoted fields cannot span lines.
+ */
+public class CsvImportRowReader extends ImportRowReader {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    // The header can only be the first line with content, blank lines before it are skipped
+    private boolean firstRow = true;
+
+    public CsvImportRowReader(final BufferedReader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected ImportRow parse(final long line, final String text) {
+        final boolean firstRow = this.firstRow;
+        this.firstRow = false;
+        final List<String> fields = split(text);
+        if (fields == null) {
+            return ImportRow.invalid(line, "unterminated quoted field");
+        }
+        if (firstRow && "url".equalsIgnoreCase(fields.getFirst().strip())) {
+            return null;
+        }
+        if (fields.size() > 2) {
+            return ImportRow.invalid(line, "expected at most 2 fields, found " + fields.size());
+        }
+        final String description = fields.size() == 2 && !fields.get(1).isEmpty() ? fields.get(1) : null;
+        return this.row(line, fields.getFirst().strip(), description);
+    }
+
+    private static List<String> split(final String text) {
+        final List<String> fields = new ArrayList<>(2);
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char current = text.charAt(i);
+            if (quoted) {
+                if (current != QUOTE) {
+                    field.append(current);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (current == QUOTE) {
+                quoted = true;
+            } else if (current == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(current);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
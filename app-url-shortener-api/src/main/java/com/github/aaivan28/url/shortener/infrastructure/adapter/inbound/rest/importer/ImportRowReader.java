@@ -0,0 +1,92 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.importer;
+
+import com.github.aaivan28.url.shortener.domain.model.ImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads import rows one line at a time, so the body is never held in memory. Blank lines are skipped; lines that cannot
+ * be parsed or validated become invalid rows instead of failing the import.
+ */
+public abstract class ImportRowReader implements Iterator<ImportRow> {
+
+    private static final int MAX_URL_LENGTH = 2048;
+    private static final int MAX_DESCRIPTION_LENGTH = 512;
+
+    private final BufferedReader reader;
+    private long line;
+    private ImportRow next;
+
+    protected ImportRowReader(final BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.next == null) {
+            final String text = this.readLine();
+            if (text == null) {
+                return false;
+            }
+            this.line++;
+            if (!text.isBlank()) {
+                this.next = this.parse(this.line, text);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ImportRow next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final ImportRow row = this.next;
+        this.next = null;
+        return row;
+    }
+
+    /**
+     * Returns the row for the line, or {@code null} to skip it.
+     */
+    protected abstract ImportRow parse(final long line, final String text);
+
+    protected ImportRow row(final long line, final String url, final String description) {
+        if (url == null || url.isBlank()) {
+            return ImportRow.invalid(line, "url is required");
+        }
+        if (url.length() > MAX_URL_LENGTH) {
+            return ImportRow.invalid(line, "url is longer than " + MAX_URL_LENGTH + " characters");
+        }
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            return ImportRow.invalid(line, "description is longer than " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        if (!isHttpUrl(url)) {
+            return ImportRow.invalid(line, "url is not a valid http(s) URL");
+        }
+        return ImportRow.valid(line, url, description);
+    }
+
+    private static boolean isHttpUrl(final String url) {
+        try {
+            final URI uri = new URI(url);
+            return ("http".equalsIgnoreCase(uri.getScheme()) || "https".equalsIgnoreCase(uri.getScheme())) && uri.getHost() != null;
+        } catch (final URISyntaxException exception) {
+            return false;
+        }
+    }
+
+    private String readLine() {
+        try {
+            return this.reader.readLine();
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.aaivan28.url.shortener.domain.model.ImportRow;
+
+import java.io.BufferedReader;
+
+/**
+ * One JSON object per line: {@code {"url": "...", "description": "..."}}.
+ */
+public class NdjsonImportRowReader extends ImportRowReader {
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonImportRowReader(final BufferedReader reader, final ObjectMapper objectMapper) {
+        super(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected ImportRow parse(final long line, final String text) {
+        final JsonNode node;
+        try {
+            node = this.objectMapper.readTree(text);
+        } catch (final JsonProcessingException exception) {
+            return ImportRow.invalid(line, "malformed JSON: " + exception.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRow.invalid(line, "expected a JSON object");
+        }
+        return this.row(line, node.path("url").textValue(), node.path("description").textValue());
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.warmup;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup.CacheWarmUp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the warm-up on startup. Spring Boot only switches the readiness state to {@code ACCEPTING_TRAFFIC} once every
+ * runner has returned, so the readiness probe stays down until the hot set is cached or {@code max-duration} elapses.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUpRunner implements ApplicationRunner {
+
+    private final CacheWarmUp cacheWarmUp;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        this.cacheWarmUp.run();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.warmup;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup.CacheWarmUp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmUpEndpoint {
+
+    private final CacheWarmUp cacheWarmUp;
+
+    @ReadOperation
+    public CacheWarmUp.Progress progress() {
+        return this.cacheWarmUp.progress();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.model;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.hibernate.validator.constraints.URL;
+
+public record CreateUrlRequest(
+        // Only http(s) targets, as the bulk import accepts
+        @NotBlank @URL(regexp = "(?i)https?:.*", message = "must be a valid http(s) URL") @Size(max = 2048) String url,
+        @Size(max = 512) String description,
+        Integer redirectStatus) {
+
+    @AssertTrue(message = "redirectStatus must be 301, 302, 307 or 308")
+    public boolean isRedirectStatusSupported() {
+        return RedirectType.isSupported(this.redirectStatus);
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.model;
+
+public record CreateUrlResponse(
+        String urlKey,
+        String url) {
+}
@@ -1,27 +1,66 @@
 package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
 
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCreationRepository;
 import com.github.aaivan28.url.shortener.domain.port.outbound.UrlRepository;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.filter.KeyFilter;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index.UrlIndex;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
-public class MongoRepositoryAdapter implements UrlRepository {
+public class MongoRepositoryAdapter implements UrlRepository, UrlCreationRepository {
 
-    private final ConversionService conversionService;
+    private final UrlRedirectReader redirectReader;
     private final UrlMongoRepository repository;
+    private final KeyFilter keyFilter;
+    private final UrlIndex urlIndex;
 
     @Override
-    public Optional<String> getUrl(final String urlKey) {
-        return this.repository.findByKey(urlKey)
-                .filter(UrlDocument::isEnabled)
-                .map(this::extractUrl);
+    public UrlLookup getUrl(final String urlKey) {
+        final UrlLookup indexed = this.urlIndex.lookup(urlKey);
+        if (indexed != null) {
+            return indexed;
+        }
+        if (!this.keyFilter.mightExist(urlKey)) {
+            return UrlLookup.notFound();
+        }
+
+        final UrlDocument urlDocument = this.redirectReader.read(urlKey);
+        if (urlDocument == null) {
+            this.keyFilter.registerMissing(urlKey);
+            return UrlLookup.notFound();
+        }
+        if (!urlDocument.isEnabled()) {
+            this.keyFilter.registerMissing(urlKey);
+            return UrlLookup.disabled();
+        }
+        return UrlLookup.found(urlDocument.getUrl(), RedirectType.ofStatusCode(urlDocument.getRedirectStatus()));
     }
 
-    private String extractUrl(final UrlDocument urlDocument) {
-        return this.conversionService.convert(urlDocument, String.class);
+    @Override
+    public boolean createUrl(final String urlKey, final String url, final String description, final RedirectType redirectType) {
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            this.repository.save(UrlDocument.builder()
+                    .key(urlKey)
+                    .url(url)
+                    .description(description)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .enabled(true)
+                    .redirectStatus(redirectType.getStatusCode())
+                    .build());
+        } catch (final DuplicateKeyException exception) {
+            return false;
+        }
+        // Only once saved: the eviction is broadcast, which registers the new key in the key filter of every node
+        this.redirectReader.evict(urlKey);
+        return true;
     }
 }
@@ -0,0 +1,61 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlImportRepository;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoUrlImportAdapter implements UrlImportRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    // Unordered, so a rejected document does not stop the rest of the batch
+    @Override
+    public Map<Integer, String> createUrls(final List<ShortUrl> shortUrls) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<UrlDocument> urlDocuments = shortUrls.stream()
+                .map(shortUrl -> UrlDocument.builder()
+                        .key(shortUrl.key())
+                        .url(shortUrl.url())
+                        .description(shortUrl.description())
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .enabled(true)
+                        .build())
+                .toList();
+
+        try {
+            this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UrlDocument.class)
+                    .insert(urlDocuments)
+                    .execute();
+            return Map.of();
+        } catch (final BulkOperationException exception) {
+            final Map<Integer, String> failures = new HashMap<>();
+            for (final BulkWriteError error : exception.getErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+            return failures;
+        } catch (final DataAccessException exception) {
+            log.warn("Bulk insert of {} URLs failed", shortUrls.size(), exception);
+            final Map<Integer, String> failures = new HashMap<>();
+            for (int i = 0; i < shortUrls.size(); i++) {
+                failures.put(i, exception.getMessage());
+            }
+            return failures;
+        }
+    }
+}
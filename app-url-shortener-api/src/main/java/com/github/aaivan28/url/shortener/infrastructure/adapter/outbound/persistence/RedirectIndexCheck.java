@@ -0,0 +1,50 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.MongoIndexProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UrlMongoRepository#findByKey} and the cache warm-up hint {@link UrlDocument#REDIRECT_INDEX}, and MongoDB fails
+ * a query whose hint names a missing index instead of planning it without. The index is only created by
+ * {@code spring.data.mongodb.auto-index-creation}, so with it off the startup stops here until it is created by hand.
+ * <p>
+ * With {@code mongo-index.drop-replaced} it also drops the index the redirect lookup used before, which nodes still
+ * running that version hint: it is only enabled once every node runs this one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedirectIndexCheck implements InitializingBean {
+
+    // Did not cover redirectStatus, replaced by UrlDocument.REDIRECT_INDEX
+    static final String REPLACED_REDIRECT_INDEX = "key_url_enabled";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoIndexProperties properties;
+
+    @Override
+    public void afterPropertiesSet() {
+        final IndexOperations indexOperations = this.mongoTemplate.indexOps(UrlDocument.class);
+        final Set<String> indexes = indexOperations.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+        if (!indexes.contains(UrlDocument.REDIRECT_INDEX)) {
+            throw new IllegalStateException("Index " + UrlDocument.REDIRECT_INDEX + " of " + UrlDocument.COLLECTION_NAME
+                    + " is missing, enable spring.data.mongodb.auto-index-creation or create it");
+        }
+        if (this.properties.dropReplaced() && indexes.contains(REPLACED_REDIRECT_INDEX)) {
+            indexOperations.dropIndex(REPLACED_REDIRECT_INDEX);
+            log.info("Dropped index {} of {}, replaced by {}", REPLACED_REDIRECT_INDEX, UrlDocument.COLLECTION_NAME,
+                    UrlDocument.REDIRECT_INDEX);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCacheWarmer;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.BulkImportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the imported URLs to the {@code url} cache in one pipeline per batch. Without prewarming the keys are still
+ * evicted, as the broadcast is what registers them in the key filter of the other nodes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisUrlCacheWarmer implements UrlCacheWarmer {
+
+    private final RedisCacheBatchOperations cacheBatchOperations;
+    private final BulkImportProperties properties;
+
+    @Override
+    public void prewarm(final List<ShortUrl> shortUrls) {
+        try {
+            if (this.properties.prewarmCache()) {
+                final Map<String, UrlDocument> entries = new LinkedHashMap<>();
+                shortUrls.forEach(shortUrl -> entries.put(shortUrl.key(), UrlDocument.builder()
+                        .url(shortUrl.url())
+                        .enabled(true)
+                        .build()));
+                this.cacheBatchOperations.putAll(UrlMongoRepository.CACHE_NAME, entries);
+            } else {
+                this.cacheBatchOperations.evictAll(UrlMongoRepository.CACHE_NAME, shortUrls.stream().map(ShortUrl::key).toList());
+            }
+        } catch (final DataAccessException exception) {
+            // The URLs are stored, they are loaded into the cache on their first redirect
+            log.warn("Unable to prewarm {} imported URLs", shortUrls.size(), exception);
+        }
+    }
+}
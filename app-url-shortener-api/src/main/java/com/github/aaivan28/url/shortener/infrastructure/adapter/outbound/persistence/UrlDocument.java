@@ -1,9 +1,11 @@
 package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
 
+import com.github.aaivan28.cache.redis.contract.UrlCacheContract;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -13,8 +15,11 @@ import java.time.LocalDateTime;
 @Builder
 @Jacksonized
 @Document(UrlDocument.COLLECTION_NAME)
+// Covers the redirect lookup, which only reads url, enabled and redirectStatus
+@CompoundIndex(name = UrlDocument.REDIRECT_INDEX, def = "{ 'key': 1, 'url': 1, 'enabled': 1, 'redirectStatus': 1 }")
 public class UrlDocument {
-    public static final String COLLECTION_NAME = "shortened_url";
+    public static final String COLLECTION_NAME = UrlCacheContract.COLLECTION_NAME;
+    public static final String REDIRECT_INDEX = "key_url_enabled_status";
 
     @Id
     String id;
@@ -25,4 +30,6 @@ public class UrlDocument {
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
     boolean enabled;
+    // Missing in URLs created before it existed, which redirect with RedirectType.DEFAULT
+    Integer redirectStatus;
 }
@@ -0,0 +1,46 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueCodec;
+import com.github.aaivan28.cache.redis.contract.CachedUrl;
+import com.github.aaivan28.cache.redis.contract.CachedUrlCodec;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Stores only what the redirect needs: the enabled flag, the target URL and the redirect status, in the shared
+ * {@link CachedUrlCodec} layout so the admin API can write entries this service reads. Documents read back from the
+ * cache carry no id, key, description or timestamps.
+ */
+@Component
+public class UrlDocumentCacheCodec implements CacheValueCodec<UrlDocument> {
+
+    private static final CachedUrlCodec CONTRACT = new CachedUrlCodec();
+
+    @Override
+    public byte tag() {
+        return CONTRACT.tag();
+    }
+
+    @Override
+    public Class<UrlDocument> type() {
+        return UrlDocument.class;
+    }
+
+    @Override
+    public void write(final UrlDocument urlDocument, final DataOutput output) throws IOException {
+        CONTRACT.write(new CachedUrl(urlDocument.getUrl(), urlDocument.isEnabled(), urlDocument.getRedirectStatus()), output);
+    }
+
+    @Override
+    public UrlDocument read(final DataInput input) throws IOException {
+        final CachedUrl cachedUrl = CONTRACT.read(input);
+        return UrlDocument.builder()
+                .enabled(cachedUrl.enabled())
+                .url(cachedUrl.url())
+                .redirectStatus(cachedUrl.redirectStatus())
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
 
-import org.springframework.cache.annotation.Cacheable;
+import com.github.aaivan28.cache.redis.contract.UrlCacheContract;
+import org.springframework.data.mongodb.repository.Hint;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,6 +11,12 @@ import java.util.Optional;
 @Repository
 public interface UrlMongoRepository extends CrudRepository<UrlDocument, String> {
 
-    @Cacheable(value = "url", key = "#key")
+    String CACHE_NAME = UrlCacheContract.CACHE_NAME;
+    String REDIRECT_FIELDS = "{ '_id': 0, 'url': 1, 'enabled': 1, 'redirectStatus': 1 }";
+
+    // Only url, enabled and redirectStatus are returned, all read from the redirect index without fetching the
+    // document. Not cached here, UrlRedirectReader puts it behind the url cache.
+    @Hint(UrlDocument.REDIRECT_INDEX)
+    @Query(value = "{ 'key': ?0 }", fields = REDIRECT_FIELDS)
     Optional<UrlDocument> findByKey(final String key);
 }
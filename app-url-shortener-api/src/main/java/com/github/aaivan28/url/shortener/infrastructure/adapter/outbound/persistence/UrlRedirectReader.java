@@ -0,0 +1,44 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Reads what a redirect needs, the target URL and the enabled flag, from the url cache and on a miss from MongoDB. The
+ * cache is used directly instead of through a {@code @Cacheable} proxy, whose interceptor resolves the operation,
+ * evaluates the key expression and wraps the result on every call.
+ */
+@Component
+public class UrlRedirectReader {
+
+    private final UrlMongoRepository repository;
+    private final Cache cache;
+
+    public UrlRedirectReader(final UrlMongoRepository repository, final CacheManager cacheManager) {
+        this.repository = repository;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(UrlMongoRepository.CACHE_NAME),
+                "No cache named " + UrlMongoRepository.CACHE_NAME);
+    }
+
+    /**
+     * @return the url and enabled flag of the key, {@code null} if there is no URL with that key
+     */
+    public UrlDocument read(final String urlKey) {
+        try {
+            // Concurrent misses for a key share one query, absent keys are not cached
+            return this.cache.get(urlKey, () -> this.repository.findByKey(urlKey).orElse(null));
+        } catch (final Cache.ValueRetrievalException exception) {
+            throw exception.getCause() instanceof RuntimeException cause ? cause : exception;
+        }
+    }
+
+    /**
+     * Evicts the entry of the key, which the cache broadcasts to every node.
+     */
+    public void evict(final String urlKey) {
+        this.cache.evict(urlKey);
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.clicks;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Clicks on one key during one minute. The id is derived from both so every node upserts the same document without
+ * a unique index on the pair.
+ */
+@Value
+@Builder
+@Document(ClickBucketDocument.COLLECTION_NAME)
+@CompoundIndex(name = ClickBucketDocument.KEY_MINUTE_INDEX, def = "{ 'key': 1, 'minute': 1 }")
+public class ClickBucketDocument {
+    public static final String COLLECTION_NAME = "url_clicks";
+    public static final String KEY_MINUTE_INDEX = "key_minute";
+
+    @Id
+    String id;
+    String key;
+    @Indexed(name = "minute_ttl", expireAfter = "90d")
+    LocalDateTime minute;
+    long count;
+
+    public static String id(final String key, final long epochMinute) {
+        return key + ':' + epochMinute;
+    }
+}
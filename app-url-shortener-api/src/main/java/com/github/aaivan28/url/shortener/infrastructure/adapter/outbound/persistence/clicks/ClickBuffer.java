@@ -0,0 +1,74 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.clicks;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer. Producers claim a slot with a CAS on the tail and never wait:
+ * when the buffer is full the event is dropped and counted.
+ */
+final class ClickBuffer {
+
+    private final AtomicReferenceArray<ClickEvent> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    // Only written by the consumer
+    private volatile long head;
+
+    ClickBuffer(final int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    boolean offer(final ClickEvent event) {
+        long current;
+        do {
+            current = this.tail.get();
+            if (current - this.head >= this.capacity) {
+                this.dropped.increment();
+                return false;
+            }
+        } while (!this.tail.compareAndSet(current, current + 1));
+        this.slots.setRelease((int) current & this.mask, event);
+        return true;
+    }
+
+    /**
+     * Hands at most {@code limit} events to the consumer. Must only be called from one thread at a time.
+     */
+    int drain(final Consumer<ClickEvent> consumer, final int limit) {
+        long current = this.head;
+        int drained = 0;
+        while (drained < limit) {
+            final int index = (int) current & this.mask;
+            // A claimed slot whose event is not published yet ends the drain, it is picked up next time
+            final ClickEvent event = this.slots.getAcquire(index);
+            if (event == null) {
+                break;
+            }
+            this.slots.setRelease(index, null);
+            consumer.accept(event);
+            current++;
+            drained++;
+        }
+        this.head = current;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, this.tail.get() - this.head);
+    }
+
+    int capacity() {
+        return this.capacity;
+    }
+
+    long dropped() {
+        return this.dropped.sum();
+    }
+}
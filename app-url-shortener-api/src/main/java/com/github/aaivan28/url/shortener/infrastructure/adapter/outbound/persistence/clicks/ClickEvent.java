@@ -0,0 +1,7 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.clicks;
+
+/**
+ * A redirect to {@code key} during the minute {@code epochMinute}, counted from the Unix epoch.
+ */
+record ClickEvent(String key, long epochMinute) {
+}
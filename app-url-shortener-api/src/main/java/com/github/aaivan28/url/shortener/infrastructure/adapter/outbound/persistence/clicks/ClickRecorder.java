@@ -0,0 +1,144 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.clicks;
+
+import com.github.aaivan28.url.shortener.domain.port.outbound.ClickRepository;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.ClickAnalyticsProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts redirects per key and minute off the request path. Recording only appends to a bounded buffer; a scheduled
+ * flush aggregates the buffered clicks and writes them with one bulk of {@code $inc} upserts per collection. Clicks
+ * are dropped and counted when the buffer is full or a write fails, counts are at most once.
+ */
+@Slf4j
+@Component
+public class ClickRecorder implements ClickRepository {
+
+    static final String DROPPED_METER = "url.shortener.api.clicks.dropped";
+    static final String BUFFERED_METER = "url.shortener.api.clicks.buffered";
+
+    private final MongoTemplate mongoTemplate;
+    private final ClickAnalyticsProperties properties;
+    private final Clock clock;
+    private final ClickBuffer buffer;
+    private final LongAdder failed = new LongAdder();
+
+    @Autowired
+    public ClickRecorder(final MongoTemplate mongoTemplate,
+                         final ClickAnalyticsProperties properties,
+                         final MeterRegistry meterRegistry) {
+        this(mongoTemplate, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    ClickRecorder(final MongoTemplate mongoTemplate,
+                  final ClickAnalyticsProperties properties,
+                  final MeterRegistry meterRegistry,
+                  final Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.clock = clock;
+        this.buffer = new ClickBuffer(properties.bufferCapacity());
+
+        FunctionCounter.builder(DROPPED_METER, this.buffer, ClickBuffer::dropped)
+                .description("Clicks dropped because the buffer was full")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        FunctionCounter.builder(DROPPED_METER, this.failed, LongAdder::sum)
+                .description("Clicks dropped because writing them failed")
+                .tag("reason", "write-failure")
+                .register(meterRegistry);
+        Gauge.builder(BUFFERED_METER, this.buffer, ClickBuffer::size)
+                .description("Clicks waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(final String urlKey) {
+        if (this.properties.enabled()) {
+            this.buffer.offer(new ClickEvent(urlKey, this.clock.millis() / 60_000));
+        }
+    }
+
+    /**
+     * Writes what was buffered when the flush started. Clicks arriving meanwhile wait for the next run, so a burst
+     * cannot keep one flush running forever. Synchronized because the shutdown flush can overlap a scheduled one.
+     */
+    @Scheduled(fixedDelayString = "${github.aaivan28.url-shortener.clicks.flush-interval:1s}")
+    @PreDestroy
+    public synchronized void flush() {
+        int pending = this.buffer.size();
+        while (pending > 0) {
+            final Map<ClickEvent, LongAdder> counts = new HashMap<>();
+            final int drained = this.buffer.drain(
+                    event -> counts.computeIfAbsent(event, ignored -> new LongAdder()).increment(),
+                    Math.min(pending, this.properties.flushBatchSize()));
+            if (drained == 0) {
+                return;
+            }
+            pending -= drained;
+            this.write(counts, drained);
+        }
+    }
+
+    private void write(final Map<ClickEvent, LongAdder> counts, final int clicks) {
+        final BulkOperations buckets = this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClickBucketDocument.class);
+        final Map<String, Total> totals = new HashMap<>();
+        counts.forEach((event, count) -> {
+            final LocalDateTime minute = this.toMinute(event.epochMinute());
+            buckets.upsert(
+                    Query.query(Criteria.where("_id").is(ClickBucketDocument.id(event.key(), event.epochMinute()))),
+                    new Update().inc("count", count.sum()).setOnInsert("key", event.key()).setOnInsert("minute", minute));
+            totals.computeIfAbsent(event.key(), ignored -> new Total()).add(count.sum(), minute);
+        });
+
+        final BulkOperations totalOperations = this.mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClickTotalDocument.class);
+        totals.forEach((key, total) -> totalOperations.upsert(
+                Query.query(Criteria.where("_id").is(key)),
+                new Update().inc("count", total.count).max("lastClickAt", total.lastMinute)));
+
+        // A failed unordered bulk may be partially applied, retrying it could count clicks twice
+        try {
+            buckets.execute();
+            totalOperations.execute();
+        } catch (final DataAccessException exception) {
+            this.failed.add(clicks);
+            log.warn("Unable to write {} clicks", clicks, exception);
+        }
+    }
+
+    private LocalDateTime toMinute(final long epochMinute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * 60), this.clock.getZone());
+    }
+
+    private static final class Total {
+
+        private long count;
+        private LocalDateTime lastMinute;
+
+        private void add(final long clicks, final LocalDateTime minute) {
+            this.count += clicks;
+            if (this.lastMinute == null || minute.isAfter(this.lastMinute)) {
+                this.lastMinute = minute;
+            }
+        }
+    }
+}
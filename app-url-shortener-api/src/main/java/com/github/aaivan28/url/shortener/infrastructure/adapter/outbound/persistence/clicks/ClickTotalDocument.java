@@ -0,0 +1,23 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.clicks;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * All-time clicks on one key, kept apart from the URL document so counting never writes to the redirect collection.
+ */
+@Value
+@Builder
+@Document(ClickTotalDocument.COLLECTION_NAME)
+public class ClickTotalDocument {
+    public static final String COLLECTION_NAME = "url_click_totals";
+
+    @Id
+    String key;
+    long count;
+    LocalDateTime lastClickAt;
+}
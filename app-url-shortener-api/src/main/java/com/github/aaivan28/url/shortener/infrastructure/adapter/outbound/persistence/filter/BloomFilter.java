@@ -0,0 +1,86 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over string keys. Bits are only ever set, so concurrent readers can never observe a false
+ * negative for a key whose {@link #put(String)} has returned.
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    private BloomFilter(final long bitSize, final int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = (long) this.words.length() * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    static BloomFilter create(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be in (0, 1): " + falsePositiveProbability);
+        }
+
+        final long bitSize = Math.max(Long.SIZE, (long) (-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2)));
+        final int hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+        return new BloomFilter(bitSize, hashFunctions);
+    }
+
+    void put(final String key) {
+        final long hash = hash(key);
+        final long hash1 = mix(hash);
+        final long hash2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < this.hashFunctions; i++) {
+            final long bit = Long.remainderUnsigned(hash1 + i * hash2, this.bitSize);
+            final int index = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+
+            long word = this.words.get(index);
+            while ((word & mask) == 0 && !this.words.weakCompareAndSetVolatile(index, word, word | mask)) {
+                word = this.words.get(index);
+            }
+        }
+    }
+
+    boolean mightContain(final String key) {
+        final long hash = hash(key);
+        final long hash1 = mix(hash);
+        final long hash2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < this.hashFunctions; i++) {
+            final long bit = Long.remainderUnsigned(hash1 + i * hash2, this.bitSize);
+            if ((this.words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a over the UTF-16 code units, avoids encoding the key to bytes
+    private static long hash(final String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 finalizer
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.filter;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationEvent;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyFilterProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Answers whether a key can exist before going to the cache or the database. Keys never seen by the Bloom filter and
+ * keys that recently missed are rejected; until the first load completes every key is let through.
+ * <p>
+ * A rebuild starts collecting registered keys with {@link #beginRebuild()} before the source is read, so a key created
+ * while the snapshot is streamed is in the filter that replaces the current one.
+ */
+@Slf4j
+@Component
+public class KeyFilter {
+
+    private final KeyFilterProperties properties;
+    private final Cache<String, Boolean> missingKeys;
+
+    private volatile BloomFilter knownKeys;
+    private volatile BloomFilter rebuildingKeys;
+
+    public KeyFilter(final KeyFilterProperties properties) {
+        this.properties = properties;
+        this.missingKeys = Caffeine.newBuilder()
+                .maximumSize(properties.negativeMaximumSize())
+                .expireAfterWrite(properties.negativeTimeToLive())
+                .build();
+    }
+
+    public boolean mightExist(final String urlKey) {
+        if (!this.properties.enabled()) {
+            return true;
+        }
+        if (this.missingKeys.getIfPresent(urlKey) != null) {
+            return false;
+        }
+
+        final BloomFilter filter = this.knownKeys;
+        return filter == null || filter.mightContain(urlKey);
+    }
+
+    public void registerMissing(final String urlKey) {
+        if (this.properties.enabled()) {
+            this.missingKeys.put(urlKey, Boolean.TRUE);
+        }
+    }
+
+    public void registerKey(final String urlKey) {
+        this.missingKeys.invalidate(urlKey);
+
+        final BloomFilter filter = this.knownKeys;
+        if (filter != null) {
+            filter.put(urlKey);
+        }
+        final BloomFilter rebuilding = this.rebuildingKeys;
+        if (rebuilding != null) {
+            rebuilding.put(urlKey);
+        }
+    }
+
+    /**
+     * Starts collecting registered keys into a new filter, called before the source is read so keys created while it
+     * is open are not lost with the old filter.
+     */
+    public Rebuild beginRebuild() {
+        final BloomFilter filter = BloomFilter.create(this.properties.expectedKeys(), this.properties.falsePositiveProbability());
+        this.rebuildingKeys = filter;
+        return new Rebuild(filter);
+    }
+
+    public void rebuild(final Stream<String> urlKeys) {
+        try (Rebuild rebuild = this.beginRebuild()) {
+            this.rebuild(rebuild, urlKeys);
+        }
+    }
+
+    public void rebuild(final Rebuild rebuild, final Stream<String> urlKeys) {
+        final BloomFilter filter = rebuild.filter;
+        long count = 0;
+        for (final Iterator<String> iterator = urlKeys.iterator(); iterator.hasNext(); count++) {
+            filter.put(iterator.next());
+        }
+        this.knownKeys = filter;
+        this.missingKeys.invalidateAll();
+        log.info("Key filter rebuilt with {} keys", count);
+    }
+
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        if (!UrlMongoRepository.CACHE_NAME.equals(event.cacheName())) {
+            return;
+        }
+        if (event.isClear()) {
+            this.missingKeys.invalidateAll();
+        } else {
+            this.registerKey(event.key());
+        }
+    }
+
+    /**
+     * Filter receiving the keys registered since {@link #beginRebuild()}, until the rebuild is installed or abandoned.
+     */
+    public final class Rebuild implements AutoCloseable {
+
+        private final BloomFilter filter;
+
+        private Rebuild(final BloomFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public void close() {
+            if (KeyFilter.this.rebuildingKeys == this.filter) {
+                KeyFilter.this.rebuildingKeys = null;
+            }
+        }
+    }
+}
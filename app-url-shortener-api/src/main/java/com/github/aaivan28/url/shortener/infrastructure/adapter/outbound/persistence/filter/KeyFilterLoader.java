@@ -0,0 +1,39 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.filter;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeyFilterLoader {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final KeyFilter keyFilter;
+    private final MongoTemplate mongoTemplate;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${github.aaivan28.url-shortener.key-filter.rebuild-interval:1h}")
+    public void load() {
+        final Query query = new Query().cursorBatchSize(BATCH_SIZE);
+        query.fields().include("key").exclude("_id");
+
+        // Registered keys are collected before the cursor sees its first document
+        try (KeyFilter.Rebuild rebuild = this.keyFilter.beginRebuild();
+             Stream<Document> documents = this.mongoTemplate.stream(query, Document.class, UrlDocument.COLLECTION_NAME)) {
+            this.keyFilter.rebuild(rebuild, documents.map(document -> document.getString("key")));
+        } catch (final DataAccessException exception) {
+            // The previous filter, or none at all, stays in place
+            log.warn("Unable to rebuild the key filter", exception);
+        }
+    }
+}
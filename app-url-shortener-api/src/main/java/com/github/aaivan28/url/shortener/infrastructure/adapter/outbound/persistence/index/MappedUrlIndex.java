@@ -0,0 +1,287 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * Read-only key to redirect index kept in a memory-mapped file, so tens of millions of links cost page cache instead of
+ * heap. The file is an open-addressing hash table of slots followed by the records:
+ * <pre>
+ * header  magic:int version:int slotCount:long entryCount:long reserved:long
+ * slots   slotCount x long, 0 when empty, otherwise fingerprint:16 | record offset:48
+ * records keyLength:byte key:ascii enabled:byte redirectStatus:short urlLength:int url:utf-8
+ * </pre>
+ * The file is mapped in chunks of at most 1 GiB because a {@link MappedByteBuffer} is int indexed; records are padded
+ * so none crosses a chunk boundary.
+ */
+final class MappedUrlIndex {
+
+    static final int DEFAULT_CHUNK_SHIFT = 30;
+
+    private static final int MAGIC = 0x55524c49;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int RECORD_OVERHEAD = 1 + 1 + 2 + 4;
+    private static final long OFFSET_MASK = (1L << 48) - 1;
+    // Keeps probe sequences short, a larger snapshot than estimated fails the rebuild instead of degrading lookups
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private static final int STAGING_SIZE = 1 << 20;
+
+    private final MappedByteBuffer[] chunks;
+    private final int chunkShift;
+    private final long chunkMask;
+    private final long slotMask;
+    private final long entryCount;
+
+    private MappedUrlIndex(final Path file, final MappedByteBuffer[] chunks, final int chunkShift) {
+        this.chunks = chunks;
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1L << chunkShift) - 1;
+
+        final ByteBuffer header = chunks[0];
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a url index file: " + file);
+        }
+        this.slotMask = header.getLong(8) - 1;
+        this.entryCount = header.getLong(16);
+    }
+
+    static MappedUrlIndex open(final Path file) throws IOException {
+        return open(file, DEFAULT_CHUNK_SHIFT);
+    }
+
+    static MappedUrlIndex open(final Path file, final int chunkShift) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new MappedUrlIndex(file, map(channel, channel.size(), chunkShift, FileChannel.MapMode.READ_ONLY), chunkShift);
+        }
+    }
+
+    /**
+     * Writes the documents to a new index file and maps it. Keys that cannot be stored, such as non ASCII or over 255
+     * characters, are skipped and resolve through the regular lookup path.
+     */
+    static MappedUrlIndex write(final Path file, final Iterator<UrlDocument> documents, final long expectedEntries) throws IOException {
+        return write(file, documents, expectedEntries, DEFAULT_CHUNK_SHIFT);
+    }
+
+    static MappedUrlIndex write(final Path file, final Iterator<UrlDocument> documents, final long expectedEntries,
+                                final int chunkShift) throws IOException {
+        try (Writer writer = new Writer(file, slotCount(expectedEntries), chunkShift)) {
+            while (documents.hasNext()) {
+                writer.append(documents.next());
+            }
+        }
+        return open(file, chunkShift);
+    }
+
+    /**
+     * @return the lookup of the key, {@code null} if the key is not in the index
+     */
+    UrlLookup lookup(final String urlKey) {
+        if (urlKey.length() > MAX_KEY_LENGTH) {
+            return null;
+        }
+        final long hash = hash(urlKey);
+        final long fingerprint = hash >>> 48;
+        for (long slot = hash & this.slotMask; ; slot = (slot + 1) & this.slotMask) {
+            final long value = this.getLong(HEADER_SIZE + slot * Long.BYTES);
+            if (value == 0) {
+                return null;
+            }
+            if (value >>> 48 == fingerprint) {
+                final long offset = value & OFFSET_MASK;
+                final ByteBuffer chunk = this.chunks[(int) (offset >>> this.chunkShift)];
+                final int position = (int) (offset & this.chunkMask);
+                if (keyEquals(chunk, position, urlKey)) {
+                    return readLookup(chunk, position + 1 + urlKey.length());
+                }
+            }
+        }
+    }
+
+    long size() {
+        return this.entryCount;
+    }
+
+    private long getLong(final long position) {
+        return this.chunks[(int) (position >>> this.chunkShift)].getLong((int) (position & this.chunkMask));
+    }
+
+    private static boolean keyEquals(final ByteBuffer chunk, final int position, final String urlKey) {
+        if ((chunk.get(position) & 0xff) != urlKey.length()) {
+            return false;
+        }
+        for (int i = 0; i < urlKey.length(); i++) {
+            if (chunk.get(position + 1 + i) != urlKey.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static UrlLookup readLookup(final ByteBuffer chunk, final int position) {
+        if (chunk.get(position) == 0) {
+            return UrlLookup.disabled();
+        }
+        final int redirectStatus = chunk.getShort(position + 1) & 0xffff;
+        final byte[] url = new byte[chunk.getInt(position + 3)];
+        chunk.get(position + 7, url);
+        return UrlLookup.found(new String(url, StandardCharsets.UTF_8),
+                RedirectType.ofStatusCode(redirectStatus == 0 ? null : redirectStatus));
+    }
+
+    // FNV-1a over the chars followed by the murmur3 finalizer, the low bits pick the slot and the high bits are the
+    // fingerprint, so both need to be well mixed
+    static long hash(final String urlKey) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < urlKey.length(); i++) {
+            hash ^= urlKey.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    static long slotCount(final long expectedEntries) {
+        // Half full when the estimate is right
+        return Math.max(1024L, Long.highestOneBit(Math.max(1L, expectedEntries) * 2 - 1) << 1);
+    }
+
+    private static MappedByteBuffer[] map(final FileChannel channel, final long size, final int chunkShift,
+                                          final FileChannel.MapMode mode) throws IOException {
+        final long chunkSize = 1L << chunkShift;
+        final MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + chunkSize - 1) >>> chunkShift)];
+        for (int i = 0; i < chunks.length; i++) {
+            final long start = (long) i << chunkShift;
+            chunks[i] = channel.map(mode, start, Math.min(chunkSize, size - start));
+        }
+        return chunks;
+    }
+
+    private static boolean isStorable(final String urlKey) {
+        if (urlKey == null || urlKey.isEmpty() || urlKey.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < urlKey.length(); i++) {
+            if (urlKey.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fills the slot table through a writable mapping and appends the records sequentially through a staging buffer,
+     * so building the file takes the same small amount of heap whatever the number of links.
+     */
+    private static final class Writer implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final MappedByteBuffer[] slots;
+        private final int chunkShift;
+        private final long chunkMask;
+        private final long slotMask;
+        private final long maxEntries;
+        private final ByteBuffer staging = ByteBuffer.allocate(STAGING_SIZE);
+        private long stagingOffset;
+        private long entryCount;
+
+        private Writer(final Path file, final long slotCount, final int chunkShift) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.chunkShift = chunkShift;
+            this.chunkMask = (1L << chunkShift) - 1;
+            this.slotMask = slotCount - 1;
+            this.maxEntries = (long) (slotCount * MAX_LOAD_FACTOR);
+            this.stagingOffset = HEADER_SIZE + slotCount * Long.BYTES;
+            this.slots = map(this.channel, this.stagingOffset, chunkShift, FileChannel.MapMode.READ_WRITE);
+
+            final ByteBuffer header = this.slots[0];
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putLong(8, slotCount);
+        }
+
+        private void append(final UrlDocument document) throws IOException {
+            final String urlKey = document.getKey();
+            if (!isStorable(urlKey) || document.getUrl() == null) {
+                return;
+            }
+            final byte[] url = document.getUrl().getBytes(StandardCharsets.UTF_8);
+            final int size = RECORD_OVERHEAD + urlKey.length() + url.length;
+            if (size > STAGING_SIZE || size > 1L << this.chunkShift) {
+                return;
+            }
+            if (this.entryCount == this.maxEntries) {
+                throw new IllegalStateException("More than " + this.maxEntries + " links, the estimate was too low");
+            }
+
+            long offset = this.stagingOffset + this.staging.position();
+            if ((offset & this.chunkMask) + size > 1L << this.chunkShift) {
+                this.flush();
+                this.stagingOffset = (offset | this.chunkMask) + 1;
+                offset = this.stagingOffset;
+            } else if (this.staging.remaining() < size) {
+                this.flush();
+            }
+
+            this.staging.put((byte) urlKey.length());
+            for (int i = 0; i < urlKey.length(); i++) {
+                this.staging.put((byte) urlKey.charAt(i));
+            }
+            this.staging.put((byte) (document.isEnabled() ? 1 : 0));
+            this.staging.putShort(document.getRedirectStatus() == null ? 0 : document.getRedirectStatus().shortValue());
+            this.staging.putInt(url.length);
+            this.staging.put(url);
+
+            this.putSlot(hash(urlKey), offset);
+            this.entryCount++;
+        }
+
+        private void putSlot(final long hash, final long offset) {
+            final long value = (hash >>> 48) << 48 | offset;
+            for (long slot = hash & this.slotMask; ; slot = (slot + 1) & this.slotMask) {
+                final long position = HEADER_SIZE + slot * Long.BYTES;
+                final MappedByteBuffer chunk = this.slots[(int) (position >>> this.chunkShift)];
+                if (chunk.getLong((int) (position & this.chunkMask)) == 0) {
+                    chunk.putLong((int) (position & this.chunkMask), value);
+                    return;
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            this.staging.flip();
+            while (this.staging.hasRemaining()) {
+                this.stagingOffset += this.channel.write(this.staging, this.stagingOffset);
+            }
+            this.staging.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                this.flush();
+                this.slots[0].putLong(16, this.entryCount);
+            } finally {
+                this.channel.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationEvent;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlIndexProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Optional first lookup tier: resolves redirects from a memory-mapped snapshot of {@code shortened_url} on this node.
+ * The snapshot is immutable, keys invalidated since it was taken are tracked on the heap and resolved through the
+ * regular path, as are keys the snapshot does not have. Too many invalidated keys or a cache clear drop the snapshot
+ * until the next rebuild.
+ * <p>
+ * A rebuild starts tracking invalidations with {@link #beginRebuild()} before the source is read, and every cache
+ * clear bumps a counter the rebuild checks after installing its snapshot, so a clear racing the swap always wins.
+ */
+@Slf4j
+@Component
+public class UrlIndex {
+
+    static final String FILE_PREFIX = "url-index-";
+    private static final ThreadLocal<Boolean> HIT = new ThreadLocal<>();
+
+    private final UrlIndexProperties properties;
+    private final AtomicReference<Generation> current = new AtomicReference<>();
+
+    private final AtomicLong clears = new AtomicLong();
+
+    private volatile Set<String> rebuildingStaleKeys;
+
+    public UrlIndex(final UrlIndexProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Returns and clears whether the last lookup on this thread was answered by the index.
+     */
+    public static boolean popHit() {
+        final boolean hit = HIT.get() != null;
+        HIT.remove();
+        return hit;
+    }
+
+    /**
+     * @return the lookup of the key, {@code null} if the index cannot answer it
+     */
+    public UrlLookup lookup(final String urlKey) {
+        final Generation generation = this.current.get();
+        if (generation == null || generation.staleKeys().contains(urlKey)) {
+            return null;
+        }
+
+        final UrlLookup lookup = generation.index().lookup(urlKey);
+        if (lookup != null) {
+            HIT.set(Boolean.TRUE);
+        }
+        return lookup;
+    }
+
+    public long size() {
+        final Generation generation = this.current.get();
+        return generation == null ? 0 : generation.index().size();
+    }
+
+    /**
+     * Starts tracking the keys invalidated from now on, must be called before the source of the snapshot is opened.
+     */
+    public Rebuild beginRebuild() {
+        final Rebuild rebuild = new Rebuild(ConcurrentHashMap.newKeySet(), this.clears.get());
+        this.rebuildingStaleKeys = rebuild.staleKeys;
+        return rebuild;
+    }
+
+    public void rebuild(final Stream<UrlDocument> documents, final long expectedEntries) throws IOException {
+        try (Rebuild rebuild = this.beginRebuild()) {
+            this.rebuild(rebuild, documents, expectedEntries);
+        }
+    }
+
+    public void rebuild(final Rebuild rebuild, final Stream<UrlDocument> documents, final long expectedEntries) throws IOException {
+        if (!this.properties.enabled()) {
+            return;
+        }
+        Files.createDirectories(this.properties.directory());
+        final Path file = Files.createTempFile(this.properties.directory(), FILE_PREFIX, ".bin");
+
+        final MappedUrlIndex index;
+        try {
+            index = MappedUrlIndex.write(file, documents.iterator(), expectedEntries);
+            final Generation generation = new Generation(index, rebuild.staleKeys);
+            this.current.set(generation);
+            // A clear either happened before the swap and is seen here, or drops the new generation itself
+            if (this.clears.get() != rebuild.clears) {
+                this.current.compareAndSet(generation, null);
+                Files.deleteIfExists(file);
+                log.warn("Url index discarded, the url cache was cleared while it was built");
+                return;
+            }
+        } catch (final IOException | RuntimeException exception) {
+            Files.deleteIfExists(file);
+            throw exception;
+        } finally {
+            rebuild.close();
+        }
+        log.info("Url index rebuilt with {} links in {}", index.size(), file);
+        this.deleteOtherFiles(file);
+    }
+
+    @EventListener
+    public void onCacheInvalidation(final CacheInvalidationEvent event) {
+        if (!UrlMongoRepository.CACHE_NAME.equals(event.cacheName())) {
+            return;
+        }
+        if (event.isClear()) {
+            this.clears.incrementAndGet();
+            if (this.current.getAndSet(null) != null) {
+                log.warn("Url index dropped until the next rebuild, the url cache was cleared");
+            }
+            return;
+        }
+
+        // The rebuilding set is read first, once it is gone the current generation is the rebuilt one
+        final Set<String> rebuilding = this.rebuildingStaleKeys;
+        if (rebuilding != null) {
+            rebuilding.add(event.key());
+        }
+        final Generation generation = this.current.get();
+        if (generation != null) {
+            generation.staleKeys().add(event.key());
+            if (generation.staleKeys().size() > this.properties.maxStaleKeys() && this.current.compareAndSet(generation, null)) {
+                log.warn("Url index dropped until the next rebuild, more than {} keys changed", this.properties.maxStaleKeys());
+            }
+        }
+    }
+
+    // Mapped files are only released when their buffers are collected, unlinking them is enough on Linux
+    private void deleteOtherFiles(final Path keep) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.properties.directory(), FILE_PREFIX + "*.bin")) {
+            for (final Path file : files) {
+                if (!file.equals(keep)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (final IOException exception) {
+            log.warn("Unable to delete previous url index files", exception);
+        }
+    }
+
+    /**
+     * Keys invalidated since {@link #beginRebuild()}, tracked until the rebuild is installed or abandoned.
+     */
+    public final class Rebuild implements AutoCloseable {
+
+        private final Set<String> staleKeys;
+        private final long clears;
+
+        private Rebuild(final Set<String> staleKeys, final long clears) {
+            this.staleKeys = staleKeys;
+            this.clears = clears;
+        }
+
+        @Override
+        public void close() {
+            if (UrlIndex.this.rebuildingStaleKeys == this.staleKeys) {
+                UrlIndex.this.rebuildingStaleKeys = null;
+            }
+        }
+    }
+
+    private record Generation(
+            MappedUrlIndex index,
+            Set<String> staleKeys) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlIndexProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlIndexLoader {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private final UrlIndex urlIndex;
+    private final UrlIndexProperties properties;
+    private final MongoTemplate mongoTemplate;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${github.aaivan28.url-shortener.url-index.rebuild-interval:6h}")
+    public void load() {
+        if (!this.properties.enabled()) {
+            return;
+        }
+        final Query query = new Query().cursorBatchSize(BATCH_SIZE);
+        query.fields().include("key", "url", "enabled", "redirectStatus").exclude("_id");
+
+        // Invalidations are tracked before the cursor sees its first document
+        try (UrlIndex.Rebuild rebuild = this.urlIndex.beginRebuild();
+             Stream<Document> documents = this.mongoTemplate.stream(query, Document.class, UrlDocument.COLLECTION_NAME)) {
+            // Sizes the hash table, links created while the snapshot is read fit in the spare slots
+            final long expectedEntries = this.mongoTemplate.estimatedCount(UrlDocument.COLLECTION_NAME);
+            this.urlIndex.rebuild(rebuild, documents.map(UrlIndexLoader::toUrlDocument), expectedEntries);
+        } catch (final DataAccessException | IOException | IllegalStateException exception) {
+            // The previous index, or none at all, stays in place
+            log.warn("Unable to rebuild the url index", exception);
+        }
+    }
+
+    private static UrlDocument toUrlDocument(final Document document) {
+        return UrlDocument.builder()
+                .key(document.getString("key"))
+                .url(document.getString("url"))
+                .enabled(Boolean.TRUE.equals(document.getBoolean("enabled")))
+                .redirectStatus(document.getInteger("redirectStatus"))
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.key;
+
+public final class Base62 {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int BASE = ALPHABET.length;
+    // 62^11 > Long.MAX_VALUE
+    private static final int MAX_LENGTH = 11;
+
+    private Base62() {
+    }
+
+    public static String encode(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        final char[] buffer = new char[MAX_LENGTH];
+        int position = MAX_LENGTH;
+        do {
+            buffer[--position] = ALPHABET[(int) (value % BASE)];
+            value /= BASE;
+        } while (value > 0);
+        return new String(buffer, position, MAX_LENGTH - position);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.key;
+
+/**
+ * Reserves {@code size} consecutive ids for the caller and returns the first one. Ranges handed out to different callers,
+ * in this or any other node, never overlap.
+ */
+@FunctionalInterface
+public interface KeySegmentAllocator {
+
+    long lease(final int size);
+}
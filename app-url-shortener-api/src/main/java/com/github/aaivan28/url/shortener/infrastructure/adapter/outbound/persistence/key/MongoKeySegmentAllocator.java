@@ -0,0 +1,36 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.key;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyGeneratorProperties;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class MongoKeySegmentAllocator implements KeySegmentAllocator {
+
+    static final String COLLECTION_NAME = "key_sequence";
+    private static final String VALUE = "value";
+
+    private final MongoTemplate mongoTemplate;
+    private final KeyGeneratorProperties properties;
+
+    // $inc on a single document is atomic, so concurrent leases always get disjoint ranges
+    @Override
+    public long lease(final int size) {
+        final Document sequence = this.mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(this.properties.sequenceName())),
+                new Update().inc(VALUE, size),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class,
+                COLLECTION_NAME);
+        return Objects.requireNonNull(sequence).get(VALUE, Number.class).longValue() - size;
+    }
+}
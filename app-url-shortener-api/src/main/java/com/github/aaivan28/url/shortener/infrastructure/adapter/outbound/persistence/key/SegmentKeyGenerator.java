@@ -0,0 +1,73 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.key;
+
+import com.github.aaivan28.url.shortener.domain.port.outbound.KeyGenerator;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyGeneratorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out keys from a locally held range of ids, going to the {@link KeySegmentAllocator} only once per
+ * {@code segmentSize} keys. Ids are unique across nodes because ranges are, so keys never clash with each other; ids left
+ * in a segment when the node stops are simply skipped.
+ */
+@Slf4j
+@Component
+public class SegmentKeyGenerator implements KeyGenerator {
+
+    private final KeySegmentAllocator allocator;
+    private final int segmentSize;
+    private final long offset;
+
+    private volatile Segment segment;
+
+    public SegmentKeyGenerator(final KeySegmentAllocator allocator, final KeyGeneratorProperties properties) {
+        this.allocator = allocator;
+        this.segmentSize = properties.segmentSize();
+        this.offset = properties.offset();
+    }
+
+    @Override
+    public String nextKey() {
+        return Base62.encode(this.offset + this.nextId());
+    }
+
+    // Bulk callers get a range of their own, one lease per call
+    @Override
+    public List<String> nextKeys(final int count) {
+        final long start = this.allocator.lease(count);
+        final List<String> keys = new ArrayList<>(count);
+        for (long id = start; id < start + count; id++) {
+            keys.add(Base62.encode(this.offset + id));
+        }
+        return keys;
+    }
+
+    long nextId() {
+        while (true) {
+            final Segment current = this.segment;
+            if (current != null) {
+                final long id = current.next.getAndIncrement();
+                if (id < current.end) {
+                    return id;
+                }
+            }
+            this.renew(current);
+        }
+    }
+
+    private synchronized void renew(final Segment exhausted) {
+        // Another thread may have renewed it while this one was waiting
+        if (this.segment == exhausted) {
+            final long start = this.allocator.lease(this.segmentSize);
+            this.segment = new Segment(new AtomicLong(start), start + this.segmentSize);
+            log.debug("Leased key segment [{}, {})", start, start + this.segmentSize);
+        }
+    }
+
+    private record Segment(AtomicLong next, long end) {
+    }
+}
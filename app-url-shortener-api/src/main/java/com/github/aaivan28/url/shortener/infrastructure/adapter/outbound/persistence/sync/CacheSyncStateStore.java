@@ -0,0 +1,88 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.sync;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Resume token of the {@code shortened_url} change stream and the lease that lets a single node consume it, kept in
+ * one document so renewing the lease and saving the token is a single write.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheSyncStateStore {
+
+    static final String COLLECTION_NAME = "cache_sync_state";
+    private static final String STREAM_ID = UrlDocument.COLLECTION_NAME;
+    private static final String OWNER = "owner";
+    private static final String LEASE_UNTIL = "leaseUntil";
+    private static final String RESUME_TOKEN = "resumeToken";
+
+    private final MongoTemplate mongoTemplate;
+
+    // A lease held by another node makes the upsert collide with the existing document
+    boolean tryAcquire(final String owner, final Duration leaseTime) {
+        final Date now = new Date();
+        final Query query = Query.query(Criteria.where("_id").is(STREAM_ID).orOperator(
+                Criteria.where(OWNER).is(owner),
+                Criteria.where(LEASE_UNTIL).lt(now),
+                Criteria.where(LEASE_UNTIL).exists(false)));
+        try {
+            return this.mongoTemplate.findAndModify(query,
+                    new Update().set(OWNER, owner).set(LEASE_UNTIL, leaseEnd(leaseTime)),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, COLLECTION_NAME) != null;
+        } catch (final DuplicateKeyException exception) {
+            return false;
+        }
+    }
+
+    BsonDocument resumeToken() {
+        final Document state = this.mongoTemplate.findById(STREAM_ID, Document.class, COLLECTION_NAME);
+        final Document token = state == null ? null : state.get(RESUME_TOKEN, Document.class);
+        return token == null ? null : token.toBsonDocument();
+    }
+
+    /**
+     * Renews the lease and stores the token when there is one.
+     *
+     * @return {@code false} if the lease was taken over by another node
+     */
+    boolean save(final String owner, final BsonDocument resumeToken, final Duration leaseTime) {
+        final Update update = new Update().set(LEASE_UNTIL, leaseEnd(leaseTime));
+        if (resumeToken != null) {
+            // Extended JSON keeps the BSON types of the token
+            update.set(RESUME_TOKEN, Document.parse(resumeToken.toJson()));
+        }
+        return this.mongoTemplate.updateFirst(this.owned(owner), update, COLLECTION_NAME).getMatchedCount() > 0;
+    }
+
+    void resetResumeToken(final String owner) {
+        this.mongoTemplate.updateFirst(this.owned(owner), new Update().unset(RESUME_TOKEN), COLLECTION_NAME);
+    }
+
+    // Another node can take over right away instead of waiting for the lease to expire
+    void release(final String owner) {
+        this.mongoTemplate.updateFirst(this.owned(owner), new Update().set(LEASE_UNTIL, new Date(0)), COLLECTION_NAME);
+    }
+
+    private Query owned(final String owner) {
+        return Query.query(Criteria.where("_id").is(STREAM_ID).and(OWNER).is(owner));
+    }
+
+    private static Date leaseEnd(final Duration leaseTime) {
+        return Date.from(Instant.now().plus(leaseTime));
+    }
+}
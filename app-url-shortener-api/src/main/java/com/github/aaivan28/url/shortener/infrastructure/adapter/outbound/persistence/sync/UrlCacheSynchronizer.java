@@ -0,0 +1,125 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.sync;
+
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.CacheSyncProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a batch of {@code shortened_url} changes to the {@code url} cache: one pipelined write for the keys that
+ * still exist and one {@code DEL} for the removed ones. Both broadcast the keys, so near caches, key filters and url
+ * indexes of every node drop them too.
+ * <p>
+ * A cache miss that read MongoDB before the change may still write its older value afterwards. Each change is applied
+ * a second time after {@code reapply-delay}, unless a newer change of the same key has replaced it by then.
+ */
+@Slf4j
+@Component
+public class UrlCacheSynchronizer {
+
+    static final String CHANGES_METER = "url.shortener.api.cache.sync.changes";
+
+    private final RedisCacheBatchOperations cacheBatchOperations;
+    private final Cache cache;
+    private final CacheSyncProperties properties;
+    private final ConcurrentMap<String, UrlChange> reapplying = new ConcurrentHashMap<>();
+    private final Counter upserts;
+    private final Counter evictions;
+
+    public UrlCacheSynchronizer(final RedisCacheBatchOperations cacheBatchOperations,
+                                final CacheManager cacheManager,
+                                final CacheSyncProperties properties,
+                                final MeterRegistry meterRegistry) {
+        this.cacheBatchOperations = cacheBatchOperations;
+        this.properties = properties;
+        this.cache = Objects.requireNonNull(cacheManager.getCache(UrlMongoRepository.CACHE_NAME),
+                "No cache named " + UrlMongoRepository.CACHE_NAME);
+        this.upserts = Counter.builder(CHANGES_METER)
+                .description("Changes of shortened_url applied to the url cache")
+                .tag("operation", "upsert")
+                .register(meterRegistry);
+        this.evictions = Counter.builder(CHANGES_METER)
+                .description("Changes of shortened_url applied to the url cache")
+                .tag("operation", "evict")
+                .register(meterRegistry);
+    }
+
+    void apply(final List<UrlChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // Only the last change of a key in the batch matters
+        final Map<String, UrlChange> latest = new LinkedHashMap<>();
+        changes.forEach(change -> latest.put(change.key(), change));
+
+        this.write(latest.values());
+        final long removed = latest.values().stream().filter(UrlChange::isEviction).count();
+        this.upserts.increment(latest.size() - removed);
+        this.evictions.increment(removed);
+        this.again(List.copyOf(latest.values()));
+    }
+
+    private void write(final Collection<UrlChange> changes) {
+        final Map<String, UrlDocument> documents = new HashMap<>();
+        final List<String> removed = new ArrayList<>();
+        changes.forEach(change -> {
+            if (change.isEviction()) {
+                removed.add(change.key());
+            } else {
+                documents.put(change.key(), change.document());
+            }
+        });
+
+        this.cacheBatchOperations.putAll(UrlMongoRepository.CACHE_NAME, documents);
+        this.cacheBatchOperations.evictAll(UrlMongoRepository.CACHE_NAME, removed);
+    }
+
+    private void again(final List<UrlChange> changes) {
+        final long delay = this.properties.reapplyDelay().toMillis();
+        if (delay <= 0) {
+            return;
+        }
+        changes.forEach(change -> this.reapplying.put(change.key(), change));
+        CompletableFuture.runAsync(() -> {
+            // A newer change of a key is applied again by its own pass
+            final List<UrlChange> current = changes.stream()
+                    .filter(change -> this.reapplying.remove(change.key(), change))
+                    .toList();
+            if (current.isEmpty()) {
+                return;
+            }
+            try {
+                this.write(current);
+            } catch (final DataAccessException exception) {
+                log.warn("Unable to apply {} url changes a second time", current.size(), exception);
+            }
+        }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * For changes that cannot be applied key by key, such as the collection being dropped or renamed.
+     */
+    void clear() {
+        this.cache.clear();
+    }
+}
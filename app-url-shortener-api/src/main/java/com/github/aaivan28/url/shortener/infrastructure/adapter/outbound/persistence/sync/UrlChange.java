@@ -0,0 +1,43 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.sync;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.Document;
+
+/**
+ * Change of one key of {@code shortened_url}: the value to cache, {@code null} when the key has to be evicted.
+ */
+record UrlChange(
+        String key,
+        UrlDocument document) {
+
+    boolean isEviction() {
+        return this.document == null;
+    }
+
+    /**
+     * @return the change to apply to the cache, {@code null} if the event does not carry the key
+     */
+    static UrlChange of(final ChangeStreamDocument<Document> event) {
+        final Document document = event.getFullDocument();
+        final Document before = event.getFullDocumentBeforeChange();
+        return switch (event.getOperationType()) {
+            case INSERT, UPDATE, REPLACE -> document != null && document.getString("key") != null
+                    ? new UrlChange(document.getString("key"), cached(document))
+                    // Deleted before the update was looked up, the delete event follows
+                    : null;
+            // Without pre-images a delete only carries the _id, the admin API evicts the keys it deletes
+            case DELETE -> before != null && before.getString("key") != null ? new UrlChange(before.getString("key"), null) : null;
+            default -> null;
+        };
+    }
+
+    // Same fields UrlMongoRepository.findByKey reads, so the entry equals the one a cache miss would load
+    private static UrlDocument cached(final Document document) {
+        return UrlDocument.builder()
+                .url(document.getString("url"))
+                .enabled(Boolean.TRUE.equals(document.getBoolean("enabled")))
+                .redirectStatus(document.getInteger("redirectStatus"))
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.sync;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.CacheSyncProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes inserts, updates, disables and deletes of {@code shortened_url} into the {@code url} cache as they happen, so
+ * entries no longer have to wait for their time to live. Changes are applied in batches of up to {@code batch-size} or
+ * every {@code flush-interval}, and the resume token is saved after each batch; a restarted consumer continues where
+ * the last one stopped. Only the node holding the lease consumes the stream, the others retry every
+ * {@code restart-delay} and take over when it is released or expires.
+ * <p>
+ * Change streams need a replica set. A delete only names its key with pre-images, MongoDB 6.0 with
+ * {@code changeStreamPreAndPostImages} on the collection and {@code before-change-images: true}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlChangeStreamConsumer {
+
+    // The resume point is no longer in the oplog
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private static final List<Bson> PIPELINE = List.of(
+            Aggregates.match(Filters.in("operationType", "insert", "update", "replace", "delete", "drop", "rename",
+                    "dropDatabase", "invalidate")),
+            Aggregates.project(Projections.include("operationType", "documentKey",
+                    "fullDocument.key", "fullDocument.url", "fullDocument.enabled", "fullDocument.redirectStatus",
+                    "fullDocumentBeforeChange.key")));
+
+    private final CacheSyncProperties properties;
+    private final CacheSyncStateStore stateStore;
+    private final UrlCacheSynchronizer synchronizer;
+    private final MongoTemplate mongoTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    private volatile boolean stopped;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${github.aaivan28.url-shortener.cache-sync.restart-delay:5s}")
+    public void run() {
+        if (!this.properties.enabled() || this.stopped) {
+            return;
+        }
+
+        if (!this.acquire()) {
+            return;
+        }
+        try {
+            log.info("Consuming the {} change stream", UrlDocument.COLLECTION_NAME);
+            this.consume();
+        } catch (final MongoCommandException exception) {
+            if (exception.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                // Changes made meanwhile are only picked up when their entries expire
+                log.warn("Resume token of the {} change stream is no longer in the oplog, starting from now",
+                        UrlDocument.COLLECTION_NAME);
+                this.stateStore.resetResumeToken(this.owner);
+            } else {
+                log.warn("Change stream of {} stopped", UrlDocument.COLLECTION_NAME, exception);
+            }
+        } catch (final MongoException | DataAccessException exception) {
+            log.warn("Change stream of {} stopped", UrlDocument.COLLECTION_NAME, exception);
+        } finally {
+            this.release();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.stopped = true;
+    }
+
+    private void consume() {
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = this.watch().cursor()) {
+            List<UrlChange> batch = new ArrayList<>();
+            long flushAt = System.nanoTime() + this.properties.flushInterval().toNanos();
+            while (!this.stopped) {
+                // Waits up to flush-interval on the server when there is nothing new
+                final ChangeStreamDocument<Document> event = cursor.tryNext();
+                if (event != null) {
+                    if (this.endsStream(event)) {
+                        this.synchronizer.apply(batch);
+                        this.synchronizer.clear();
+                        this.stateStore.resetResumeToken(this.owner);
+                        log.warn("Url cache cleared, {} was {}", UrlDocument.COLLECTION_NAME, event.getOperationTypeString());
+                        return;
+                    }
+                    final UrlChange change = UrlChange.of(event);
+                    if (change != null) {
+                        batch.add(change);
+                    }
+                }
+
+                if (event == null || batch.size() >= this.properties.batchSize() || System.nanoTime() - flushAt >= 0) {
+                    this.synchronizer.apply(batch);
+                    batch = new ArrayList<>();
+                    flushAt = System.nanoTime() + this.properties.flushInterval().toNanos();
+                    if (!this.stateStore.save(this.owner, cursor.getResumeToken(), this.properties.leaseTime())) {
+                        log.warn("Lease of the {} change stream lost", UrlDocument.COLLECTION_NAME);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private ChangeStreamIterable<Document> watch() {
+        final ChangeStreamIterable<Document> stream = this.mongoTemplate.getCollection(UrlDocument.COLLECTION_NAME)
+                .watch(PIPELINE)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .batchSize(this.properties.batchSize())
+                .maxAwaitTime(this.properties.flushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        if (this.properties.beforeChangeImages()) {
+            stream.fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE);
+        }
+        final BsonDocument resumeToken = this.stateStore.resumeToken();
+        return resumeToken == null ? stream : stream.resumeAfter(resumeToken);
+    }
+
+    private boolean endsStream(final ChangeStreamDocument<Document> event) {
+        return switch (event.getOperationType()) {
+            case DROP, RENAME, DROP_DATABASE, INVALIDATE -> true;
+            default -> false;
+        };
+    }
+
+    private boolean acquire() {
+        try {
+            return this.stateStore.tryAcquire(this.owner, this.properties.leaseTime());
+        } catch (final DataAccessException exception) {
+            log.warn("Unable to acquire the lease of the {} change stream", UrlDocument.COLLECTION_NAME, exception);
+            return false;
+        }
+    }
+
+    private void release() {
+        try {
+            this.stateStore.release(this.owner);
+        } catch (final DataAccessException exception) {
+            log.warn("Unable to release the lease of the {} change stream", UrlDocument.COLLECTION_NAME, exception);
+        }
+    }
+}
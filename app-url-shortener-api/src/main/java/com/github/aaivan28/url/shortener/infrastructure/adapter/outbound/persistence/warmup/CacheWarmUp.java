@@ -0,0 +1,160 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup;
+
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.WarmUpProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a hot set of keys into the {@code url} cache: keys are gathered from the configured sources in order, read from
+ * MongoDB in batches through the redirect index and written with one pipelined {@code SET NX} per batch, so entries
+ * already cached are left alone. Batches are paced to {@code keys-per-second} to spare MongoDB while the node starts.
+ */
+@Slf4j
+@Component
+public class CacheWarmUp {
+
+    private final WarmUpProperties properties;
+    private final List<WarmUpKeySource> keySources;
+    private final MongoTemplate mongoTemplate;
+    private final RedisCacheBatchOperations cacheBatchOperations;
+
+    private final AtomicLong keys = new AtomicLong();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong loaded = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private volatile State state;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    public CacheWarmUp(final WarmUpProperties properties,
+                       final List<WarmUpKeySource> keySources,
+                       final MongoTemplate mongoTemplate,
+                       final RedisCacheBatchOperations cacheBatchOperations) {
+        this.properties = properties;
+        this.keySources = keySources;
+        this.mongoTemplate = mongoTemplate;
+        this.cacheBatchOperations = cacheBatchOperations;
+        this.state = properties.enabled() ? State.PENDING : State.DISABLED;
+    }
+
+    public void run() {
+        if (this.state != State.PENDING) {
+            return;
+        }
+        this.startedNanos = System.nanoTime();
+        this.state = State.RUNNING;
+        try {
+            final List<String> hotKeys = this.collectKeys();
+            this.keys.set(hotKeys.size());
+            this.state = this.load(hotKeys) ? State.COMPLETED : State.TIMED_OUT;
+        } catch (final DataAccessException exception) {
+            // The cache fills on demand as it would have without a warm-up
+            log.warn("Cache warm-up failed", exception);
+            this.state = State.FAILED;
+        } finally {
+            this.finishedNanos = System.nanoTime();
+        }
+        log.info("Cache warm-up {}: {} keys, {} loaded, {} written in {} ms", this.state, this.keys.get(), this.loaded.get(),
+                this.written.get(), this.elapsed().toMillis());
+    }
+
+    public Progress progress() {
+        return new Progress(this.state, this.keys.get(), this.processed.get(), this.loaded.get(), this.written.get(),
+                this.elapsed().toMillis());
+    }
+
+    private List<String> collectKeys() {
+        final Set<String> hotKeys = new LinkedHashSet<>();
+        for (final WarmUpProperties.Source source : this.properties.sources()) {
+            for (final WarmUpKeySource keySource : this.keySources) {
+                if (keySource.source() != source) {
+                    continue;
+                }
+                // Sources overlap, each one is asked for the full amount
+                for (final String key : keySource.keys(this.properties.maxKeys())) {
+                    if (hotKeys.size() == this.properties.maxKeys()) {
+                        return new ArrayList<>(hotKeys);
+                    }
+                    hotKeys.add(key);
+                }
+            }
+        }
+        return new ArrayList<>(hotKeys);
+    }
+
+    private boolean load(final List<String> hotKeys) {
+        final long deadline = this.startedNanos + this.properties.maxDuration().toNanos();
+        for (int from = 0; from < hotKeys.size(); from += this.properties.batchSize()) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            final List<String> batch = hotKeys.subList(from, Math.min(from + this.properties.batchSize(), hotKeys.size()));
+            final Map<String, UrlDocument> entries = this.find(batch);
+            this.loaded.addAndGet(entries.size());
+            this.written.addAndGet(this.cacheBatchOperations.putAllIfAbsent(UrlMongoRepository.CACHE_NAME, entries));
+            this.pace(this.processed.addAndGet(batch.size()));
+        }
+        return true;
+    }
+
+    // Same fields as the redirect lookup, answered from the redirect index
+    private Map<String, UrlDocument> find(final List<String> batch) {
+        final Query query = new Query(Criteria.where("key").in(batch)).withHint(UrlDocument.REDIRECT_INDEX);
+        query.fields().include("key", "url", "enabled", "redirectStatus").exclude("_id");
+
+        final Map<String, UrlDocument> entries = new LinkedHashMap<>();
+        for (final Document document : this.mongoTemplate.find(query, Document.class, UrlDocument.COLLECTION_NAME)) {
+            entries.put(document.getString("key"), UrlDocument.builder()
+                    .url(document.getString("url"))
+                    .enabled(Boolean.TRUE.equals(document.getBoolean("enabled")))
+                    .redirectStatus(document.getInteger("redirectStatus"))
+                    .build());
+        }
+        return entries;
+    }
+
+    private void pace(final long processedKeys) {
+        final long expectedNanos = TimeUnit.SECONDS.toNanos(processedKeys) / this.properties.keysPerSecond();
+        final long aheadNanos = expectedNanos - (System.nanoTime() - this.startedNanos);
+        if (aheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Duration elapsed() {
+        if (this.startedNanos == 0) {
+            return Duration.ZERO;
+        }
+        final long end = this.state == State.RUNNING ? System.nanoTime() : this.finishedNanos;
+        return Duration.ofNanos(end - this.startedNanos);
+    }
+
+    public enum State {
+        DISABLED, PENDING, RUNNING, COMPLETED, TIMED_OUT, FAILED
+    }
+
+    public record Progress(State state, long keys, long processed, long loaded, long written, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.WarmUpProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * One key per line; blank lines and lines starting with {@code #} are ignored.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileKeySource implements WarmUpKeySource {
+
+    private final WarmUpProperties properties;
+
+    @Override
+    public WarmUpProperties.Source source() {
+        return WarmUpProperties.Source.FILE;
+    }
+
+    @Override
+    public List<String> keys(final int limit) {
+        if (this.properties.file() == null) {
+            return List.of();
+        }
+        try (Stream<String> lines = Files.lines(this.properties.file())) {
+            return lines.map(String::strip)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .limit(limit)
+                    .toList();
+        } catch (final IOException exception) {
+            log.warn("Unable to read warm-up keys from {}", this.properties.file(), exception);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.HeavyHitter;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.RedirectMetrics;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.WarmUpProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the top keys of every node in a Redis sorted set, so they survive a restart and can be loaded by the next one.
+ * Each node overwrites the scores of its own keys; the set is trimmed to {@code snapshot-size}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotKeySnapshot implements WarmUpKeySource {
+
+    private final RedirectMetrics redirectMetrics;
+    private final StringRedisTemplate redisTemplate;
+    private final WarmUpProperties properties;
+
+    @Override
+    public WarmUpProperties.Source source() {
+        return WarmUpProperties.Source.HOT_KEYS;
+    }
+
+    @Override
+    public List<String> keys(final int limit) {
+        final Set<String> keys = this.redisTemplate.opsForZSet().reverseRange(this.properties.snapshotKey(), 0, limit - 1L);
+        return keys == null ? List.of() : List.copyOf(keys);
+    }
+
+    @Scheduled(initialDelayString = "${github.aaivan28.url-shortener.warm-up.snapshot-interval:5m}",
+            fixedDelayString = "${github.aaivan28.url-shortener.warm-up.snapshot-interval:5m}")
+    public void snapshot() {
+        final List<HeavyHitter> topKeys = this.redirectMetrics.topKeys(this.properties.snapshotSize());
+        if (topKeys.isEmpty()) {
+            return;
+        }
+
+        final Set<ZSetOperations.TypedTuple<String>> tuples = topKeys.stream()
+                .map(hitter -> ZSetOperations.TypedTuple.of(hitter.key(), (double) hitter.count()))
+                .collect(Collectors.toSet());
+        try {
+            final String key = this.properties.snapshotKey();
+            this.redisTemplate.opsForZSet().add(key, tuples);
+            this.redisTemplate.opsForZSet().removeRange(key, 0, -this.properties.snapshotSize() - 1L);
+            this.redisTemplate.expire(key, this.properties.snapshotTimeToLive());
+        } catch (final DataAccessException exception) {
+            log.warn("Unable to snapshot the hot keys", exception);
+        }
+    }
+}
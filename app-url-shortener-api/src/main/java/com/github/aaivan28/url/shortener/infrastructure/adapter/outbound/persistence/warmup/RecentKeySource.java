@@ -0,0 +1,34 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.WarmUpProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class RecentKeySource implements WarmUpKeySource {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public WarmUpProperties.Source source() {
+        return WarmUpProperties.Source.RECENT;
+    }
+
+    // ObjectIds grow with their creation time, so the _id index gives the newest documents without a createdAt index
+    @Override
+    public List<String> keys(final int limit) {
+        final Query query = new Query().with(Sort.by(Sort.Direction.DESC, "_id")).limit(limit);
+        query.fields().include("key").exclude("_id");
+        return this.mongoTemplate.find(query, Document.class, UrlDocument.COLLECTION_NAME).stream()
+                .map(document -> document.getString("key"))
+                .toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.WarmUpProperties;
+
+import java.util.List;
+
+public interface WarmUpKeySource {
+
+    WarmUpProperties.Source source();
+
+    /**
+     * Up to {@code limit} keys, the most valuable first.
+     */
+    List<String> keys(final int limit);
+}
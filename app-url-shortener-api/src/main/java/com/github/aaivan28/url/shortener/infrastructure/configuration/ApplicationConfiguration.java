@@ -1,8 +1,18 @@
 package com.github.aaivan28.url.shortener.infrastructure.configuration;
 
+import com.github.aaivan28.url.shortener.application.service.CreateUrlService;
+import com.github.aaivan28.url.shortener.application.service.ImportUrlService;
 import com.github.aaivan28.url.shortener.application.service.UrlService;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.CreateUrlUsesCases;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.ImportUrlUsesCases;
 import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.UrlUsesCases;
+import com.github.aaivan28.url.shortener.domain.port.outbound.ClickRepository;
+import com.github.aaivan28.url.shortener.domain.port.outbound.KeyGenerator;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCacheWarmer;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCreationRepository;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlImportRepository;
 import com.github.aaivan28.url.shortener.domain.port.outbound.UrlRepository;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.BulkImportProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,8 +20,21 @@ import org.springframework.context.annotation.Configuration;
 public class ApplicationConfiguration {
 
     @Bean
-    UrlUsesCases urlUsesCases(final UrlRepository repository) {
-        return new UrlService(repository);
+    UrlUsesCases urlUsesCases(final UrlRepository repository, final ClickRepository clickRepository) {
+        return new UrlService(repository, clickRepository);
+    }
+
+    @Bean
+    CreateUrlUsesCases createUrlUsesCases(final KeyGenerator keyGenerator, final UrlCreationRepository repository) {
+        return new CreateUrlService(keyGenerator, repository);
+    }
+
+    @Bean
+    ImportUrlUsesCases importUrlUsesCases(final KeyGenerator keyGenerator,
+                                          final UrlImportRepository repository,
+                                          final UrlCacheWarmer cacheWarmer,
+                                          final BulkImportProperties bulkImportProperties) {
+        return new ImportUrlService(keyGenerator, repository, cacheWarmer, bulkImportProperties.batchSize());
     }
 
 }
@@ -1,22 +0,0 @@
-package com.github.aaivan28.url.shortener.infrastructure.configuration;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
-import org.springframework.core.convert.ConversionService;
-import org.springframework.core.convert.converter.Converter;
-import org.springframework.core.convert.support.DefaultConversionService;
-
-import java.util.Collection;
-
-@Configuration
-public class ConverterConfiguration {
-
-    @Bean
-    @Primary
-    ConversionService conversionService(final Collection<Converter<?, ?>> converters) {
-        final DefaultConversionService conversionService = new DefaultConversionService();
-        converters.forEach(conversionService::addConverter);
-        return conversionService;
-    }
-}
@@ -1,15 +0,0 @@
-package com.github.aaivan28.url.shortener.infrastructure.configuration;
-
-import io.micrometer.core.aop.TimedAspect;
-import io.micrometer.core.instrument.MeterRegistry;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-public class MetricsConfiguration {
-
-    @Bean
-    public TimedAspect timedAspect(final MeterRegistry meterRegistry) {
-        return new TimedAspect(meterRegistry);
-    }
-}
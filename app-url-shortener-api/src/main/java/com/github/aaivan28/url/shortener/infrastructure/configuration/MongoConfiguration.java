@@ -1,9 +1,22 @@
 package com.github.aaivan28.url.shortener.infrastructure.configuration;
 
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.MongoPoolProperties;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 @EnableMongoRepositories(basePackages = "com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence")
 public class MongoConfiguration {
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer mongoPoolCustomizer(final MongoPoolProperties mongoPoolProperties) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .minSize(mongoPoolProperties.minSize())
+                .maxSize(mongoPoolProperties.maxSize())
+                .maxWaitTime(mongoPoolProperties.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS));
+    }
 }
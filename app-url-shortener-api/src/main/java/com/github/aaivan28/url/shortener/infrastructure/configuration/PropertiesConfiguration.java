@@ -1,10 +1,24 @@
 package com.github.aaivan28.url.shortener.infrastructure.configuration;
 
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.BulkImportProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.CacheSyncProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.ClickAnalyticsProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyFilterProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyGeneratorProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.MongoIndexProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.MongoPoolProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectMetricsProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectResponseProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlIndexProperties;
 import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.WarmUpProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties({UrlProperties.class})
+@EnableConfigurationProperties({UrlProperties.class, KeyFilterProperties.class, KeyGeneratorProperties.class,
+        MongoPoolProperties.class, RedirectMetricsProperties.class, BulkImportProperties.class, WarmUpProperties.class,
+        ClickAnalyticsProperties.class, RedirectResponseProperties.class, UrlIndexProperties.class,
+        CacheSyncProperties.class, MongoIndexProperties.class})
 public class PropertiesConfiguration {
 }
@@ -0,0 +1,80 @@
+package com.github.aaivan28.url.shortener.application.service;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.outbound.KeyGenerator;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCreationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateUrlService Tests")
+class CreateUrlServiceTest {
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private UrlCreationRepository repository;
+
+    private CreateUrlService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CreateUrlService(keyGenerator, repository);
+    }
+
+    @Test
+    @DisplayName("Should store the URL under the generated key")
+    void shouldStoreUrlUnderGeneratedKey() {
+        // Given
+        when(keyGenerator.nextKey()).thenReturn("100000");
+        when(repository.createUrl("100000", "https://example.com", "description", RedirectType.PERMANENT_REDIRECT)).thenReturn(true);
+
+        // When
+        final ShortUrl result = service.createUrl("https://example.com", "description", RedirectType.PERMANENT_REDIRECT);
+
+        // Then
+        assertThat(result).isEqualTo(new ShortUrl("100000", "https://example.com", "description"));
+    }
+
+    @Test
+    @DisplayName("Should skip keys already taken")
+    void shouldSkipKeysAlreadyTaken() {
+        // Given
+        when(keyGenerator.nextKey()).thenReturn("100000", "100001");
+        when(repository.createUrl("100000", "https://example.com", null, RedirectType.FOUND)).thenReturn(false);
+        when(repository.createUrl("100001", "https://example.com", null, RedirectType.FOUND)).thenReturn(true);
+
+        // When
+        final ShortUrl result = service.createUrl("https://example.com", null, RedirectType.FOUND);
+
+        // Then
+        assertThat(result.key()).isEqualTo("100001");
+    }
+
+    @Test
+    @DisplayName("Should give up after the maximum number of attempts")
+    void shouldGiveUpAfterMaximumAttempts() {
+        // Given
+        when(keyGenerator.nextKey()).thenReturn("100000", "100001", "100002");
+        when(repository.createUrl(anyString(), anyString(), anyString(), any())).thenReturn(false);
+
+        // When / Then
+        assertThatThrownBy(() -> service.createUrl("https://example.com", "description", RedirectType.FOUND))
+                .isInstanceOf(IllegalStateException.class);
+        verify(repository, times(3)).createUrl(anyString(), anyString(), anyString(), any());
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.aaivan28.url.shortener.application.service;
+
+import com.github.aaivan28.url.shortener.domain.model.ImportResult;
+import com.github.aaivan28.url.shortener.domain.model.ImportRow;
+import com.github.aaivan28.url.shortener.domain.model.ImportSummary;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.outbound.KeyGenerator;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlCacheWarmer;
+import com.github.aaivan28.url.shortener.domain.port.outbound.UrlImportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportUrlService Tests")
+class ImportUrlServiceTest {
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private UrlImportRepository repository;
+
+    @Mock
+    private UrlCacheWarmer cacheWarmer;
+
+    private ImportUrlService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportUrlService(keyGenerator, repository, cacheWarmer, 2);
+    }
+
+    @Test
+    @DisplayName("Should write valid rows in batches with one key lease per batch")
+    void shouldWriteValidRowsInBatches() {
+        // Given
+        when(keyGenerator.nextKeys(2)).thenReturn(List.of("a", "b"));
+        when(keyGenerator.nextKeys(1)).thenReturn(List.of("c"));
+        when(repository.createUrls(anyList())).thenReturn(Map.of());
+        final List<ImportResult> results = new ArrayList<>();
+
+        // When
+        final ImportSummary summary = service.importUrls(List.of(
+                ImportRow.valid(1, "https://one.com", null),
+                ImportRow.valid(2, "https://two.com", "two"),
+                ImportRow.valid(3, "https://three.com", null)).iterator(), results::add);
+
+        // Then
+        assertThat(summary).isEqualTo(new ImportSummary(3, 0));
+        assertThat(results).extracting(ImportResult::urlKey).containsExactly("a", "b", "c");
+        verify(repository).createUrls(List.of(
+                new ShortUrl("a", "https://one.com", null),
+                new ShortUrl("b", "https://two.com", "two")));
+        verify(repository).createUrls(List.of(new ShortUrl("c", "https://three.com", null)));
+    }
+
+    @Test
+    @DisplayName("Should report failed rows and prewarm only the stored ones before reporting")
+    void shouldReportFailedRowsAndPrewarmStoredOnes() {
+        // Given
+        when(keyGenerator.nextKeys(2)).thenReturn(List.of("a", "b"));
+        when(repository.createUrls(anyList())).thenReturn(Map.of(1, "duplicate key"));
+        final List<ImportResult> results = new ArrayList<>();
+
+        // When
+        final ImportSummary summary = service.importUrls(List.of(
+                ImportRow.valid(1, "https://one.com", null),
+                ImportRow.valid(2, "https://two.com", null)).iterator(), results::add);
+
+        // Then
+        assertThat(summary).isEqualTo(new ImportSummary(1, 1));
+        assertThat(results).containsExactly(
+                new ImportResult(1, "a", "https://one.com", null),
+                ImportResult.failed(2, "duplicate key"));
+        final InOrder order = inOrder(repository, cacheWarmer);
+        order.verify(repository).createUrls(anyList());
+        order.verify(cacheWarmer).prewarm(List.of(new ShortUrl("a", "https://one.com", null)));
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows without writing them")
+    void shouldReportInvalidRowsWithoutWritingThem() {
+        // Given
+        final List<ImportResult> results = new ArrayList<>();
+
+        // When
+        final ImportSummary summary = service.importUrls(List.of(ImportRow.invalid(7, "url is required")).iterator(), results::add);
+
+        // Then
+        assertThat(summary).isEqualTo(new ImportSummary(0, 1));
+        assertThat(results).containsExactly(ImportResult.failed(7, "url is required"));
+        verify(repository, never()).createUrls(anyList());
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.aaivan28.url.shortener.application.service;
 
-import com.github.aaivan28.url.shortener.application.exception.UrlNotFoundException;
+import com.github.aaivan28.url.shortener.domain.model.LookupStatus;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.outbound.ClickRepository;
 import com.github.aaivan28.url.shortener.domain.port.outbound.UrlRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,10 +11,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,11 +23,14 @@ class UrlServiceTest {
     @Mock
     private UrlRepository urlRepository;
 
+    @Mock
+    private ClickRepository clickRepository;
+
     private UrlService urlService;
 
     @BeforeEach
     void setUp() {
-        urlService = new UrlService(urlRepository);
+        urlService = new UrlService(urlRepository, clickRepository);
     }
 
     @Test
@@ -36,27 +39,30 @@ class UrlServiceTest {
         // Given
         final String urlKey = "abc123";
         final String expectedUrl = "https://example.com";
-        when(urlRepository.getUrl(urlKey)).thenReturn(Optional.of(expectedUrl));
+        when(urlRepository.getUrl(urlKey)).thenReturn(UrlLookup.found(expectedUrl));
 
         // When
-        final String actualUrl = urlService.getUrl(urlKey);
+        final UrlLookup lookup = urlService.getUrl(urlKey);
 
         // Then
-        assertThat(actualUrl).isEqualTo(expectedUrl);
+        assertThat(lookup.isFound()).isTrue();
+        assertThat(lookup.url()).isEqualTo(expectedUrl);
         verify(urlRepository).getUrl(urlKey);
     }
 
     @Test
-    @DisplayName("Should throw UrlNotFoundException when key does not exist")
-    void shouldThrowExceptionWhenKeyDoesNotExist() {
+    @DisplayName("Should return not found without throwing when key does not exist")
+    void shouldReturnNotFoundWhenKeyDoesNotExist() {
         // Given
         final String urlKey = "nonexistent";
-        when(urlRepository.getUrl(urlKey)).thenReturn(Optional.empty());
+        when(urlRepository.getUrl(urlKey)).thenReturn(UrlLookup.notFound());
+
+        // When
+        final UrlLookup lookup = urlService.getUrl(urlKey);
 
-        // When & Then
-        assertThatThrownBy(() -> urlService.getUrl(urlKey))
-                .isInstanceOf(UrlNotFoundException.class)
-                .hasMessage("Key not found: " + urlKey);
+        // Then
+        assertThat(lookup.status()).isEqualTo(LookupStatus.NOT_FOUND);
+        assertThat(lookup.urlOrElse("https://fallback.com")).isEqualTo("https://fallback.com");
         verify(urlRepository).getUrl(urlKey);
     }
 
@@ -66,13 +72,13 @@ class UrlServiceTest {
         // Given
         final String urlKey = "special123";
         final String expectedUrl = "https://example.com/path?param=value&other=123";
-        when(urlRepository.getUrl(urlKey)).thenReturn(Optional.of(expectedUrl));
+        when(urlRepository.getUrl(urlKey)).thenReturn(UrlLookup.found(expectedUrl));
 
         // When
-        final String actualUrl = urlService.getUrl(urlKey);
+        final UrlLookup lookup = urlService.getUrl(urlKey);
 
         // Then
-        assertThat(actualUrl).isEqualTo(expectedUrl);
+        assertThat(lookup.url()).isEqualTo(expectedUrl);
         verify(urlRepository).getUrl(urlKey);
     }
 
@@ -81,12 +87,32 @@ class UrlServiceTest {
     void shouldHandleEmptyStringKey() {
         // Given
         final String urlKey = "";
-        when(urlRepository.getUrl(urlKey)).thenReturn(Optional.empty());
+        when(urlRepository.getUrl(urlKey)).thenReturn(UrlLookup.notFound());
+
+        // When
+        final UrlLookup lookup = urlService.getUrl(urlKey);
 
-        // When & Then
-        assertThatThrownBy(() -> urlService.getUrl(urlKey))
-                .isInstanceOf(UrlNotFoundException.class)
-                .hasMessage("Key not found: ");
+        // Then
+        assertThat(lookup.isFound()).isFalse();
         verify(urlRepository).getUrl(urlKey);
     }
+
+    @Test
+    @DisplayName("Should record a click only for lookups of an existing URL")
+    void shouldRecordClickOnlyForExistingUrl() {
+        // Given
+        when(urlRepository.getUrl("abc123")).thenReturn(UrlLookup.found("https://example.com"));
+        when(urlRepository.getUrl("nonexistent")).thenReturn(UrlLookup.notFound());
+        when(urlRepository.getUrl("disabled")).thenReturn(UrlLookup.disabled());
+
+        // When
+        urlService.getUrl("abc123");
+        urlService.getUrl("nonexistent");
+        urlService.getUrl("disabled");
+
+        // Then
+        verify(clickRepository).record("abc123");
+        verify(clickRepository, never()).record("nonexistent");
+        verify(clickRepository, never()).record("disabled");
+    }
 }
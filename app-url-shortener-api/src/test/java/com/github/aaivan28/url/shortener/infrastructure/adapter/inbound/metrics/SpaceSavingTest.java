@@ -0,0 +1,58 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpaceSaving Tests")
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("Should count keys exactly while under capacity")
+    void shouldCountExactlyUnderCapacity() {
+        // Given
+        final SpaceSaving spaceSaving = new SpaceSaving(10);
+
+        // When
+        offer(spaceSaving, "a", 3);
+        offer(spaceSaving, "b", 5);
+        offer(spaceSaving, "c", 1);
+
+        // Then
+        assertThat(spaceSaving.top(2)).containsExactly(new HeavyHitter("b", 5, 0), new HeavyHitter("a", 3, 0));
+    }
+
+    @Test
+    @DisplayName("Should keep the heavy hitters when the long tail exceeds capacity")
+    void shouldKeepHeavyHittersWithLongTail() {
+        // Given
+        final SpaceSaving spaceSaving = new SpaceSaving(64);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            spaceSaving.offer("tail" + i);
+            if (i % 10 == 0) {
+                spaceSaving.offer("hot");
+            }
+            if (i % 20 == 0) {
+                spaceSaving.offer("warm");
+            }
+        }
+
+        // Then
+        final List<HeavyHitter> top = spaceSaving.top(2);
+        assertThat(top).extracting(HeavyHitter::key).containsExactly("hot", "warm");
+        assertThat(top.getFirst().count() - top.getFirst().error()).isLessThanOrEqualTo(1_000);
+        assertThat(top.getFirst().count()).isGreaterThanOrEqualTo(1_000);
+        assertThat(spaceSaving.top(100)).hasSize(64);
+    }
+
+    private static void offer(final SpaceSaving spaceSaving, final String key, final int times) {
+        for (int i = 0; i < times; i++) {
+            spaceSaving.offer(key);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectResponseProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PreparedRedirects Tests")
+class PreparedRedirectsTest {
+
+    private PreparedRedirects preparedRedirects;
+
+    @BeforeEach
+    void setUp() {
+        preparedRedirects = new PreparedRedirects(new RedirectResponseProperties(true, 100, Duration.ofDays(1), Duration.ZERO),
+                new UrlProperties("https://www.google.com"));
+    }
+
+    @Test
+    @DisplayName("Should reuse the prepared redirect while the lookup does not change")
+    void shouldReusePreparedRedirect() {
+        // When
+        final PreparedRedirect first = preparedRedirects.get("abc123", UrlLookup.found("https://example.com"));
+        final PreparedRedirect second = preparedRedirects.get("abc123", UrlLookup.found("https://example.com"));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.status()).isEqualTo(302);
+        assertThat(first.cacheControl()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should prepare the redirect again when the target or the type changes")
+    void shouldPrepareAgainWhenLookupChanges() {
+        // When
+        final PreparedRedirect found = preparedRedirects.get("abc123", UrlLookup.found("https://example.com"));
+        final PreparedRedirect moved = preparedRedirects.get("abc123",
+                UrlLookup.found("https://example.com", RedirectType.MOVED_PERMANENTLY));
+        final PreparedRedirect updated = preparedRedirects.get("abc123",
+                UrlLookup.found("https://example.org", RedirectType.MOVED_PERMANENTLY));
+
+        // Then
+        assertThat(moved.status()).isEqualTo(301);
+        assertThat(moved.cacheControl()).isEqualTo("public, max-age=86400");
+        assertThat(updated.location()).isEqualTo("https://example.org");
+        assertThat(found.etag()).isNotEqualTo(moved.etag()).isNotEqualTo(updated.etag());
+    }
+
+    @Test
+    @DisplayName("Should redirect misses to the base URL without cache headers")
+    void shouldRedirectMissesToBaseUrl() {
+        // When
+        final PreparedRedirect fallback = preparedRedirects.get("nonexistent", UrlLookup.notFound());
+
+        // Then
+        assertThat(fallback).isEqualTo(new PreparedRedirect(302, "https://www.google.com", null, null));
+    }
+
+    @Test
+    @DisplayName("Should answer not modified only when a tag of the If-None-Match list equals the redirect's")
+    void shouldMatchIfNoneMatchTagsExactly() {
+        // Given
+        final PreparedRedirect redirect = preparedRedirects.get("abc123", UrlLookup.found("https://example.com"));
+        final String hex = redirect.etag().substring(1, redirect.etag().length() - 1);
+
+        // When / Then
+        assertThat(statusFor(redirect, "\"other\", W/" + redirect.etag())).isEqualTo(304);
+        assertThat(statusFor(redirect, "\"other\",*")).isEqualTo(304);
+        assertThat(statusFor(redirect, "\"" + hex + "0\"")).isEqualTo(302);
+        assertThat(statusFor(redirect, "\"x" + hex + "\", \"" + hex + "\"x")).isEqualTo(302);
+    }
+
+    private static int statusFor(final PreparedRedirect redirect, final String ifNoneMatch) {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        redirect.writeTo(response, ifNoneMatch);
+        return response.getStatus();
+    }
+}
@@ -1,7 +1,13 @@
 package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest;
 
-import com.github.aaivan28.url.shortener.application.exception.UrlNotFoundException;
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.inbound.properties.RedirectBaseUrlProperty;
 import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.UrlUsesCases;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.RedirectMetrics;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectMetricsProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectResponseProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,10 +15,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 
-import java.io.IOException;
+import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,107 +34,225 @@ class UrlShortenerControllerTest {
     @Mock
     private UrlUsesCases urlUsesCases;
 
+    @Mock
+    private RedirectBaseUrlProperty redirectBaseUrlProperty;
+
     @Mock
     private HttpServletResponse response;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private PreparedRedirects preparedRedirects;
+
+    private RedirectMetrics metrics;
+
     private UrlShortenerController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new UrlShortenerController(urlUsesCases);
+        meterRegistry = new SimpleMeterRegistry();
+        preparedRedirects = new PreparedRedirects(
+                new RedirectResponseProperties(true, 100, Duration.ofDays(1), Duration.ZERO), redirectBaseUrlProperty);
+        metrics = new RedirectMetrics(meterRegistry, new RedirectMetricsProperties(true, 10, false));
+        controller = new UrlShortenerController(urlUsesCases, preparedRedirects, metrics);
     }
 
     @Test
     @DisplayName("Should redirect to URL when key exists")
-    void shouldRedirectToUrlWhenKeyExists() throws IOException {
+    void shouldRedirectToUrlWhenKeyExists() {
         // Given
         final String urlKey = "abc123";
         final String targetUrl = "https://example.com";
-        when(urlUsesCases.getUrl(urlKey)).thenReturn(targetUrl);
+        when(urlUsesCases.getUrl(urlKey)).thenReturn(UrlLookup.found(targetUrl));
 
         // When
-        controller.redirect(response, urlKey);
+        controller.redirect(response, urlKey, null);
 
         // Then
         verify(urlUsesCases).getUrl(urlKey);
-        verify(response).sendRedirect(targetUrl);
+        verify(response).setStatus(302);
+        verify(response).setHeader(HttpHeaders.LOCATION, targetUrl);
     }
 
     @Test
-    @DisplayName("Should propagate exception when URL not found")
-    void shouldPropagateExceptionWhenUrlNotFound() {
+    @DisplayName("Should redirect to base URL when URL not found")
+    void shouldRedirectToBaseUrlWhenUrlNotFound() {
         // Given
         final String urlKey = "nonexistent";
-        when(urlUsesCases.getUrl(urlKey)).thenThrow(new UrlNotFoundException("Key not found: " + urlKey));
+        final String baseUrl = "https://www.google.com";
+        when(urlUsesCases.getUrl(urlKey)).thenReturn(UrlLookup.notFound());
+        when(redirectBaseUrlProperty.redirectBaseUrl()).thenReturn(baseUrl);
+
+        // When
+        controller.redirect(response, urlKey, null);
 
-        // When & Then
-        assertThatThrownBy(() -> controller.redirect(response, urlKey))
-                .isInstanceOf(UrlNotFoundException.class)
-                .hasMessage("Key not found: " + urlKey);
+        // Then
         verify(urlUsesCases).getUrl(urlKey);
+        verify(response).setStatus(302);
+        verify(response).setHeader(HttpHeaders.LOCATION, baseUrl);
+    }
+
+    @Test
+    @DisplayName("Should redirect to base URL when URL is disabled")
+    void shouldRedirectToBaseUrlWhenUrlIsDisabled() {
+        // Given
+        final String urlKey = "disabled";
+        final String baseUrl = "https://www.google.com";
+        when(urlUsesCases.getUrl(urlKey)).thenReturn(UrlLookup.disabled());
+        when(redirectBaseUrlProperty.redirectBaseUrl()).thenReturn(baseUrl);
+
+        // When
+        controller.redirect(response, urlKey, null);
+
+        // Then
+        verify(response).setStatus(302);
+        verify(response).setHeader(HttpHeaders.LOCATION, baseUrl);
     }
 
     @Test
     @DisplayName("Should handle URL with special characters")
-    void shouldHandleUrlWithSpecialCharacters() throws IOException {
+    void shouldHandleUrlWithSpecialCharacters() {
         // Given
         final String urlKey = "special";
         final String targetUrl = "https://example.com/path?param=value&other=123#section";
-        when(urlUsesCases.getUrl(urlKey)).thenReturn(targetUrl);
+        when(urlUsesCases.getUrl(urlKey)).thenReturn(UrlLookup.found(targetUrl));
 
         // When
-        controller.redirect(response, urlKey);
+        controller.redirect(response, urlKey, null);
 
         // Then
         verify(urlUsesCases).getUrl(urlKey);
-        verify(response).sendRedirect(targetUrl);
+        verify(response).setStatus(302);
+        verify(response).setHeader(HttpHeaders.LOCATION, targetUrl);
     }
 
     @Test
     @DisplayName("Should handle URL with unicode characters")
-    void shouldHandleUrlWithUnicodeCharacters() throws IOException {
+    void shouldHandleUrlWithUnicodeCharacters() {
         // Given
         final String urlKey = "unicode";
         final String targetUrl = "https://example.com/página/español";
-        when(urlUsesCases.getUrl(urlKey)).thenReturn(targetUrl);
+        when(urlUsesCases.getUrl(urlKey)).thenReturn(UrlLookup.found(targetUrl));
 
         // When
-        controller.redirect(response, urlKey);
+        controller.redirect(response, urlKey, null);
 
         // Then
         verify(urlUsesCases).getUrl(urlKey);
-        verify(response).sendRedirect(targetUrl);
+        verify(response).setStatus(302);
+        verify(response).setHeader(HttpHeaders.LOCATION, targetUrl);
     }
 
     @Test
     @DisplayName("Should handle short key")
-    void shouldHandleShortKey() throws IOException {
+    void shouldHandleShortKey() {
         // Given
         final String urlKey = "a";
         final String targetUrl = "https://example.com";
-        when(urlUsesCases.getUrl(urlKey)).thenReturn(targetUrl);
+        when(urlUsesCases.getUrl(urlKey)).thenReturn(UrlLookup.found(targetUrl));
 
         // When
-        controller.redirect(response, urlKey);
+        controller.redirect(response, urlKey, null);
 
         // Then
         verify(urlUsesCases).getUrl(urlKey);
-        verify(response).sendRedirect(targetUrl);
+        verify(response).setStatus(302);
+        verify(response).setHeader(HttpHeaders.LOCATION, targetUrl);
     }
 
     @Test
     @DisplayName("Should handle long key")
-    void shouldHandleLongKey() throws IOException {
+    void shouldHandleLongKey() {
         // Given
         final String urlKey = "a".repeat(100);
         final String targetUrl = "https://example.com";
-        when(urlUsesCases.getUrl(urlKey)).thenReturn(targetUrl);
+        when(urlUsesCases.getUrl(urlKey)).thenReturn(UrlLookup.found(targetUrl));
 
         // When
-        controller.redirect(response, urlKey);
+        controller.redirect(response, urlKey, null);
 
         // Then
         verify(urlUsesCases).getUrl(urlKey);
-        verify(response).sendRedirect(targetUrl);
+        verify(response).setStatus(302);
+        verify(response).setHeader(HttpHeaders.LOCATION, targetUrl);
+    }
+
+    @Test
+    @DisplayName("Should time redirects by outcome without tagging the key")
+    void shouldTimeRedirectsByOutcome() {
+        // Given
+        when(urlUsesCases.getUrl("abc123")).thenReturn(UrlLookup.found("https://example.com"));
+        when(urlUsesCases.getUrl("disabled")).thenReturn(UrlLookup.disabled());
+        when(redirectBaseUrlProperty.redirectBaseUrl()).thenReturn("https://www.google.com");
+
+        // When
+        controller.redirect(response, "abc123", null);
+        controller.redirect(response, "disabled", null);
+
+        // Then
+        assertThat(meterRegistry.get("url.shortener.api.controller.redirect").tag("outcome", "mongo_hit").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("url.shortener.api.controller.redirect").tag("outcome", "disabled").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("url.shortener.api.controller.redirect").timers()).hasSize(7)
+                .allSatisfy(timer -> assertThat(timer.getId().getTag("key")).isNull());
+    }
+
+    @Test
+    @DisplayName("Should time failed redirects as errors")
+    void shouldTimeFailedRedirectsAsErrors() {
+        // Given
+        when(urlUsesCases.getUrl("abc123")).thenThrow(new IllegalStateException("Mongo is down"));
+
+        // When / Then
+        assertThatThrownBy(() -> controller.redirect(response, "abc123", null)).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("url.shortener.api.controller.redirect").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(metrics.topKeys(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should send the outcome header only when enabled")
+    void shouldSendOutcomeHeaderOnlyWhenEnabled() {
+        // Given
+        final UrlShortenerController withHeader = new UrlShortenerController(urlUsesCases, preparedRedirects,
+                new RedirectMetrics(meterRegistry, new RedirectMetricsProperties(false, 10, true)));
+        when(urlUsesCases.getUrl("abc123")).thenReturn(UrlLookup.found("https://example.com"));
+
+        // When
+        withHeader.redirect(response, "abc123", null);
+        controller.redirect(response, "abc123", null);
+
+        // Then
+        verify(response).setHeader(RedirectMetrics.OUTCOME_HEADER, "mongo_hit");
+    }
+
+    @Test
+    @DisplayName("Should let clients cache permanent redirects")
+    void shouldLetClientsCachePermanentRedirects() {
+        // Given
+        when(urlUsesCases.getUrl("moved")).thenReturn(UrlLookup.found("https://example.com", RedirectType.PERMANENT_REDIRECT));
+
+        // When
+        controller.redirect(response, "moved", null);
+
+        // Then
+        verify(response).setStatus(308);
+        verify(response).setHeader(HttpHeaders.LOCATION, "https://example.com");
+        verify(response).setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=86400");
+        verify(response).setHeader(eq(HttpHeaders.ETAG), anyString());
+    }
+
+    @Test
+    @DisplayName("Should answer not modified when the client already has the redirect")
+    void shouldAnswerNotModifiedForKnownEtag() {
+        // Given
+        final UrlLookup lookup = UrlLookup.found("https://example.com", RedirectType.MOVED_PERMANENTLY);
+        when(urlUsesCases.getUrl("moved")).thenReturn(lookup);
+        final String etag = preparedRedirects.get("moved", lookup).etag();
+
+        // When
+        controller.redirect(response, "moved", etag);
+
+        // Then
+        verify(response).setStatus(304);
+        verify(response, never()).setHeader(eq(HttpHeaders.LOCATION), anyString());
     }
-}
\ No newline at end of file
+}
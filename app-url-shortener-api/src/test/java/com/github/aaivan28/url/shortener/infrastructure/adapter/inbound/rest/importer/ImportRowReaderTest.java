@@ -0,0 +1,90 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.aaivan28.url.shortener.domain.model.ImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImportRowReader Tests")
+class ImportRowReaderTest {
+
+    @Test
+    @DisplayName("Should read NDJSON rows and keep malformed lines as invalid rows")
+    void shouldReadNdjsonRows() {
+        // Given
+        final String body = """
+                {"url": "https://example.com", "description": "example"}
+
+                {"url": "ftp://example.com"}
+                not json
+                {"url": "https://example.org"}
+                """;
+
+        // When
+        final List<ImportRow> rows = read(new NdjsonImportRowReader(reader(body), new ObjectMapper()));
+
+        // Then
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0)).isEqualTo(ImportRow.valid(1, "https://example.com", "example"));
+        assertThat(rows.get(1).line()).isEqualTo(3);
+        assertThat(rows.get(1).isValid()).isFalse();
+        assertThat(rows.get(2).line()).isEqualTo(4);
+        assertThat(rows.get(2).isValid()).isFalse();
+        assertThat(rows.get(3)).isEqualTo(ImportRow.valid(5, "https://example.org", null));
+    }
+
+    @Test
+    @DisplayName("Should read CSV rows skipping the header and honouring quotes")
+    void shouldReadCsvRows() {
+        // Given
+        final String body = """
+                url,description
+                https://example.com,"Example, ""quoted""\"
+                https://example.org
+                "https://example.net,unterminated
+                """;
+
+        // When
+        final List<ImportRow> rows = read(new CsvImportRowReader(reader(body)));
+
+        // Then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0)).isEqualTo(ImportRow.valid(2, "https://example.com", "Example, \"quoted\""));
+        assertThat(rows.get(1)).isEqualTo(ImportRow.valid(3, "https://example.org", null));
+        assertThat(rows.get(2)).isEqualTo(ImportRow.invalid(4, "unterminated quoted field"));
+    }
+
+    @Test
+    @DisplayName("Should skip a CSV header after blank lines but not a later url row")
+    void shouldSkipCsvHeaderAfterBlankLines() {
+        // Given
+        final String body = "\n  \nurl,description\nhttps://example.com\nurl,description\n";
+
+        // When
+        final List<ImportRow> rows = read(new CsvImportRowReader(reader(body)));
+
+        // Then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).isEqualTo(ImportRow.valid(4, "https://example.com", null));
+        assertThat(rows.get(1).line()).isEqualTo(5);
+        assertThat(rows.get(1).isValid()).isFalse();
+    }
+
+    private static BufferedReader reader(final String body) {
+        return new BufferedReader(new StringReader(body));
+    }
+
+    private static List<ImportRow> read(final Iterator<ImportRow> iterator) {
+        final List<ImportRow> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.model;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CreateUrlRequest Tests")
+class CreateUrlRequestTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"https://example.com/path", "http://example.com", "HTTPS://EXAMPLE.COM"})
+    @DisplayName("Should accept http and https URLs")
+    void shouldAcceptHttpUrls(final String url) {
+        // When
+        final Set<ConstraintViolation<CreateUrlRequest>> violations = validator.validate(new CreateUrlRequest(url, null, null));
+
+        // Then
+        assertThat(violations).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ftp://example.com/file", "file:///etc/passwd", "jar:file:/app.jar!/", "not a url"})
+    @DisplayName("Should reject URLs with any other protocol")
+    void shouldRejectOtherProtocols(final String url) {
+        // When
+        final Set<ConstraintViolation<CreateUrlRequest>> violations = validator.validate(new CreateUrlRequest(url, null, null));
+
+        // Then
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString()).containsExactly("url");
+    }
+}
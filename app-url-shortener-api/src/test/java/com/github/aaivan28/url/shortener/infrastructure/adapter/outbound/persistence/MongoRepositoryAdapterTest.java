@@ -1,18 +1,29 @@
 package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
 
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyFilterProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.filter.KeyFilter;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index.UrlIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.convert.ConversionService;
+import org.springframework.dao.DuplicateKeyException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,16 +31,22 @@ import static org.mockito.Mockito.when;
 class MongoRepositoryAdapterTest {
 
     @Mock
-    private ConversionService conversionService;
+    private UrlRedirectReader redirectReader;
 
     @Mock
     private UrlMongoRepository urlMongoRepository;
 
+    @Mock
+    private UrlIndex urlIndex;
+
+    private KeyFilter keyFilter;
+
     private MongoRepositoryAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new MongoRepositoryAdapter(conversionService, urlMongoRepository);
+        keyFilter = new KeyFilter(new KeyFilterProperties(true, 1000, 0.01, 1000, Duration.ofSeconds(30)));
+        adapter = new MongoRepositoryAdapter(redirectReader, urlMongoRepository, keyFilter, urlIndex);
     }
 
     @Test
@@ -48,36 +65,49 @@ class MongoRepositoryAdapterTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(urlMongoRepository.findByKey(urlKey)).thenReturn(Optional.of(document));
-        when(conversionService.convert(document, String.class)).thenReturn(expectedUrl);
+        when(redirectReader.read(urlKey)).thenReturn(document);
 
         // When
-        final Optional<String> result = adapter.getUrl(urlKey);
+        final UrlLookup result = adapter.getUrl(urlKey);
 
         // Then
-        assertThat(result).isPresent().contains(expectedUrl);
-        verify(urlMongoRepository).findByKey(urlKey);
-        verify(conversionService).convert(document, String.class);
+        assertThat(result).isEqualTo(UrlLookup.found(expectedUrl));
+        verify(redirectReader).read(urlKey);
     }
 
     @Test
-    @DisplayName("Should return empty when document does not exist")
-    void shouldReturnEmptyWhenDocumentDoesNotExist() {
+    @DisplayName("Should answer from the url index without reading the cache")
+    void shouldAnswerFromUrlIndexWithoutReadingCache() {
+        // Given
+        final String urlKey = "abc123";
+        when(urlIndex.lookup(urlKey)).thenReturn(UrlLookup.found("https://example.com", RedirectType.PERMANENT_REDIRECT));
+
+        // When
+        final UrlLookup result = adapter.getUrl(urlKey);
+
+        // Then
+        assertThat(result).isEqualTo(UrlLookup.found("https://example.com", RedirectType.PERMANENT_REDIRECT));
+        verifyNoInteractions(redirectReader);
+    }
+
+    @Test
+    @DisplayName("Should return not found when document does not exist")
+    void shouldReturnNotFoundWhenDocumentDoesNotExist() {
         // Given
         final String urlKey = "nonexistent";
-        when(urlMongoRepository.findByKey(urlKey)).thenReturn(Optional.empty());
+        when(redirectReader.read(urlKey)).thenReturn(null);
 
         // When
-        final Optional<String> result = adapter.getUrl(urlKey);
+        final UrlLookup result = adapter.getUrl(urlKey);
 
         // Then
-        assertThat(result).isEmpty();
-        verify(urlMongoRepository).findByKey(urlKey);
+        assertThat(result).isEqualTo(UrlLookup.notFound());
+        verify(redirectReader).read(urlKey);
     }
 
     @Test
-    @DisplayName("Should return empty when document is disabled")
-    void shouldReturnEmptyWhenDocumentIsDisabled() {
+    @DisplayName("Should return disabled when document is disabled")
+    void shouldReturnDisabledWhenDocumentIsDisabled() {
         // Given
         final String urlKey = "disabled123";
         final UrlDocument document = UrlDocument.builder()
@@ -90,14 +120,14 @@ class MongoRepositoryAdapterTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(urlMongoRepository.findByKey(urlKey)).thenReturn(Optional.of(document));
+        when(redirectReader.read(urlKey)).thenReturn(document);
 
         // When
-        final Optional<String> result = adapter.getUrl(urlKey);
+        final UrlLookup result = adapter.getUrl(urlKey);
 
         // Then
-        assertThat(result).isEmpty();
-        verify(urlMongoRepository).findByKey(urlKey);
+        assertThat(result).isEqualTo(UrlLookup.disabled());
+        verify(redirectReader).read(urlKey);
     }
 
     @Test
@@ -116,16 +146,14 @@ class MongoRepositoryAdapterTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(urlMongoRepository.findByKey(urlKey)).thenReturn(Optional.of(document));
-        when(conversionService.convert(document, String.class)).thenReturn(expectedUrl);
+        when(redirectReader.read(urlKey)).thenReturn(document);
 
         // When
-        final Optional<String> result = adapter.getUrl(urlKey);
+        final UrlLookup result = adapter.getUrl(urlKey);
 
         // Then
-        assertThat(result).isPresent().contains(expectedUrl);
-        verify(urlMongoRepository).findByKey(urlKey);
-        verify(conversionService).convert(document, String.class);
+        assertThat(result).isEqualTo(UrlLookup.found(expectedUrl));
+        verify(redirectReader).read(urlKey);
     }
 
     @Test
@@ -144,16 +172,14 @@ class MongoRepositoryAdapterTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(urlMongoRepository.findByKey(urlKey)).thenReturn(Optional.of(document));
-        when(conversionService.convert(document, String.class)).thenReturn(expectedUrl);
+        when(redirectReader.read(urlKey)).thenReturn(document);
 
         // When
-        final Optional<String> result = adapter.getUrl(urlKey);
+        final UrlLookup result = adapter.getUrl(urlKey);
 
         // Then
-        assertThat(result).isPresent().contains(expectedUrl);
-        verify(urlMongoRepository).findByKey(urlKey);
-        verify(conversionService).convert(document, String.class);
+        assertThat(result).isEqualTo(UrlLookup.found(expectedUrl));
+        verify(redirectReader).read(urlKey);
     }
 
     @Test
@@ -173,15 +199,102 @@ class MongoRepositoryAdapterTest {
                 .updatedAt(now)
                 .build();
 
-        when(urlMongoRepository.findByKey(urlKey)).thenReturn(Optional.of(document));
-        when(conversionService.convert(document, String.class)).thenReturn(expectedUrl);
+        when(redirectReader.read(urlKey)).thenReturn(document);
+
+        // When
+        final UrlLookup result = adapter.getUrl(urlKey);
+
+        // Then
+        assertThat(result).isEqualTo(UrlLookup.found(expectedUrl));
+        verify(redirectReader).read(urlKey);
+    }
+
+    @Test
+    @DisplayName("Should redirect with the status stored for the URL")
+    void shouldRedirectWithStoredStatus() {
+        // Given
+        final String urlKey = "moved";
+        final UrlDocument document = UrlDocument.builder()
+                .url("https://example.com")
+                .enabled(true)
+                .redirectStatus(301)
+                .build();
+        when(redirectReader.read(urlKey)).thenReturn(document);
+
+        // When
+        final UrlLookup result = adapter.getUrl(urlKey);
+
+        // Then
+        assertThat(result).isEqualTo(UrlLookup.found("https://example.com", RedirectType.MOVED_PERMANENTLY));
+    }
+
+    @Test
+    @DisplayName("Should not query repository when key is unknown to the key filter")
+    void shouldNotQueryRepositoryWhenKeyIsUnknown() {
+        // Given
+        keyFilter.rebuild(Stream.of("abc123", "def456"));
+
+        // When
+        final UrlLookup result = adapter.getUrl("scanner");
+
+        // Then
+        assertThat(result).isEqualTo(UrlLookup.notFound());
+        verifyNoInteractions(redirectReader);
+    }
+
+    @Test
+    @DisplayName("Should remember missing keys until they are registered")
+    void shouldRememberMissingKeysUntilRegistered() {
+        // Given
+        final String urlKey = "late123";
+        final UrlDocument document = UrlDocument.builder()
+                .id("id123")
+                .key(urlKey)
+                .url("https://example.com")
+                .enabled(true)
+                .build();
+        when(redirectReader.read(urlKey)).thenReturn(null, document);
+
+        // When
+        final UrlLookup first = adapter.getUrl(urlKey);
+        final UrlLookup second = adapter.getUrl(urlKey);
+        keyFilter.registerKey(urlKey);
+        final UrlLookup third = adapter.getUrl(urlKey);
+
+        // Then
+        assertThat(first).isEqualTo(UrlLookup.notFound());
+        assertThat(second).isEqualTo(UrlLookup.notFound());
+        assertThat(third).isEqualTo(UrlLookup.found("https://example.com"));
+        verify(redirectReader, times(2)).read(urlKey);
+    }
+
+    @Test
+    @DisplayName("Should store new URLs enabled and evict their key once saved")
+    void shouldStoreNewUrlsEnabled() {
+        // When
+        final boolean created = adapter.createUrl("100000", "https://example.com", "description", RedirectType.FOUND);
+
+        // Then
+        assertThat(created).isTrue();
+        verify(urlMongoRepository).save(argThat(document -> document.isEnabled()
+                && "100000".equals(document.getKey())
+                && "https://example.com".equals(document.getUrl())
+                && document.getRedirectStatus() == 302
+                && document.getCreatedAt() != null));
+        verify(redirectReader).evict("100000");
+    }
+
+    @Test
+    @DisplayName("Should report keys already taken without evicting them")
+    void shouldReportKeysAlreadyTaken() {
+        // Given
+        when(urlMongoRepository.save(any(UrlDocument.class))).thenThrow(new DuplicateKeyException("duplicate key"));
 
         // When
-        final Optional<String> result = adapter.getUrl(urlKey);
+        final boolean created = adapter.createUrl("100000", "https://example.com", "description", RedirectType.FOUND);
 
         // Then
-        assertThat(result).isPresent().contains(expectedUrl);
-        verify(urlMongoRepository).findByKey(urlKey);
-        verify(conversionService).convert(document, String.class);
+        assertThat(created).isFalse();
+        verify(redirectReader, never()).evict(any());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.MongoIndexProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedirectIndexCheck Tests")
+class RedirectIndexCheckTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Test
+    @DisplayName("Should pass when the redirect index exists")
+    void shouldPassWhenRedirectIndexExists() {
+        // Given
+        when(mongoTemplate.indexOps(UrlDocument.class)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(index("_id_"), index(UrlDocument.REDIRECT_INDEX)));
+
+        // When / Then
+        assertThatCode(() -> check(false).afterPropertiesSet()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should stop the startup when the hinted redirect index is missing")
+    void shouldFailWhenRedirectIndexIsMissing() {
+        // Given
+        when(mongoTemplate.indexOps(UrlDocument.class)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(index("_id_"), index("key")));
+
+        // When / Then
+        assertThatThrownBy(() -> check(false).afterPropertiesSet())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(UrlDocument.REDIRECT_INDEX)
+                .hasMessageContaining("auto-index-creation");
+    }
+
+    @Test
+    @DisplayName("Should drop the replaced redirect index only when enabled")
+    void shouldDropReplacedIndexOnlyWhenEnabled() {
+        // Given
+        when(mongoTemplate.indexOps(UrlDocument.class)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(index(UrlDocument.REDIRECT_INDEX),
+                index(RedirectIndexCheck.REPLACED_REDIRECT_INDEX)));
+
+        // When
+        check(false).afterPropertiesSet();
+        check(true).afterPropertiesSet();
+
+        // Then
+        verify(indexOperations, times(1)).dropIndex(RedirectIndexCheck.REPLACED_REDIRECT_INDEX);
+    }
+
+    private RedirectIndexCheck check(final boolean dropReplaced) {
+        return new RedirectIndexCheck(mongoTemplate, new MongoIndexProperties(dropReplaced));
+    }
+
+    private static IndexInfo index(final String name) {
+        return new IndexInfo(List.of(), name, false, false, null);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueFormat;
+import com.github.aaivan28.cache.redis.codec.CompactRedisSerializer;
+import com.github.aaivan28.cache.redis.contract.CachedUrl;
+import com.github.aaivan28.cache.redis.contract.CachedUrlCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UrlDocumentCacheCodec Tests")
+class UrlDocumentCacheCodecTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(),
+            CacheValueFormat.COMPACT, List.of(new UrlDocumentCacheCodec()));
+
+    // How the admin API reads and writes the same cache
+    private final CompactRedisSerializer contractSerializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(),
+            CacheValueFormat.COMPACT, List.of(new CachedUrlCodec()));
+
+    @Test
+    @DisplayName("Should keep only the URL and the enabled flag")
+    void shouldKeepOnlyUrlAndEnabledFlag() {
+        // Given
+        final UrlDocument urlDocument = UrlDocument.builder()
+                .id("id")
+                .key("abc123")
+                .description("description")
+                .url("https://example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .enabled(true)
+                .build();
+
+        // When
+        final Object cached = serializer.deserialize(serializer.serialize(urlDocument));
+
+        // Then
+        assertThat(cached).isEqualTo(UrlDocument.builder().url("https://example.com").enabled(true).build());
+    }
+
+    @Test
+    @DisplayName("Should keep disabled documents without URL")
+    void shouldKeepDisabledDocumentsWithoutUrl() {
+        // Given
+        final UrlDocument urlDocument = UrlDocument.builder().key("abc123").enabled(false).build();
+
+        // When
+        final Object cached = serializer.deserialize(serializer.serialize(urlDocument));
+
+        // Then
+        assertThat(cached).isEqualTo(UrlDocument.builder().enabled(false).build());
+    }
+
+    @Test
+    @DisplayName("Should keep the redirect status when the URL has one")
+    void shouldKeepRedirectStatus() {
+        // Given
+        final UrlDocument urlDocument = UrlDocument.builder().url("https://example.com").enabled(true).redirectStatus(308).build();
+
+        // When
+        final Object cached = serializer.deserialize(serializer.serialize(urlDocument));
+
+        // Then
+        assertThat(cached).isEqualTo(urlDocument);
+    }
+
+    @Test
+    @DisplayName("Should write the same bytes as the shared cache contract")
+    void shouldWriteSameBytesAsSharedContract() {
+        // Given
+        final UrlDocument urlDocument = UrlDocument.builder().key("abc123").url("https://example.com").enabled(true).redirectStatus(301).build();
+
+        // When
+        final byte[] bytes = serializer.serialize(urlDocument);
+
+        // Then
+        assertThat(bytes).isEqualTo(contractSerializer.serialize(new CachedUrl("https://example.com", true, 301)));
+        assertThat(contractSerializer.deserialize(bytes)).isEqualTo(new CachedUrl("https://example.com", true, 301));
+    }
+
+    @Test
+    @DisplayName("Should read entries written by the admin API as documents")
+    void shouldReadEntriesWrittenByAdminApi() {
+        // Given
+        final byte[] bytes = contractSerializer.serialize(new CachedUrl("https://example.com", false, null));
+
+        // When
+        final Object cached = serializer.deserialize(bytes);
+
+        // Then
+        assertThat(cached).isEqualTo(UrlDocument.builder().url("https://example.com").enabled(false).build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UrlMongoRepository Tests")
+class UrlMongoRepositoryTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:4.4.10-focal");
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+    private static UrlMongoRepository repository;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "url-shortener");
+
+        final IndexOperations indexOperations = mongoTemplate.indexOps(UrlDocument.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(UrlDocument.class)
+                .forEach(indexOperations::createIndex);
+
+        mongoTemplate.insert(UrlDocument.builder()
+                .key("abc123")
+                .description("description")
+                .url("https://example.com")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .enabled(true)
+                .build());
+
+        repository = new MongoRepositoryFactory(mongoTemplate).getRepository(UrlMongoRepository.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("Should return only the URL and the enabled flag")
+    void shouldReturnOnlyUrlAndEnabledFlag() {
+        // When
+        final UrlDocument urlDocument = repository.findByKey("abc123").orElseThrow();
+
+        // Then
+        assertThat(urlDocument).isEqualTo(UrlDocument.builder().url("https://example.com").enabled(true).build());
+    }
+
+    @Test
+    @DisplayName("Should serve the repository lookup from the hinted index without reading documents")
+    void shouldServeRedirectLookupFromIndex() {
+        // Given
+        final MongoDatabase database = mongoTemplate.getDb();
+        database.runCommand(new Document("profile", 2));
+
+        // When
+        try {
+            repository.findByKey("abc123");
+        } finally {
+            database.runCommand(new Document("profile", 0));
+        }
+
+        // Then
+        final Document profile = database.getCollection("system.profile")
+                .find(new Document("ns", database.getName() + "." + UrlDocument.COLLECTION_NAME).append("op", "query"))
+                .sort(new Document("ts", -1))
+                .first();
+        assertThat(profile).isNotNull();
+        final Document command = profile.get("command", Document.class);
+        assertThat(command.get("hint")).isEqualTo(UrlDocument.REDIRECT_INDEX);
+        assertThat(command.get("projection", Document.class)).isEqualTo(Document.parse(UrlMongoRepository.REDIRECT_FIELDS));
+        assertThat(profile.get("nreturned", Number.class).intValue()).isEqualTo(1);
+        assertThat(profile.get("docsExamined", Number.class).intValue()).isZero();
+        assertThat(profile.getString("planSummary")).isEqualTo("IXSCAN { key: 1, url: 1, enabled: 1, redirectStatus: 1 }");
+    }
+}
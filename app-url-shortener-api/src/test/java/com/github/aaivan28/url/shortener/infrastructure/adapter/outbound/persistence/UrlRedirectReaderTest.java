@@ -0,0 +1,92 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.near.TwoLevelCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UrlRedirectReader Tests")
+class UrlRedirectReaderTest {
+
+    @Mock
+    private UrlMongoRepository urlMongoRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private UrlRedirectReader reader;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(UrlMongoRepository.CACHE_NAME)).thenReturn(new TwoLevelCache(
+                new ConcurrentMapCache(UrlMongoRepository.CACHE_NAME, false),
+                Caffeine.newBuilder().maximumSize(10).build(),
+                invalidationPublisher));
+        reader = new UrlRedirectReader(urlMongoRepository, cacheManager);
+    }
+
+    @Test
+    @DisplayName("Should query MongoDB once and answer later reads from the cache")
+    void shouldAnswerLaterReadsFromCache() {
+        // Given
+        final UrlDocument document = UrlDocument.builder().url("https://example.com").enabled(true).build();
+        when(urlMongoRepository.findByKey("abc123")).thenReturn(Optional.of(document));
+
+        // When
+        final UrlDocument first = reader.read("abc123");
+        final UrlDocument second = reader.read("abc123");
+
+        // Then
+        assertThat(first).isEqualTo(document);
+        assertThat(second).isEqualTo(document);
+        verify(urlMongoRepository, times(1)).findByKey("abc123");
+    }
+
+    @Test
+    @DisplayName("Should not cache keys without a URL")
+    void shouldNotCacheMissingKeys() {
+        // Given
+        when(urlMongoRepository.findByKey("nonexistent")).thenReturn(Optional.empty());
+
+        // When
+        final UrlDocument first = reader.read("nonexistent");
+        final UrlDocument second = reader.read("nonexistent");
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(urlMongoRepository, times(2)).findByKey("nonexistent");
+    }
+
+    @Test
+    @DisplayName("Should rethrow repository failures unwrapped")
+    void shouldRethrowRepositoryFailuresUnwrapped() {
+        // Given
+        when(urlMongoRepository.findByKey("abc123")).thenThrow(new DataAccessResourceFailureException("timeout"));
+
+        // When / Then
+        assertThatThrownBy(() -> reader.read("abc123"))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessage("timeout");
+    }
+}
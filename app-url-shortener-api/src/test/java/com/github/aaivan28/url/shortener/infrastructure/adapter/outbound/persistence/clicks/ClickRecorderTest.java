@@ -0,0 +1,124 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.clicks;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.ClickAnalyticsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClickRecorder Tests")
+class ClickRecorderTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-01-01T12:00:30Z"), ZoneOffset.UTC);
+    private static final long MINUTE = CLOCK.millis() / 60_000;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations buckets;
+
+    @Mock
+    private BulkOperations totals;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should write one upsert per key and minute with the aggregated count")
+    void shouldAggregateClicksPerKeyAndMinute() {
+        // Given
+        final ClickRecorder recorder = recorder(16);
+        stubBulkOperations();
+        recorder.record("a");
+        recorder.record("b");
+        recorder.record("a");
+
+        // When
+        recorder.flush();
+
+        // Then
+        final ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        final ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(buckets, times(2)).upsert(queries.capture(), updates.capture());
+        assertThat(queries.getAllValues()).extracting(query -> query.getQueryObject().get("_id"))
+                .containsExactlyInAnyOrder(ClickBucketDocument.id("a", MINUTE), ClickBucketDocument.id("b", MINUTE));
+        assertThat(updates.getAllValues()).extracting(update -> update.getUpdateObject().get("$inc", Document.class).get("count"))
+                .containsExactlyInAnyOrder(2L, 1L);
+        verify(totals, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(buckets).execute();
+        verify(totals).execute();
+        assertThat(meterRegistry.get(ClickRecorder.BUFFERED_METER).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop and count clicks when the buffer is full")
+    void shouldDropClicksWhenBufferIsFull() {
+        // Given
+        final ClickRecorder recorder = recorder(2);
+
+        // When
+        recorder.record("a");
+        recorder.record("b");
+        recorder.record("c");
+
+        // Then
+        assertThat(meterRegistry.get(ClickRecorder.DROPPED_METER).tag("reason", "overflow").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ClickRecorder.BUFFERED_METER).gauge().value()).isEqualTo(2);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should count the clicks of a failed write as dropped without retrying them")
+    void shouldCountFailedWrites() {
+        // Given
+        final ClickRecorder recorder = recorder(16);
+        stubBulkOperations();
+        when(buckets.execute()).thenThrow(new DataAccessResourceFailureException("down"));
+        recorder.record("a");
+        recorder.record("a");
+
+        // When
+        recorder.flush();
+        recorder.flush();
+
+        // Then
+        verify(buckets).execute();
+        assertThat(meterRegistry.get(ClickRecorder.DROPPED_METER).tag("reason", "write-failure").functionCounter().count()).isEqualTo(2);
+    }
+
+    private ClickRecorder recorder(final int capacity) {
+        return new ClickRecorder(mongoTemplate, new ClickAnalyticsProperties(true, capacity, null, 100), meterRegistry, CLOCK);
+    }
+
+    private void stubBulkOperations() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClickBucketDocument.class)).thenReturn(buckets);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ClickTotalDocument.class)).thenReturn(totals);
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.filter;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationEvent;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyFilterProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeyFilter Tests")
+class KeyFilterTest {
+
+    private KeyFilter keyFilter;
+
+    @BeforeEach
+    void setUp() {
+        keyFilter = new KeyFilter(properties(true));
+    }
+
+    @Test
+    @DisplayName("Should let every key through before the first rebuild")
+    void shouldLetEveryKeyThroughBeforeFirstRebuild() {
+        // When
+        final boolean result = keyFilter.mightExist("abc123");
+
+        // Then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject keys missing from the snapshot")
+    void shouldRejectKeysMissingFromSnapshot() {
+        // When
+        keyFilter.rebuild(Stream.of("abc123"));
+
+        // Then
+        assertThat(keyFilter.mightExist("abc123")).isTrue();
+        assertThat(keyFilter.mightExist("def456")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep keys registered between the start of a rebuild and the first document after the swap")
+    void shouldKeepKeysRegisteredBeforeFirstDocument() {
+        // Given
+        keyFilter.rebuild(Stream.of("abc123"));
+
+        // When
+        try (KeyFilter.Rebuild rebuild = keyFilter.beginRebuild()) {
+            keyFilter.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, "def456"));
+            keyFilter.rebuild(rebuild, Stream.of("abc123"));
+        }
+
+        // Then
+        assertThat(keyFilter.mightExist("def456")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep keys registered while the snapshot is read after the swap")
+    void shouldKeepKeysRegisteredWhileRebuilding() {
+        // Given
+        final Stream<String> urlKeys = Stream.of("abc123", "ghi789")
+                .peek(key -> {
+                    if (key.equals("ghi789")) {
+                        keyFilter.registerKey("def456");
+                    }
+                });
+
+        // When
+        keyFilter.rebuild(urlKeys);
+
+        // Then
+        assertThat(keyFilter.mightExist("def456")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop collecting keys once the rebuild is closed")
+    void shouldStopCollectingKeysOnceClosed() {
+        // Given
+        final KeyFilter.Rebuild abandoned = keyFilter.beginRebuild();
+        abandoned.close();
+        keyFilter.registerKey("def456");
+
+        // When
+        try (KeyFilter.Rebuild rebuild = keyFilter.beginRebuild()) {
+            keyFilter.rebuild(rebuild, Stream.of("abc123"));
+        }
+
+        // Then
+        assertThat(keyFilter.mightExist("def456")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject recently missing keys until they are invalidated")
+    void shouldRejectMissingKeysUntilInvalidated() {
+        // Given
+        keyFilter.registerMissing("abc123");
+        assertThat(keyFilter.mightExist("abc123")).isFalse();
+
+        // When
+        keyFilter.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, "abc123"));
+
+        // Then
+        assertThat(keyFilter.mightExist("abc123")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should forget every missing key when the cache is cleared")
+    void shouldForgetMissingKeysWhenCacheCleared() {
+        // Given
+        keyFilter.registerMissing("abc123");
+        keyFilter.registerMissing("def456");
+
+        // When
+        keyFilter.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, null));
+
+        // Then
+        assertThat(keyFilter.mightExist("abc123")).isTrue();
+        assertThat(keyFilter.mightExist("def456")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should ignore invalidations of other caches")
+    void shouldIgnoreOtherCaches() {
+        // Given
+        keyFilter.registerMissing("abc123");
+
+        // When
+        keyFilter.onCacheInvalidation(new CacheInvalidationEvent("other", "abc123"));
+
+        // Then
+        assertThat(keyFilter.mightExist("abc123")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should let every key through when disabled")
+    void shouldLetEveryKeyThroughWhenDisabled() {
+        // Given
+        final KeyFilter disabled = new KeyFilter(properties(false));
+        disabled.rebuild(Stream.of("abc123"));
+        disabled.registerMissing("def456");
+
+        // When
+        final boolean result = disabled.mightExist("def456");
+
+        // Then
+        assertThat(result).isTrue();
+    }
+
+    private static KeyFilterProperties properties(final boolean enabled) {
+        return new KeyFilterProperties(enabled, 1000, 0.01, 1000, Duration.ofSeconds(30));
+    }
+}
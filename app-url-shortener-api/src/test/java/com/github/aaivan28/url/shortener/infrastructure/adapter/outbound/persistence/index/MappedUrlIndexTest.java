@@ -0,0 +1,100 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedUrlIndex Tests")
+class MappedUrlIndexTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should resolve every written key with its url, status and enabled flag")
+    void shouldResolveEveryWrittenKey() throws IOException {
+        // Given
+        final List<UrlDocument> documents = List.of(
+                document("abc123", "https://example.com/a", true, null),
+                document("def456", "https://example.com/ñ", true, 308),
+                document("ghi789", "https://example.com/c", false, 301));
+
+        // When
+        final MappedUrlIndex index = MappedUrlIndex.write(directory.resolve("index.bin"), documents.iterator(), documents.size());
+
+        // Then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.lookup("abc123")).isEqualTo(UrlLookup.found("https://example.com/a"));
+        assertThat(index.lookup("def456")).isEqualTo(UrlLookup.found("https://example.com/ñ", RedirectType.PERMANENT_REDIRECT));
+        assertThat(index.lookup("ghi789")).isEqualTo(UrlLookup.disabled());
+        assertThat(index.lookup("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep records inside chunk boundaries when the file spans several mappings")
+    void shouldKeepRecordsInsideChunkBoundaries() throws IOException {
+        // Given
+        final List<UrlDocument> documents = IntStream.range(0, 5_000)
+                .mapToObj(i -> document("key" + i, "https://example.com/" + "x".repeat(i % 40) + i, true, null))
+                .toList();
+
+        // When
+        final MappedUrlIndex index = MappedUrlIndex.write(directory.resolve("index.bin"), documents.iterator(), documents.size(), 12);
+
+        // Then
+        assertThat(IntStream.range(0, 5_000).allMatch(i -> index.lookup("key" + i)
+                .equals(UrlLookup.found("https://example.com/" + "x".repeat(i % 40) + i)))).isTrue();
+        assertThat(index.lookup("key5000")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should skip keys it cannot store so they resolve through the regular path")
+    void shouldSkipKeysItCannotStore() throws IOException {
+        // Given
+        final List<UrlDocument> documents = List.of(
+                document("clé", "https://example.com/a", true, null),
+                document("k".repeat(256), "https://example.com/b", true, null),
+                document("abc123", "https://example.com/c", true, null));
+
+        // When
+        final MappedUrlIndex index = MappedUrlIndex.write(directory.resolve("index.bin"), documents.iterator(), documents.size());
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.lookup("clé")).isNull();
+        assertThat(index.lookup("k".repeat(256))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail instead of overfilling the hash table when the estimate is too low")
+    void shouldFailWhenEstimateIsTooLow() {
+        // Given
+        final List<UrlDocument> documents = IntStream.range(0, 2_000)
+                .mapToObj(i -> document("key" + i, "https://example.com/" + i, true, null))
+                .toList();
+
+        // When / Then
+        assertThatThrownBy(() -> MappedUrlIndex.write(directory.resolve("index.bin"), documents.iterator(), 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static UrlDocument document(final String key, final String url, final boolean enabled, final Integer redirectStatus) {
+        return UrlDocument.builder()
+                .key(key)
+                .url(url)
+                .enabled(enabled)
+                .redirectStatus(redirectStatus)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationEvent;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlIndexProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UrlIndexLoader Tests")
+class UrlIndexLoaderTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Test
+    @DisplayName("Should keep keys invalidated between opening the cursor and rebuilding stale")
+    void shouldKeepKeysInvalidatedAfterCursorOpenedStale() {
+        // Given
+        final UrlIndexProperties properties = new UrlIndexProperties(true, directory, 100);
+        final UrlIndex urlIndex = new UrlIndex(properties);
+        when(mongoTemplate.stream(any(Query.class), eq(Document.class), eq(UrlDocument.COLLECTION_NAME))).thenAnswer(invocation -> {
+            urlIndex.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, "abc123"));
+            return Stream.of(document("abc123"), document("def456"));
+        });
+        when(mongoTemplate.estimatedCount(UrlDocument.COLLECTION_NAME)).thenReturn(2L);
+
+        // When
+        new UrlIndexLoader(urlIndex, properties, mongoTemplate).load();
+
+        // Then
+        assertThat(urlIndex.lookup("abc123")).isNull();
+        assertThat(urlIndex.lookup("def456")).isNotNull();
+    }
+
+    private static Document document(final String key) {
+        return new Document("key", key).append("url", "https://example.com/" + key).append("enabled", true);
+    }
+}
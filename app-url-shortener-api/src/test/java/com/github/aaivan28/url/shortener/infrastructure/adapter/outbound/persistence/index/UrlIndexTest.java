@@ -0,0 +1,186 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationEvent;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlIndexProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UrlIndex Tests")
+class UrlIndexTest {
+
+    @TempDir
+    private Path directory;
+
+    private UrlIndex urlIndex;
+
+    @BeforeEach
+    void setUp() {
+        urlIndex = new UrlIndex(new UrlIndexProperties(true, directory, 2));
+        UrlIndex.popHit();
+    }
+
+    @Test
+    @DisplayName("Should not answer before the first rebuild")
+    void shouldNotAnswerBeforeFirstRebuild() {
+        // When
+        final UrlLookup result = urlIndex.lookup("abc123");
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(UrlIndex.popHit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should answer from the snapshot and record the hit")
+    void shouldAnswerFromSnapshot() throws IOException {
+        // Given
+        urlIndex.rebuild(Stream.of(document("abc123")), 1);
+
+        // When
+        final UrlLookup result = urlIndex.lookup("abc123");
+
+        // Then
+        assertThat(result).isEqualTo(UrlLookup.found("https://example.com/abc123"));
+        assertThat(UrlIndex.popHit()).isTrue();
+        assertThat(UrlIndex.popHit()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should stop answering keys invalidated after the snapshot")
+    void shouldStopAnsweringInvalidatedKeys() throws IOException {
+        // Given
+        urlIndex.rebuild(Stream.of(document("abc123"), document("def456")), 2);
+
+        // When
+        urlIndex.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, "abc123"));
+
+        // Then
+        assertThat(urlIndex.lookup("abc123")).isNull();
+        assertThat(urlIndex.lookup("def456")).isEqualTo(UrlLookup.found("https://example.com/def456"));
+    }
+
+    @Test
+    @DisplayName("Should keep keys invalidated while rebuilding stale after the swap")
+    void shouldKeepKeysInvalidatedWhileRebuildingStale() throws IOException {
+        // Given
+        final Stream<UrlDocument> documents = Stream.of("abc123", "def456")
+                .peek(key -> {
+                    if (key.equals("def456")) {
+                        urlIndex.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, "abc123"));
+                    }
+                })
+                .map(UrlIndexTest::document);
+
+        // When
+        urlIndex.rebuild(documents, 2);
+
+        // Then
+        assertThat(urlIndex.lookup("abc123")).isNull();
+        assertThat(urlIndex.lookup("def456")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should keep keys invalidated between the start of a rebuild and the first document stale")
+    void shouldKeepKeysInvalidatedBeforeFirstDocumentStale() throws IOException {
+        // Given
+        try (UrlIndex.Rebuild rebuild = urlIndex.beginRebuild()) {
+            urlIndex.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, "abc123"));
+
+            // When
+            urlIndex.rebuild(rebuild, Stream.of(document("abc123"), document("def456")), 2);
+        }
+
+        // Then
+        assertThat(urlIndex.lookup("abc123")).isNull();
+        assertThat(urlIndex.lookup("def456")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should discard a rebuild started before the cache was cleared")
+    void shouldDiscardRebuildStartedBeforeClear() throws IOException {
+        // Given
+        try (UrlIndex.Rebuild rebuild = urlIndex.beginRebuild()) {
+            urlIndex.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, null));
+
+            // When
+            urlIndex.rebuild(rebuild, Stream.of(document("abc123")), 1);
+        }
+
+        // Then
+        assertThat(urlIndex.lookup("abc123")).isNull();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop the snapshot when too many keys changed or the cache was cleared")
+    void shouldDropSnapshotWhenTooManyKeysChangedOrCacheCleared() throws IOException {
+        // Given
+        urlIndex.rebuild(Stream.of(document("abc123"), document("def456")), 2);
+
+        // When
+        Stream.of("a", "b", "c").forEach(key ->
+                urlIndex.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, key)));
+
+        // Then
+        assertThat(urlIndex.lookup("def456")).isNull();
+
+        // When
+        urlIndex.rebuild(Stream.of(document("def456")), 1);
+        urlIndex.onCacheInvalidation(new CacheInvalidationEvent(UrlMongoRepository.CACHE_NAME, null));
+
+        // Then
+        assertThat(urlIndex.lookup("def456")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore invalidations of other caches")
+    void shouldIgnoreInvalidationsOfOtherCaches() throws IOException {
+        // Given
+        urlIndex.rebuild(Stream.of(document("abc123")), 1);
+
+        // When
+        urlIndex.onCacheInvalidation(new CacheInvalidationEvent("other", "abc123"));
+
+        // Then
+        assertThat(urlIndex.lookup("abc123")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should delete the previous snapshot file after a rebuild")
+    void shouldDeletePreviousSnapshotFile() throws IOException {
+        // Given
+        Files.createFile(directory.resolve(UrlIndex.FILE_PREFIX + "1.bin"));
+
+        // When
+        urlIndex.rebuild(Stream.of(document("abc123")), 1);
+
+        // Then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()))
+                    .singleElement()
+                    .isNotEqualTo(UrlIndex.FILE_PREFIX + "1.bin");
+        }
+    }
+
+    private static UrlDocument document(final String key) {
+        return UrlDocument.builder()
+                .key(key)
+                .url("https://example.com/" + key)
+                .enabled(true)
+                .build();
+    }
+}
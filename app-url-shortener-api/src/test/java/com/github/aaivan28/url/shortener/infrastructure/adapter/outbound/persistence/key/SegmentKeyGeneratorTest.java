@@ -0,0 +1,99 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.key;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyGeneratorProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SegmentKeyGenerator Tests")
+class SegmentKeyGeneratorTest {
+
+    @Test
+    @DisplayName("Should encode ids in base62")
+    void shouldEncodeIdsInBase62() {
+        // When / Then
+        assertThat(Base62.encode(0)).isEqualTo("0");
+        assertThat(Base62.encode(61)).isEqualTo("z");
+        assertThat(Base62.encode(62)).isEqualTo("10");
+        assertThat(Base62.encode(916_132_832L)).isEqualTo("100000");
+        assertThat(Base62.encode(Long.MAX_VALUE)).hasSize(11);
+    }
+
+    @Test
+    @DisplayName("Should lease one segment per segment size keys")
+    void shouldLeaseOneSegmentPerSegmentSize() {
+        // Given
+        final AtomicInteger leases = new AtomicInteger();
+        final AtomicLong sequence = new AtomicLong();
+        final SegmentKeyGenerator generator = new SegmentKeyGenerator(size -> {
+            leases.incrementAndGet();
+            return sequence.getAndAdd(size);
+        }, new KeyGeneratorProperties("url", 100, 0));
+
+        // When
+        for (int i = 0; i < 250; i++) {
+            generator.nextKey();
+        }
+
+        // Then
+        assertThat(leases.get()).isEqualTo(3);
+        assertThat(generator.nextKey()).isEqualTo(Base62.encode(250));
+    }
+
+    @Test
+    @DisplayName("Should never hand out the same key from concurrent nodes")
+    void shouldNeverHandOutDuplicateKeysAcrossNodes() throws Exception {
+        // Given
+        final int nodes = 4;
+        final int threadsPerNode = 8;
+        final int keysPerThread = 5_000;
+        // Stands in for the shared sequence document, $inc is atomic
+        final AtomicLong sequence = new AtomicLong();
+        final KeySegmentAllocator allocator = size -> {
+            Thread.yield();
+            return sequence.getAndAdd(size);
+        };
+        final List<SegmentKeyGenerator> generators = new ArrayList<>();
+        for (int node = 0; node < nodes; node++) {
+            generators.add(new SegmentKeyGenerator(allocator, new KeyGeneratorProperties("url", 97, 916_132_832L)));
+        }
+        final Set<String> keys = ConcurrentHashMap.newKeySet();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(nodes * threadsPerNode)) {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final SegmentKeyGenerator generator : generators) {
+                for (int thread = 0; thread < threadsPerNode; thread++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < keysPerThread; i++) {
+                            keys.add(generator.nextKey());
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(keys).hasSize(nodes * threadsPerNode * keysPerThread);
+        assertThat(keys).allSatisfy(key -> assertThat(key).hasSize(6));
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.sync;
+
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.CacheSyncProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UrlCacheSynchronizer Tests")
+class UrlCacheSynchronizerTest {
+
+    @Mock
+    private RedisCacheBatchOperations cacheBatchOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UrlCacheSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(cacheManager.getCache(UrlMongoRepository.CACHE_NAME)).thenReturn(cache);
+        synchronizer = synchronizer(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Should write the last value of each key and evict the removed ones in one call each")
+    void shouldWriteLastValueOfEachKeyAndEvictRemovedOnes() {
+        // Given
+        final UrlDocument first = UrlDocument.builder().url("https://example.com/1").enabled(true).build();
+        final UrlDocument disabled = UrlDocument.builder().url("https://example.com/1").enabled(false).build();
+        final UrlDocument other = UrlDocument.builder().url("https://example.com/2").enabled(true).redirectStatus(301).build();
+
+        // When
+        synchronizer.apply(List.of(
+                new UrlChange("abc123", first),
+                new UrlChange("def456", other),
+                new UrlChange("abc123", disabled),
+                new UrlChange("ghi789", other),
+                new UrlChange("ghi789", null)));
+
+        // Then
+        verify(cacheBatchOperations).putAll(UrlMongoRepository.CACHE_NAME, Map.of("abc123", disabled, "def456", other));
+        verify(cacheBatchOperations).evictAll(UrlMongoRepository.CACHE_NAME, List.of("ghi789"));
+        assertThat(meterRegistry.get(UrlCacheSynchronizer.CHANGES_METER).tag("operation", "upsert").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(UrlCacheSynchronizer.CHANGES_METER).tag("operation", "evict").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should apply a change again after the delay to overwrite values loaded before it")
+    void shouldApplyChangeAgainAfterDelay() {
+        // Given
+        final UrlCacheSynchronizer reapplying = synchronizer(Duration.ofMillis(50));
+        final UrlDocument disabled = UrlDocument.builder().url("https://example.com/1").enabled(false).build();
+
+        // When
+        reapplying.apply(List.of(new UrlChange("abc123", disabled), new UrlChange("ghi789", null)));
+
+        // Then
+        verify(cacheBatchOperations, timeout(5000).times(2)).putAll(UrlMongoRepository.CACHE_NAME, Map.of("abc123", disabled));
+        verify(cacheBatchOperations, timeout(5000).times(2)).evictAll(UrlMongoRepository.CACHE_NAME, List.of("ghi789"));
+    }
+
+    @Test
+    @DisplayName("Should not apply a change again once a newer change of the key replaced it")
+    void shouldNotApplyReplacedChangeAgain() {
+        // Given
+        final UrlCacheSynchronizer reapplying = synchronizer(Duration.ofMillis(200));
+        final UrlDocument enabled = UrlDocument.builder().url("https://example.com/1").enabled(true).build();
+        final UrlDocument disabled = UrlDocument.builder().url("https://example.com/1").enabled(false).build();
+
+        // When
+        reapplying.apply(List.of(new UrlChange("abc123", enabled)));
+        reapplying.apply(List.of(new UrlChange("abc123", disabled)));
+
+        // Then
+        verify(cacheBatchOperations, timeout(5000).times(2)).putAll(UrlMongoRepository.CACHE_NAME, Map.of("abc123", disabled));
+        verify(cacheBatchOperations, after(300).times(1)).putAll(UrlMongoRepository.CACHE_NAME, Map.of("abc123", enabled));
+    }
+
+    @Test
+    @DisplayName("Should not touch the cache for an empty batch")
+    void shouldNotTouchCacheForEmptyBatch() {
+        // When
+        synchronizer.apply(List.of());
+
+        // Then
+        verifyNoInteractions(cacheBatchOperations);
+    }
+
+    @Test
+    @DisplayName("Should clear the whole url cache")
+    void shouldClearWholeUrlCache() {
+        // When
+        synchronizer.clear();
+
+        // Then
+        verify(cache).clear();
+    }
+
+    private UrlCacheSynchronizer synchronizer(final Duration reapplyDelay) {
+        return new UrlCacheSynchronizer(cacheBatchOperations, cacheManager, new CacheSyncProperties(true, 500, Duration.ofSeconds(1),
+                Duration.ofSeconds(30), Duration.ofSeconds(5), false, reapplyDelay), meterRegistry);
+    }
+}
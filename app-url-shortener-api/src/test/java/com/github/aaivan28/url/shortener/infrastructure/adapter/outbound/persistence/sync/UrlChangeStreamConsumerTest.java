@@ -0,0 +1,108 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.sync;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.CacheSyncProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UrlChangeStreamConsumer Tests")
+class UrlChangeStreamConsumerTest {
+
+    // Runs as a single node replica set, which change streams need
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:4.4.10-focal");
+
+    private static final CacheSyncProperties PROPERTIES = new CacheSyncProperties(true, 100, Duration.ofMillis(100),
+            Duration.ofSeconds(30), Duration.ofSeconds(5), false, Duration.ZERO);
+
+    private static MongoClient mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        mongoClient = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(mongoClient, "url-shortener");
+        mongoTemplate.createCollection(UrlDocument.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        mongoClient.close();
+    }
+
+    @Test
+    @DisplayName("Should push updates to the cache and resume after the saved token")
+    @SuppressWarnings("unchecked")
+    void shouldPushUpdatesAndResumeAfterSavedToken() {
+        // Given
+        final CacheSyncStateStore stateStore = new CacheSyncStateStore(mongoTemplate);
+        final UrlCacheSynchronizer synchronizer = mock(UrlCacheSynchronizer.class);
+        final UrlChangeStreamConsumer consumer = new UrlChangeStreamConsumer(PROPERTIES, stateStore, synchronizer, mongoTemplate);
+        final CompletableFuture<Void> running = CompletableFuture.runAsync(consumer::run);
+        verify(synchronizer, timeout(5_000).atLeastOnce()).apply(anyList());
+
+        // When
+        mongoTemplate.insert(document("abc123", true));
+        final ArgumentCaptor<List<UrlChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(synchronizer, timeout(5_000).atLeastOnce()).apply(changes.capture());
+        consumer.stop();
+        running.join();
+
+        // Then
+        assertThat(changes.getAllValues()).flatMap(batch -> batch)
+                .contains(new UrlChange("abc123", UrlDocument.builder().url("https://example.com/abc123").enabled(true).build()));
+        assertThat(stateStore.resumeToken()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should let a single node hold the lease until it is released")
+    void shouldLetSingleNodeHoldLease() {
+        // Given
+        final CacheSyncStateStore stateStore = new CacheSyncStateStore(mongoTemplate);
+        stateStore.release("previous");
+
+        // When
+        final boolean first = stateStore.tryAcquire("node-1", Duration.ofSeconds(30));
+        final boolean second = stateStore.tryAcquire("node-2", Duration.ofSeconds(30));
+        stateStore.release("node-1");
+        final boolean afterRelease = stateStore.tryAcquire("node-2", Duration.ofSeconds(30));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(afterRelease).isTrue();
+        stateStore.release("node-2");
+    }
+
+    private static UrlDocument document(final String key, final boolean enabled) {
+        return UrlDocument.builder()
+                .key(key)
+                .url("https://example.com/" + key)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .enabled(enabled)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.sync;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.BsonDocument;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UrlChange Tests")
+class UrlChangeTest {
+
+    @Test
+    @DisplayName("Should cache the same fields a cache miss loads")
+    void shouldCacheSameFieldsCacheMissLoads() {
+        // Given
+        final Document document = new Document("key", "abc123")
+                .append("url", "https://example.com")
+                .append("enabled", true)
+                .append("redirectStatus", 308);
+
+        // When
+        final UrlChange change = UrlChange.of(event("update", document, null));
+
+        // Then
+        assertThat(change).isEqualTo(new UrlChange("abc123", UrlDocument.builder()
+                .url("https://example.com")
+                .enabled(true)
+                .redirectStatus(308)
+                .build()));
+    }
+
+    @Test
+    @DisplayName("Should cache disabled URLs with their flag")
+    void shouldCacheDisabledUrls() {
+        // Given
+        final Document document = new Document("key", "abc123").append("url", "https://example.com").append("enabled", false);
+
+        // When
+        final UrlChange change = UrlChange.of(event("replace", document, null));
+
+        // Then
+        assertThat(change.isEviction()).isFalse();
+        assertThat(change.document().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should evict deleted keys only when the pre-image names them")
+    void shouldEvictDeletedKeysOnlyWithPreImage() {
+        // When
+        final UrlChange withPreImage = UrlChange.of(event("delete", null, new Document("key", "abc123")));
+        final UrlChange withoutPreImage = UrlChange.of(event("delete", null, null));
+
+        // Then
+        assertThat(withPreImage).isEqualTo(new UrlChange("abc123", null));
+        assertThat(withoutPreImage).isNull();
+    }
+
+    @Test
+    @DisplayName("Should skip updates whose document is already gone")
+    void shouldSkipUpdatesWhoseDocumentIsGone() {
+        // When
+        final UrlChange change = UrlChange.of(event("update", null, null));
+
+        // Then
+        assertThat(change).isNull();
+    }
+
+    private static ChangeStreamDocument<Document> event(final String operationType, final Document document, final Document before) {
+        return new ChangeStreamDocument<>(operationType, new BsonDocument(), null, null, document, before,
+                new BsonDocument("_id", new BsonObjectId()), null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.warmup;
+
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.WarmUpProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmUp Tests")
+class CacheWarmUpTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private RedisCacheBatchOperations cacheBatchOperations;
+
+    @Test
+    @DisplayName("Should merge the sources in order up to the maximum and write each batch if absent with its redirect status")
+    void shouldMergeSourcesAndWriteBatches() {
+        // Given
+        final CacheWarmUp warmUp = new CacheWarmUp(properties(true, 3), List.of(
+                source(WarmUpProperties.Source.RECENT, "b", "c", "d"),
+                source(WarmUpProperties.Source.HOT_KEYS, "a", "b")), mongoTemplate, cacheBatchOperations);
+        doReturn(List.of(document("a", true, 301), document("b", false, null)), List.of())
+                .when(mongoTemplate).find(any(Query.class), eq(Document.class), eq(UrlDocument.COLLECTION_NAME));
+        when(cacheBatchOperations.putAllIfAbsent(eq("url"), anyMap())).thenReturn(1L, 0L);
+
+        // When
+        warmUp.run();
+
+        // Then
+        verify(cacheBatchOperations).putAllIfAbsent("url", Map.of(
+                "a", UrlDocument.builder().url("https://a.com").enabled(true).redirectStatus(301).build(),
+                "b", UrlDocument.builder().url("https://b.com").enabled(false).build()));
+        verify(cacheBatchOperations).putAllIfAbsent("url", Map.of());
+        final CacheWarmUp.Progress progress = warmUp.progress();
+        assertThat(progress.state()).isEqualTo(CacheWarmUp.State.COMPLETED);
+        assertThat(progress.keys()).isEqualTo(3);
+        assertThat(progress.processed()).isEqualTo(3);
+        assertThat(progress.loaded()).isEqualTo(2);
+        assertThat(progress.written()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        // Given
+        final CacheWarmUp warmUp = new CacheWarmUp(properties(false, 3), List.of(), mongoTemplate, cacheBatchOperations);
+
+        // When
+        warmUp.run();
+
+        // Then
+        assertThat(warmUp.progress().state()).isEqualTo(CacheWarmUp.State.DISABLED);
+        verifyNoInteractions(mongoTemplate, cacheBatchOperations);
+    }
+
+    private static WarmUpProperties properties(final boolean enabled, final int maxKeys) {
+        return new WarmUpProperties(enabled, List.of(WarmUpProperties.Source.HOT_KEYS, WarmUpProperties.Source.RECENT),
+                maxKeys, 2, Integer.MAX_VALUE, Duration.ofMinutes(1), null, "hot-keys", 100, Duration.ofMinutes(5),
+                Duration.ofDays(1));
+    }
+
+    private static WarmUpKeySource source(final WarmUpProperties.Source source, final String... keys) {
+        return new WarmUpKeySource() {
+            @Override
+            public WarmUpProperties.Source source() {
+                return source;
+            }
+
+            @Override
+            public List<String> keys(final int limit) {
+                return List.of(keys).subList(0, Math.min(limit, keys.length));
+            }
+        };
+    }
+
+    private static Document document(final String key, final boolean enabled, final Integer redirectStatus) {
+        return new Document("key", key).append("url", "https://" + key + ".com").append("enabled", enabled)
+                .append("redirectStatus", redirectStatus);
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.aaivan28.url.shortener.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class UrlShortenerReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(UrlShortenerReactiveApplication.class, args);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.aaivan28.url.shortener.reactive.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.domain.port.inbound.properties.RedirectBaseUrlProperty;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.ReactiveUrlUsesCases;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+public class ReactiveUrlShortenerController {
+
+    private final ReactiveUrlUsesCases urlUsesCases;
+    private final RedirectBaseUrlProperty redirectBaseUrlProperty;
+
+    @GetMapping("/{urlKey}")
+    public Mono<ResponseEntity<Void>> redirect(final @PathVariable("urlKey") String urlKey) {
+        return this.urlUsesCases.getUrl(urlKey)
+                .map(lookup -> ResponseEntity.status(lookup.redirectType().getStatusCode())
+                        .header(HttpHeaders.LOCATION, lookup.urlOrElse(this.redirectBaseUrlProperty.redirectBaseUrl()))
+                        .build());
+    }
+}
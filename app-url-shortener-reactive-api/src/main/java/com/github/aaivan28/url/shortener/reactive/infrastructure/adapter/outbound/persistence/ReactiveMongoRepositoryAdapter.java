@@ -0,0 +1,55 @@
+package com.github.aaivan28.url.shortener.reactive.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.outbound.ReactiveUrlRepository;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cache-aside lookup on the shared {@code url} Redis cache, falling back to MongoDB on a miss. Entries use the same
+ * keys and value format as the servlet API, so both stacks can run side by side on the same cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveMongoRepositoryAdapter implements ReactiveUrlRepository {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ReactiveRedisTemplate<String, Object> urlCacheTemplate;
+    private final RedisCacheConfiguration redisCacheConfiguration;
+
+    @Override
+    public Mono<UrlLookup> getUrl(final String urlKey) {
+        final String cacheKey = this.redisCacheConfiguration.getKeyPrefixFor(UrlMongoRepository.CACHE_NAME) + urlKey;
+
+        return this.urlCacheTemplate.opsForValue().get(cacheKey)
+                .cast(UrlDocument.class)
+                .switchIfEmpty(Mono.defer(() -> this.findAndCache(urlKey, cacheKey)))
+                .map(this::toLookup)
+                .defaultIfEmpty(UrlLookup.notFound());
+    }
+
+    private Mono<UrlDocument> findAndCache(final String urlKey, final String cacheKey) {
+        final Query query = Query.query(Criteria.where("key").is(urlKey)).withHint(UrlDocument.REDIRECT_INDEX);
+        query.fields().include("url", "enabled", "redirectStatus").exclude("_id");
+
+        return this.mongoTemplate.findOne(query, UrlDocument.class)
+                .flatMap(urlDocument -> this.urlCacheTemplate.opsForValue()
+                        .set(cacheKey, urlDocument, this.redisCacheConfiguration.getTtlFunction().getTimeToLive(urlKey, urlDocument))
+                        .thenReturn(urlDocument));
+    }
+
+    private UrlLookup toLookup(final UrlDocument urlDocument) {
+        return urlDocument.isEnabled()
+                ? UrlLookup.found(urlDocument.getUrl(), RedirectType.ofStatusCode(urlDocument.getRedirectStatus()))
+                : UrlLookup.disabled();
+    }
+}
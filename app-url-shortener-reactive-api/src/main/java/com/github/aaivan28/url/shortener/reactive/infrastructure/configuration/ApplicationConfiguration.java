@@ -0,0 +1,16 @@
+package com.github.aaivan28.url.shortener.reactive.infrastructure.configuration;
+
+import com.github.aaivan28.url.shortener.application.service.ReactiveUrlService;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.ReactiveUrlUsesCases;
+import com.github.aaivan28.url.shortener.domain.port.outbound.ReactiveUrlRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ApplicationConfiguration {
+
+    @Bean
+    ReactiveUrlUsesCases urlUsesCases(final ReactiveUrlRepository repository) {
+        return new ReactiveUrlService(repository);
+    }
+}
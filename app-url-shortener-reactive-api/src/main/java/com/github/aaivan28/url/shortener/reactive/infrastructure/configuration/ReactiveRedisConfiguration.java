@@ -0,0 +1,31 @@
+package com.github.aaivan28.url.shortener.reactive.infrastructure.configuration;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueCodec;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocumentCacheCodec;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+@Configuration
+public class ReactiveRedisConfiguration {
+
+    @Bean
+    CacheValueCodec<UrlDocument> urlDocumentCacheCodec() {
+        return new UrlDocumentCacheCodec();
+    }
+
+    // Same key and value serialization as the Redis cache of the servlet API, so both read and write the same entries
+    @Bean
+    ReactiveRedisTemplate<String, Object> urlCacheTemplate(final ReactiveRedisConnectionFactory connectionFactory,
+                                                           final RedisCacheConfiguration redisCacheConfiguration) {
+        final RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(redisCacheConfiguration.getKeySerializationPair())
+                .value(redisCacheConfiguration.getValueSerializationPair())
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+}
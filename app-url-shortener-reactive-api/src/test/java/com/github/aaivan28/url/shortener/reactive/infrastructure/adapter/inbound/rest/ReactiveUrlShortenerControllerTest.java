@@ -0,0 +1,62 @@
+package com.github.aaivan28.url.shortener.reactive.infrastructure.adapter.inbound.rest;
+
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.inbound.properties.RedirectBaseUrlProperty;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.ReactiveUrlUsesCases;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveUrlShortenerController Tests")
+class ReactiveUrlShortenerControllerTest {
+
+    private static final String BASE_URL = "https://www.google.com";
+
+    @Mock
+    private ReactiveUrlUsesCases urlUsesCases;
+
+    @Mock
+    private RedirectBaseUrlProperty redirectBaseUrlProperty;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        when(redirectBaseUrlProperty.redirectBaseUrl()).thenReturn(BASE_URL);
+        webTestClient = WebTestClient.bindToController(new ReactiveUrlShortenerController(urlUsesCases, redirectBaseUrlProperty))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should redirect to URL when key exists")
+    void shouldRedirectToUrlWhenKeyExists() {
+        // Given
+        when(urlUsesCases.getUrl("abc123")).thenReturn(Mono.just(UrlLookup.found("https://example.com")));
+
+        // When / Then
+        webTestClient.get().uri("/abc123").exchange()
+                .expectStatus().isFound()
+                .expectHeader().valueEquals(HttpHeaders.LOCATION, "https://example.com");
+    }
+
+    @Test
+    @DisplayName("Should redirect to base URL when URL not found")
+    void shouldRedirectToBaseUrlWhenUrlNotFound() {
+        // Given
+        when(urlUsesCases.getUrl("nonexistent")).thenReturn(Mono.just(UrlLookup.notFound()));
+
+        // When / Then
+        webTestClient.get().uri("/nonexistent").exchange()
+                .expectStatus().isFound()
+                .expectHeader().valueEquals(HttpHeaders.LOCATION, BASE_URL);
+    }
+}
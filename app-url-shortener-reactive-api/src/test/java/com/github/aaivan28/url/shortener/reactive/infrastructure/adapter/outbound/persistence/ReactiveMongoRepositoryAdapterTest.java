@@ -0,0 +1,120 @@
+package com.github.aaivan28.url.shortener.reactive.infrastructure.adapter.outbound.persistence;
+
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveMongoRepositoryAdapter Tests")
+class ReactiveMongoRepositoryAdapterTest {
+
+    private static final String CACHE_KEY_PREFIX = "url-shortener-cache-url::";
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Mock
+    private ReactiveRedisTemplate<String, Object> urlCacheTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, Object> valueOperations;
+
+    private ReactiveMongoRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        final RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith("url-shortener-cache-")
+                .entryTtl(Duration.ofHours(1));
+        when(urlCacheTemplate.opsForValue()).thenReturn(valueOperations);
+        adapter = new ReactiveMongoRepositoryAdapter(mongoTemplate, urlCacheTemplate, redisCacheConfiguration);
+    }
+
+    @Test
+    @DisplayName("Should return URL from cache without querying MongoDB")
+    void shouldReturnUrlFromCache() {
+        // Given
+        final String urlKey = "abc123";
+        when(valueOperations.get(CACHE_KEY_PREFIX + urlKey)).thenReturn(Mono.just(document(urlKey, true)));
+
+        // When / Then
+        StepVerifier.create(adapter.getUrl(urlKey))
+                .expectNext(UrlLookup.found("https://example.com"))
+                .verifyComplete();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should load from MongoDB and populate the cache on a miss")
+    void shouldLoadFromMongoAndCacheOnMiss() {
+        // Given
+        final String urlKey = "abc123";
+        final UrlDocument urlDocument = document(urlKey, true);
+        when(valueOperations.get(CACHE_KEY_PREFIX + urlKey)).thenReturn(Mono.empty());
+        when(mongoTemplate.findOne(any(Query.class), eq(UrlDocument.class))).thenReturn(Mono.just(urlDocument));
+        when(valueOperations.set(CACHE_KEY_PREFIX + urlKey, urlDocument, Duration.ofHours(1))).thenReturn(Mono.just(true));
+
+        // When / Then
+        StepVerifier.create(adapter.getUrl(urlKey))
+                .expectNext(UrlLookup.found("https://example.com"))
+                .verifyComplete();
+        verify(valueOperations).set(CACHE_KEY_PREFIX + urlKey, urlDocument, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should return not found without caching when key does not exist")
+    void shouldReturnNotFoundWhenKeyDoesNotExist() {
+        // Given
+        final String urlKey = "nonexistent";
+        when(valueOperations.get(CACHE_KEY_PREFIX + urlKey)).thenReturn(Mono.empty());
+        when(mongoTemplate.findOne(any(Query.class), eq(UrlDocument.class))).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(adapter.getUrl(urlKey))
+                .expectNext(UrlLookup.notFound())
+                .verifyComplete();
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should return disabled when URL is disabled")
+    void shouldReturnDisabledWhenUrlIsDisabled() {
+        // Given
+        final String urlKey = "disabled";
+        when(valueOperations.get(CACHE_KEY_PREFIX + urlKey)).thenReturn(Mono.just(document(urlKey, false)));
+
+        // When / Then
+        StepVerifier.create(adapter.getUrl(urlKey))
+                .expectNext(UrlLookup.disabled())
+                .verifyComplete();
+    }
+
+    private static UrlDocument document(final String urlKey, final boolean enabled) {
+        return UrlDocument.builder()
+                .key(urlKey)
+                .url("https://example.com")
+                .enabled(enabled)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueFormat;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializers for the cached {@link UrlDocument}, one per Redis read (deserialize) or write (serialize):
+ * <ul>
+ *     <li>{@code generic-json}: {@link GenericJackson2JsonRedisSerializer} on its own, with the type in every value.</li>
+ *     <li>{@code typed-json}: {@link Jackson2JsonRedisSerializer} bound to the document class, no type information.</li>
+ *     <li>{@code json} and {@code compact}: the serializer {@code RedisConfiguration} builds, in each value format.</li>
+ * </ul>
+ * The size of each encoding is listed in the benchmarks README.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"generic-json", "typed-json", "json", "compact"})
+    private String serializer;
+
+    private RedisSerializer<?> redisSerializer;
+    private UrlDocument document;
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.redisSerializer = switch (this.serializer) {
+            case "generic-json" -> new GenericJackson2JsonRedisSerializer();
+            case "typed-json" -> new Jackson2JsonRedisSerializer<>(UrlDocument.class);
+            case "json" -> RedirectFixture.valueSerializer(CacheValueFormat.JSON);
+            case "compact" -> RedirectFixture.valueSerializer(CacheValueFormat.COMPACT);
+            default -> throw new IllegalArgumentException("Unknown serializer " + this.serializer);
+        };
+        this.document = RedirectFixture.documents(1).get(RedirectFixture.KEY_PREFIX + 0);
+        this.bytes = this.serialize();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public byte[] serialize() {
+        return ((RedisSerializer<Object>) this.redisSerializer).serialize(this.document);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return this.redisSerializer.deserialize(this.bytes);
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stands in for Redis below {@code RedisCache}: keys and values still go through the configured serializers, only the
+ * network round trip is left out. Entries never expire.
+ */
+final class InMemoryRedisCacheWriter implements RedisCacheWriter {
+
+    private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(final String name, final byte[] key) {
+        return this.entries.get(new String(key, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(final String name, final byte[] key, final Duration ttl) {
+        return CompletableFuture.completedFuture(this.get(name, key));
+    }
+
+    @Override
+    public void put(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        this.entries.put(new String(key, StandardCharsets.UTF_8), value);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        this.put(name, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public byte[] putIfAbsent(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        return this.entries.putIfAbsent(new String(key, StandardCharsets.UTF_8), value);
+    }
+
+    @Override
+    public void remove(final String name, final byte[] key) {
+        this.entries.remove(new String(key, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void clean(final String name, final byte[] pattern) {
+        this.entries.clear();
+    }
+
+    @Override
+    public void clearStatistics(final String name) {
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(final CacheStatisticsCollector cacheStatisticsCollector) {
+        return this;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(final String cacheName) {
+        return CacheStatisticsCollector.none().getCacheStatistics(cacheName);
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import com.github.aaivan28.url.shortener.application.service.CreateUrlService;
+import com.github.aaivan28.url.shortener.domain.model.RedirectType;
+import com.github.aaivan28.url.shortener.domain.model.ShortUrl;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.CreateUrlUsesCases;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyGeneratorProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.MongoRepositoryAdapter;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.key.SegmentKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Keys generated and URLs created per second by one node, with the shared sequence and a map standing in for MongoDB
+ * and the same fixed round trip per lease and per insert. A segment size of 1 is the cost of going to the database for
+ * every key; {@code createUrl} adds the insert every create pays whatever the segment size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class KeyGeneratorBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    private int segmentSize;
+
+    @Param({"500"})
+    private long roundTripMicros;
+
+    private SegmentKeyGenerator generator;
+    private CreateUrlUsesCases createUrlUsesCases;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final AtomicLong sequence = new AtomicLong();
+        final long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(this.roundTripMicros);
+        this.generator = new SegmentKeyGenerator(size -> {
+            LockSupport.parkNanos(roundTripNanos);
+            return sequence.getAndAdd(size);
+        }, new KeyGeneratorProperties("url", this.segmentSize, 916_132_832L));
+        final Map<String, UrlDocument> documents = new ConcurrentHashMap<>();
+        this.createUrlUsesCases = new CreateUrlService(this.generator, new MongoRepositoryAdapter(
+                RedirectFixture.redirectReader(documents, new NoOpCacheManager()),
+                RedirectFixture.creationRepository(documents, roundTripNanos), RedirectFixture.noKeyFilter(),
+                RedirectFixture.noUrlIndex()));
+    }
+
+    @Benchmark
+    public String nextKey() {
+        return this.generator.nextKey();
+    }
+
+    @Benchmark
+    public ShortUrl createUrl() {
+        return this.createUrlUsesCases.createUrl("https://www.example.com/articles/1", null, RedirectType.FOUND);
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import com.github.aaivan28.url.shortener.application.service.UrlService;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.RedirectMetrics;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.ClickAnalyticsProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectMetricsProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.RedirectResponseProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.PreparedRedirects;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.rest.UrlShortenerController;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.MongoRepositoryAdapter;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.clicks.ClickRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UrlShortenerController#redirect} end to end: metrics, {@code UrlService}, the key filter, the url cache read by
+ * {@code UrlRedirectReader}, {@code TwoLevelCache} and the cache value serializer. Every key is cached before
+ * measuring, so a hit is answered by the near cache or, without it, by the in-memory Redis stand-in. With
+ * {@code preparedRedirects} the response headers of a hit are reused instead of built per request. Click recording is
+ * disabled because nothing drains its buffer here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedirectBenchmark {
+
+    private static final int KEYS = 1024;
+
+    @Param({"true", "false"})
+    private boolean nearCache;
+
+    @Param({"true", "false"})
+    private boolean preparedRedirects;
+
+    private String[] keys;
+    private String[] unknownKeys;
+    private UrlShortenerController controller;
+    private RedirectResponse response;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, UrlDocument> documents = RedirectFixture.documents(KEYS);
+        this.keys = RedirectFixture.keys(RedirectFixture.KEY_PREFIX, KEYS);
+        this.unknownKeys = RedirectFixture.keys(RedirectFixture.UNKNOWN_KEY_PREFIX, KEYS);
+
+        final CacheManager cacheManager = RedirectFixture.cacheManager(this.nearCache);
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        this.controller = new UrlShortenerController(
+                new UrlService(new MongoRepositoryAdapter(RedirectFixture.redirectReader(documents, cacheManager),
+                        RedirectFixture.repository(documents), RedirectFixture.keyFilter(documents),
+                        RedirectFixture.noUrlIndex()),
+                        new ClickRecorder(null, new ClickAnalyticsProperties(false, 1024, Duration.ofSeconds(1), 1000), meterRegistry)),
+                new PreparedRedirects(new RedirectResponseProperties(this.preparedRedirects, KEYS, Duration.ofDays(1), Duration.ZERO),
+                        new UrlProperties("https://www.google.com")),
+                new RedirectMetrics(meterRegistry, new RedirectMetricsProperties(true, 1000, false)));
+        this.response = new RedirectResponse();
+
+        for (final String key : this.keys) {
+            this.controller.redirect(this.response, key, null);
+        }
+    }
+
+    @Benchmark
+    public String hit() {
+        this.controller.redirect(this.response, this.keys[this.nextIndex()], null);
+        return this.response.location;
+    }
+
+    @Benchmark
+    public String miss() {
+        this.controller.redirect(this.response, this.unknownKeys[this.nextIndex()], null);
+        return this.response.location;
+    }
+
+    private int nextIndex() {
+        final int index = this.next;
+        this.next = (index + 1) & (KEYS - 1);
+        return index;
+    }
+
+    /**
+     * Keeps the redirect location and ignores the other headers; any other call on the response fails.
+     */
+    private static final class RedirectResponse extends HttpServletResponseWrapper {
+
+        private String location;
+
+        private RedirectResponse() {
+            super((HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(),
+                    new Class<?>[]{HttpServletResponse.class}, (proxy, method, arguments) -> {
+                        throw new UnsupportedOperationException(method.getName());
+                    }));
+        }
+
+        @Override
+        public void setStatus(final int status) {
+        }
+
+        @Override
+        public void setHeader(final String name, final String value) {
+            if (HttpHeaders.LOCATION.equals(name)) {
+                this.location = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueFormat;
+import com.github.aaivan28.cache.redis.codec.CompactRedisSerializer;
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import com.github.aaivan28.cache.redis.properties.NearCacheProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.KeyFilterProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.properties.UrlIndexProperties;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocumentCacheCodec;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlRedirectReader;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.filter.KeyFilter;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index.UrlIndex;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wires the redirect path the way the application context does, with {@link InMemoryRedisCacheWriter} in place of
+ * Redis and a map in place of MongoDB.
+ */
+final class RedirectFixture {
+
+    static final String KEY_PREFIX = "key";
+    static final String UNKNOWN_KEY_PREFIX = "unknown";
+
+    private RedirectFixture() {
+    }
+
+    static Map<String, UrlDocument> documents(final int count) {
+        final Map<String, UrlDocument> documents = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            documents.put(KEY_PREFIX + i, UrlDocument.builder()
+                    .key(KEY_PREFIX + i)
+                    .url("https://www.example.com/articles/" + i + "?utm_source=newsletter&utm_medium=email")
+                    .enabled(true)
+                    .build());
+        }
+        return documents;
+    }
+
+    static String[] keys(final String prefix, final int count) {
+        final String[] keys = new String[count];
+        Arrays.setAll(keys, i -> prefix + i);
+        return keys;
+    }
+
+    // How the redirect read the URL before UrlRedirectReader, the baseline of RedirectLookupBenchmark
+    static ConversionService conversionService() {
+        final DefaultConversionService conversionService = new DefaultConversionService();
+        conversionService.addConverter(UrlDocument.class, String.class, UrlDocument::getUrl);
+        return conversionService;
+    }
+
+    static KeyFilter keyFilter(final Map<String, UrlDocument> documents) {
+        final KeyFilter keyFilter = new KeyFilter(new KeyFilterProperties(true, documents.size(), 0.01, 100_000,
+                Duration.ofSeconds(30)));
+        keyFilter.rebuild(documents.keySet().stream());
+        return keyFilter;
+    }
+
+    static KeyFilter noKeyFilter() {
+        return new KeyFilter(new KeyFilterProperties(false, 1, 0.01, 100_000, Duration.ofSeconds(30)));
+    }
+
+    static UrlIndex noUrlIndex() {
+        return new UrlIndex(new UrlIndexProperties(false, Path.of("url-index"), 100_000));
+    }
+
+    static UrlIndex urlIndex(final Map<String, UrlDocument> documents, final Path directory) {
+        final UrlIndex urlIndex = new UrlIndex(new UrlIndexProperties(true, directory, 100_000));
+        try {
+            urlIndex.rebuild(documents.values().stream(), documents.size());
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return urlIndex;
+    }
+
+    // Same settings as RedisConfiguration, with the compact format enabled
+    static RedisSerializer<Object> valueSerializer(final CacheValueFormat format) {
+        return new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), format, List.of(new UrlDocumentCacheCodec()));
+    }
+
+    static CacheManager cacheManager(final boolean nearCache) {
+        final RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.string()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer(CacheValueFormat.COMPACT)))
+                .entryTtl(Duration.ofHours(1))
+                .prefixCacheNameWith("url-shortener-cache-")
+                .disableCachingNullValues();
+        final RedisCacheManager redisCacheManager = RedisCacheManager.builder(new InMemoryRedisCacheWriter())
+                .cacheDefaults(configuration)
+                .build();
+        // Loads are not broadcast, the publisher is never reached on the read path
+        final CacheInvalidationPublisher publisher = new CacheInvalidationPublisher("benchmark", "cache-invalidation", false, null, event -> { });
+        final TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager,
+                new NearCacheProperties(nearCache, 10_000, Duration.ofMinutes(1), "cache-invalidation", false), publisher);
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    /**
+     * The repository without caching: {@code findByKey} answers from the map, any other method fails.
+     */
+    static UrlMongoRepository repository(final Map<String, UrlDocument> documents) {
+        return inMemory(UrlMongoRepository.class, documents);
+    }
+
+    /**
+     * The repository of the create path: {@code save} stores into the map after a simulated round trip and rejects a
+     * key already there, as the unique index does.
+     */
+    static UrlMongoRepository creationRepository(final Map<String, UrlDocument> documents, final long roundTripNanos) {
+        return UrlMongoRepository.class.cast(Proxy.newProxyInstance(UrlMongoRepository.class.getClassLoader(),
+                new Class<?>[]{UrlMongoRepository.class},
+                (proxy, method, arguments) -> switch (method.getName()) {
+                    case "save" -> {
+                        final UrlDocument document = (UrlDocument) arguments[0];
+                        LockSupport.parkNanos(roundTripNanos);
+                        if (documents.putIfAbsent(document.getKey(), document) != null) {
+                            throw new DuplicateKeyException("Duplicate key " + document.getKey());
+                        }
+                        yield document;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == arguments[0];
+                    case "toString" -> "InMemoryUrlMongoRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    static UrlRedirectReader redirectReader(final Map<String, UrlDocument> documents, final CacheManager cacheManager) {
+        return new UrlRedirectReader(repository(documents), cacheManager);
+    }
+
+    /**
+     * The repository behind the same cache interceptor Spring applies to {@code @Cacheable}, as the redirect path used
+     * it before {@link UrlRedirectReader}. The annotation is declared here because the repository no longer has it.
+     */
+    static UrlMongoRepository cachedRepository(final Map<String, UrlDocument> documents, final CacheManager cacheManager) {
+        final CacheInterceptor interceptor = new CacheInterceptor();
+        interceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+        interceptor.setCacheManager(cacheManager);
+        interceptor.afterPropertiesSet();
+        interceptor.afterSingletonsInstantiated();
+
+        final ProxyFactory proxyFactory = new ProxyFactory(inMemory(CacheableUrlMongoRepository.class, documents));
+        proxyFactory.addInterface(CacheableUrlMongoRepository.class);
+        proxyFactory.addAdvice(interceptor);
+        return (UrlMongoRepository) proxyFactory.getProxy();
+    }
+
+    private static <T extends UrlMongoRepository> T inMemory(final Class<T> type, final Map<String, UrlDocument> documents) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, arguments) -> switch (method.getName()) {
+                    case "findByKey" -> Optional.ofNullable(documents.get((String) arguments[0]));
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == arguments[0];
+                    case "toString" -> "InMemoryUrlMongoRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+    interface CacheableUrlMongoRepository extends UrlMongoRepository {
+
+        @Override
+        // By position: the interceptor resolves the method on the in-memory proxy class, which has no parameter names
+        @Cacheable(value = CACHE_NAME, key = "#p0", sync = true)
+        Optional<UrlDocument> findByKey(String key);
+    }
+}
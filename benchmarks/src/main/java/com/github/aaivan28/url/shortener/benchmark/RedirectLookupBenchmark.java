@@ -0,0 +1,106 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlMongoRepository;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlRedirectReader;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.index.UrlIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.convert.ConversionService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Target URL of a cached key read through the {@code @Cacheable} repository proxy plus the {@code ConversionService}
+ * dispatch, as {@code MongoRepositoryAdapter} did before, against {@link UrlRedirectReader} reading the cache directly
+ * and against the memory-mapped {@link UrlIndex}, which does not depend on {@code nearCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedirectLookupBenchmark {
+
+    private static final int KEYS = 1024;
+
+    @Param({"true", "false"})
+    private boolean nearCache;
+
+    private String[] keys;
+    private UrlMongoRepository cachedRepository;
+    private ConversionService conversionService;
+    private UrlRedirectReader redirectReader;
+    private Path indexDirectory;
+    private UrlIndex urlIndex;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Map<String, UrlDocument> documents = RedirectFixture.documents(KEYS);
+        this.keys = RedirectFixture.keys(RedirectFixture.KEY_PREFIX, KEYS);
+
+        final CacheManager cacheManager = RedirectFixture.cacheManager(this.nearCache);
+        this.cachedRepository = RedirectFixture.cachedRepository(documents, cacheManager);
+        this.conversionService = RedirectFixture.conversionService();
+        this.redirectReader = RedirectFixture.redirectReader(documents, cacheManager);
+        this.indexDirectory = Files.createTempDirectory("url-index");
+        this.urlIndex = RedirectFixture.urlIndex(documents, this.indexDirectory);
+
+        for (final String key : this.keys) {
+            this.redirectReader.read(key);
+        }
+    }
+
+    @Benchmark
+    public String cacheableConversionService() {
+        return this.cachedRepository.findByKey(this.keys[this.nextIndex()])
+                .map(document -> this.conversionService.convert(document, String.class))
+                .orElse(null);
+    }
+
+    @Benchmark
+    public String redirectReader() {
+        final UrlDocument document = this.redirectReader.read(this.keys[this.nextIndex()]);
+        return document == null ? null : document.getUrl();
+    }
+
+    @Benchmark
+    public String urlIndex() {
+        return this.urlIndex.lookup(this.keys[this.nextIndex()]).url();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.indexDirectory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private int nextIndex() {
+        final int index = this.next;
+        this.next = (index + 1) & (KEYS - 1);
+        return index;
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import com.github.aaivan28.url.shortener.application.service.UrlService;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.UrlUsesCases;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving a mix of existing and unknown keys through {@link UrlLookup} against the previous approach of
+ * throwing an exception for every miss. The stack depth emulates the frames a servlet request already has on the stack
+ * when the service is called, which is what makes filling the stack trace expensive.
+ * <p>
+ * Run with {@code -prof gc} to get the allocated bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlLookupMissBenchmark {
+
+    private static final String FALLBACK_URL = "https://www.google.com";
+    private static final int KEYS = 1024;
+
+    @Param({"0.5", "0.9", "1.0"})
+    private double missRatio;
+
+    @Param({"10", "120"})
+    private int stackDepth;
+
+    private String[] keys;
+    private Map<String, String> urls;
+    private UrlUsesCases urlUsesCases;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(42);
+        this.keys = new String[KEYS];
+        this.urls = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            this.keys[i] = "key" + i;
+            if (random.nextDouble() >= this.missRatio) {
+                this.urls.put(this.keys[i], "https://example.com/" + i);
+            }
+        }
+        this.urlUsesCases = new UrlService(urlKey -> {
+            final String url = this.urls.get(urlKey);
+            return url == null ? UrlLookup.notFound() : UrlLookup.found(url);
+        }, urlKey -> {
+        });
+    }
+
+    @Benchmark
+    public String lookup() {
+        return this.atDepth(this.stackDepth, this.nextKey(), true);
+    }
+
+    @Benchmark
+    public String exception() {
+        return this.atDepth(this.stackDepth, this.nextKey(), false);
+    }
+
+    private String atDepth(final int depth, final String urlKey, final boolean lookup) {
+        if (depth > 0) {
+            return this.atDepth(depth - 1, urlKey, lookup);
+        }
+        return lookup ? this.resolveWithLookup(urlKey) : this.resolveWithException(urlKey);
+    }
+
+    private String resolveWithLookup(final String urlKey) {
+        return this.urlUsesCases.getUrl(urlKey).urlOrElse(FALLBACK_URL);
+    }
+
+    // Same shape as the former UrlService#getUrl plus the UrlExceptionHandler fallback
+    private String resolveWithException(final String urlKey) {
+        try {
+            return Optional.ofNullable(this.urls.get(urlKey))
+                    .orElseThrow(() -> new KeyNotFoundException("Key not found: " + urlKey));
+        } catch (final KeyNotFoundException exception) {
+            return FALLBACK_URL;
+        }
+    }
+
+    private String nextKey() {
+        final String key = this.keys[this.next];
+        this.next = (this.next + 1) & (KEYS - 1);
+        return key;
+    }
+
+    private static final class KeyNotFoundException extends RuntimeException {
+
+        private KeyNotFoundException(final String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.aaivan28.url.shortener.benchmark;
+
+import com.github.aaivan28.url.shortener.application.service.UrlService;
+import com.github.aaivan28.url.shortener.domain.model.UrlLookup;
+import com.github.aaivan28.url.shortener.domain.port.inbound.usescases.UrlUsesCases;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.MongoRepositoryAdapter;
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code UrlService.getUrl} down to {@link MongoRepositoryAdapter} without the cache: a hit pays the key filter and
+ * the repository, a miss is answered by the key filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlServiceBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private String[] keys;
+    private String[] unknownKeys;
+    private UrlUsesCases urlUsesCases;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Map<String, UrlDocument> documents = RedirectFixture.documents(KEYS);
+        this.keys = RedirectFixture.keys(RedirectFixture.KEY_PREFIX, KEYS);
+        this.unknownKeys = RedirectFixture.keys(RedirectFixture.UNKNOWN_KEY_PREFIX, KEYS);
+        this.urlUsesCases = new UrlService(new MongoRepositoryAdapter(
+                RedirectFixture.redirectReader(documents, new NoOpCacheManager()),
+                RedirectFixture.repository(documents), RedirectFixture.keyFilter(documents),
+                RedirectFixture.noUrlIndex()), urlKey -> {
+        });
+    }
+
+    @Benchmark
+    public UrlLookup hit() {
+        return this.urlUsesCases.getUrl(this.keys[this.nextIndex()]);
+    }
+
+    @Benchmark
+    public UrlLookup miss() {
+        return this.urlUsesCases.getUrl(this.unknownKeys[this.nextIndex()]);
+    }
+
+    private int nextIndex() {
+        final int index = this.next;
+        this.next = (index + 1) & (KEYS - 1);
+        return index;
+    }
+}
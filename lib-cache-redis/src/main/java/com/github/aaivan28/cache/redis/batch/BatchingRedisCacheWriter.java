@@ -0,0 +1,136 @@
+package com.github.aaivan28.cache.redis.batch;
+
+import com.github.aaivan28.cache.redis.refresh.TimeToLiveReader;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link RedisCacheWriter} that sends plain gets and puts through a {@link RedisCommandBatcher}, so concurrent
+ * requests share pipelined round trips and connections instead of taking one each. Everything else, time-to-idle
+ * reads and reads with their time to live included, and any command the batcher cannot queue go to the delegate writer.
+ */
+public class BatchingRedisCacheWriter implements RedisCacheWriter, TimeToLiveReader {
+
+    private final RedisCacheWriter delegate;
+    private final RedisCommandBatcher batcher;
+    private final CacheStatisticsCollector statistics;
+
+    public BatchingRedisCacheWriter(final RedisCacheWriter delegate, final RedisCommandBatcher batcher) {
+        this(delegate, batcher, CacheStatisticsCollector.none());
+    }
+
+    private BatchingRedisCacheWriter(final RedisCacheWriter delegate,
+                                     final RedisCommandBatcher batcher,
+                                     final CacheStatisticsCollector statistics) {
+        this.delegate = delegate;
+        this.batcher = batcher;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public byte[] get(final String name, final byte[] key) {
+        final CompletableFuture<byte[]> value = this.batcher.get(key);
+        return value == null ? this.delegate.get(name, key) : this.recordGet(name, join(value));
+    }
+
+    @Override
+    public ExpiringValue getWithTimeToLive(final String name, final byte[] key) {
+        return TimeToLiveReader.read(this.delegate, name, key);
+    }
+
+    @Override
+    public byte[] get(final String name, final byte[] key, final Duration ttl) {
+        return this.delegate.get(name, key, ttl);
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(final String name, final byte[] key, final Duration ttl) {
+        final CompletableFuture<byte[]> value = ttl == null ? this.batcher.get(key) : null;
+        return value == null ? this.delegate.retrieve(name, key, ttl) : value.thenApply(bytes -> this.recordGet(name, bytes));
+    }
+
+    @Override
+    public void put(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        final CompletableFuture<byte[]> written = this.batcher.set(key, value, expiration(ttl));
+        if (written == null) {
+            this.delegate.put(name, key, value, ttl);
+            return;
+        }
+        join(written);
+        this.statistics.incPuts(name);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        final CompletableFuture<byte[]> written = this.batcher.set(key, value, expiration(ttl));
+        return written == null
+                ? this.delegate.store(name, key, value, ttl)
+                : written.thenAccept(ignored -> this.statistics.incPuts(name));
+    }
+
+    @Override
+    public byte[] putIfAbsent(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        return this.delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(final String name, final byte[] key) {
+        this.delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(final String name, final byte[] pattern) {
+        this.delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(final String name) {
+        this.delegate.clearStatistics(name);
+    }
+
+    // The delegate gets the same collector, so commands it sends are counted once as well
+    @Override
+    public RedisCacheWriter withStatisticsCollector(final CacheStatisticsCollector cacheStatisticsCollector) {
+        return new BatchingRedisCacheWriter(this.delegate.withStatisticsCollector(cacheStatisticsCollector), this.batcher,
+                cacheStatisticsCollector);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(final String cacheName) {
+        return this.delegate.getCacheStatistics(cacheName);
+    }
+
+    private byte[] recordGet(final String name, final byte[] value) {
+        this.statistics.incGets(name);
+        if (value == null) {
+            this.statistics.incMisses(name);
+        } else {
+            this.statistics.incHits(name);
+        }
+        return value;
+    }
+
+    // Same rule as the default writer: no positive time to live means the entry does not expire
+    private static Expiration expiration(final Duration ttl) {
+        return ttl == null || ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException exception) {
+            throw exception.getCause() instanceof RuntimeException cause ? cause : exception;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.aaivan28.cache.redis.batch;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import com.github.aaivan28.cache.redis.support.RedisCacheKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes or evicts many entries of a cache in a single pipelined round trip, using the same keys, serialization and
+ * time to live as the {@link org.springframework.data.redis.cache.RedisCache} of that name. Near caches are invalidated
+ * and the keys broadcast once per call instead of once per entry.
+ */
+@RequiredArgsConstructor
+public class RedisCacheBatchOperations {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheConfiguration cacheConfiguration;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public void putAll(final String cacheName, final Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // Invalidated even if the write fails, local listeners still learn about the keys
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> connection.stringCommands().set(this.cacheKey(cacheName, key),
+                    this.cacheValue(value), this.expiration(key, value), RedisStringCommands.SetOption.upsert()));
+            connection.closePipeline();
+        } finally {
+            this.invalidate(cacheName, entries.keySet());
+        }
+    }
+
+    /**
+     * Writes the entries that are not cached yet and returns how many were written. Nothing is invalidated or broadcast:
+     * it is meant for values read from the source of truth, which every node would load anyway.
+     */
+    public long putAllIfAbsent(final String cacheName, final Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        final List<Object> results;
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            connection.openPipeline();
+            entries.forEach((key, value) -> connection.stringCommands().set(this.cacheKey(cacheName, key),
+                    this.cacheValue(value), this.expiration(key, value), RedisStringCommands.SetOption.ifAbsent()));
+            results = connection.closePipeline();
+        }
+        return results.stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    public void evictAll(final String cacheName, final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            connection.keyCommands().del(keys.stream().map(key -> this.cacheKey(cacheName, key)).toArray(byte[][]::new));
+        } finally {
+            this.invalidate(cacheName, keys);
+        }
+    }
+
+    private void invalidate(final String cacheName, final Collection<String> keys) {
+        keys.forEach(key -> this.cacheManager.invalidateLocal(cacheName, key));
+        this.invalidationPublisher.publishAll(cacheName, keys);
+    }
+
+    private Expiration expiration(final String key, final Object value) {
+        final Duration timeToLive = this.cacheConfiguration.getTtlFunction().getTimeToLive(key, value);
+        return timeToLive.isZero() || timeToLive.isNegative() ? Expiration.persistent() : Expiration.from(timeToLive);
+    }
+
+    private byte[] cacheKey(final String cacheName, final String key) {
+        return RedisCacheKeys.of(this.cacheConfiguration, cacheName, key);
+    }
+
+    private byte[] cacheValue(final Object value) {
+        return ByteUtils.getBytes(this.cacheConfiguration.getValueSerializationPair().write(value));
+    }
+}
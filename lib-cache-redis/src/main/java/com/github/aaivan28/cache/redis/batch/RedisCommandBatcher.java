@@ -0,0 +1,205 @@
+package com.github.aaivan28.cache.redis.batch;
+
+import com.github.aaivan28.cache.redis.properties.CacheBatchingProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the {@code GET} and {@code SET} commands issued concurrently by many threads into pipelined round trips:
+ * consecutive gets become one {@code MGET} and the commands keep the order in which they were submitted. Each flusher
+ * thread takes whatever is queued, up to {@code max-batch-size}, optionally lingering {@code max-wait} for more, so
+ * under load the commands that arrive during one round trip go together in the next one.
+ */
+public class RedisCommandBatcher implements AutoCloseable {
+
+    static final String BATCH_SIZE_METER = "cache.redis.batch.size";
+    static final String WAIT_METER = "cache.redis.batch.wait";
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<Command> queue;
+    private final List<Thread> flushers = new ArrayList<>();
+    private final DistributionSummary batchSizes;
+    private final Timer waitTimes;
+
+    private volatile boolean closed;
+
+    public RedisCommandBatcher(final RedisConnectionFactory connectionFactory,
+                               final CacheBatchingProperties properties,
+                               final MeterRegistry meterRegistry) {
+        this.connectionFactory = connectionFactory;
+        this.maxBatchSize = properties.maxBatchSize();
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.batchSizes = DistributionSummary.builder(BATCH_SIZE_METER)
+                .description("Commands sent to Redis in one pipelined round trip")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.waitTimes = Timer.builder(WAIT_METER)
+                .description("Time a command waited to be sent to Redis")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        for (int i = 0; i < properties.flushers(); i++) {
+            final Thread flusher = Thread.ofPlatform().daemon().name("redis-cache-batch-" + i).unstarted(this::flushLoop);
+            this.flushers.add(flusher);
+            flusher.start();
+        }
+    }
+
+    /**
+     * @return the value, {@code null} when the key does not exist; or {@code null} instead of a future when the queue
+     * is full and the caller has to send the command itself
+     */
+    CompletableFuture<byte[]> get(final byte[] key) {
+        return this.submit(new Command(key, null, null));
+    }
+
+    /**
+     * @return completed once the value is written; or {@code null} when the queue is full, see {@link #get}
+     */
+    CompletableFuture<byte[]> set(final byte[] key, final byte[] value, final Expiration expiration) {
+        return this.submit(new Command(key, value, expiration));
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        for (final Thread flusher : this.flushers) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // Left behind if a flusher did not stop in time
+        Command command;
+        while ((command = this.queue.poll()) != null) {
+            command.result().completeExceptionally(new CancellationException("Redis command batcher closed"));
+        }
+    }
+
+    private CompletableFuture<byte[]> submit(final Command command) {
+        return !this.closed && this.queue.offer(command) ? command.result() : null;
+    }
+
+    private void flushLoop() {
+        final List<Command> batch = new ArrayList<>(this.maxBatchSize);
+        while (!this.closed || !this.queue.isEmpty()) {
+            try {
+                final Command first = this.queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                this.fill(batch);
+                this.execute(batch);
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                batch.forEach(command -> command.result().completeExceptionally(exception));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(final List<Command> batch) throws InterruptedException {
+        if (this.maxWaitNanos <= 0) {
+            this.queue.drainTo(batch, this.maxBatchSize - batch.size());
+            return;
+        }
+        final long deadline = System.nanoTime() + this.maxWaitNanos;
+        while (batch.size() < this.maxBatchSize) {
+            final Command command = this.queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (command == null) {
+                return;
+            }
+            batch.add(command);
+        }
+    }
+
+    private void execute(final List<Command> batch) {
+        final long start = System.nanoTime();
+        batch.forEach(command -> this.waitTimes.record(start - command.enqueuedNanos(), TimeUnit.NANOSECONDS));
+        this.batchSizes.record(batch.size());
+
+        final List<Object> results;
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            connection.openPipeline();
+            final List<byte[]> keys = new ArrayList<>();
+            for (final Command command : batch) {
+                if (command.isGet()) {
+                    keys.add(command.key());
+                    continue;
+                }
+                mGet(connection, keys);
+                connection.stringCommands().set(command.key(), command.value(), command.expiration(),
+                        RedisStringCommands.SetOption.upsert());
+            }
+            mGet(connection, keys);
+            results = connection.closePipeline();
+        } catch (final RuntimeException exception) {
+            batch.forEach(command -> command.result().completeExceptionally(exception));
+            return;
+        }
+        complete(batch, results);
+    }
+
+    private static void mGet(final RedisConnection connection, final List<byte[]> keys) {
+        if (!keys.isEmpty()) {
+            connection.stringCommands().mGet(keys.toArray(byte[][]::new));
+            keys.clear();
+        }
+    }
+
+    // Walks the batch with the same grouping used to send it, one result per MGET and per SET
+    private static void complete(final List<Command> batch, final List<Object> results) {
+        int result = 0;
+        int i = 0;
+        while (i < batch.size()) {
+            if (!batch.get(i).isGet()) {
+                batch.get(i++).result().complete(null);
+                result++;
+                continue;
+            }
+            final List<?> values = (List<?>) results.get(result++);
+            for (int j = 0; i < batch.size() && batch.get(i).isGet(); i++, j++) {
+                batch.get(i).result().complete((byte[]) values.get(j));
+            }
+        }
+    }
+
+    record Command(
+            byte[] key,
+            byte[] value,
+            Expiration expiration,
+            long enqueuedNanos,
+            CompletableFuture<byte[]> result) {
+
+        Command(final byte[] key, final byte[] value, final Expiration expiration) {
+            this(key, value, expiration, System.nanoTime(), new CompletableFuture<>());
+        }
+
+        // A set always has an expiration, persistent at least
+        boolean isGet() {
+            return this.expiration == null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.aaivan28.cache.redis.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact binary representation of a cached value type. The tag is written in front of every encoded value and
+ * identifies the codec on read, so it must be unique and must not be reused once a layout has been written to Redis; a
+ * new layout for the same type gets a new tag.
+ */
+public interface CacheValueCodec<T> {
+
+    byte tag();
+
+    Class<T> type();
+
+    void write(T value, DataOutput output) throws IOException;
+
+    T read(DataInput input) throws IOException;
+}
@@ -0,0 +1,6 @@
+package com.github.aaivan28.cache.redis.codec;
+
+public enum CacheValueFormat {
+    JSON,
+    COMPACT
+}
@@ -0,0 +1,92 @@
+package com.github.aaivan28.cache.redis.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes values that have a {@link CacheValueCodec} as {@code MARKER, tag, payload} and everything else through the
+ * fallback serializer. Both formats are always readable, so entries written as JSON before the switch keep working
+ * until they expire.
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    // Never the first byte of a UTF-8 encoded JSON document
+    static final byte MARKER = (byte) 0xC1;
+
+    private static final int HEADER_LENGTH = 2;
+    private static final int INITIAL_BUFFER_SIZE = 128;
+
+    private final RedisSerializer<Object> fallback;
+    private final CacheValueFormat format;
+    private final Map<Class<?>, CacheValueCodec<Object>> codecsByType = new HashMap<>();
+    private final CacheValueCodec<?>[] codecsByTag = new CacheValueCodec<?>[256];
+
+    @SuppressWarnings("unchecked")
+    public CompactRedisSerializer(final RedisSerializer<Object> fallback,
+                                  final CacheValueFormat format,
+                                  final Collection<? extends CacheValueCodec<?>> codecs) {
+        this.fallback = fallback;
+        this.format = format;
+        for (final CacheValueCodec<?> codec : codecs) {
+            final int tag = Byte.toUnsignedInt(codec.tag());
+            if (this.codecsByTag[tag] != null) {
+                throw new IllegalStateException("Duplicate cache value codec tag " + tag + " for " + codec.type().getName());
+            }
+            this.codecsByTag[tag] = codec;
+            this.codecsByType.put(codec.type(), (CacheValueCodec<Object>) codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(final Object value) throws SerializationException {
+        final CacheValueCodec<Object> codec = value == null || this.format != CacheValueFormat.COMPACT
+                ? null
+                : this.codecsByType.get(value.getClass());
+        if (codec == null) {
+            return this.fallback.serialize(value);
+        }
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(MARKER);
+            output.writeByte(codec.tag());
+            codec.write(value, output);
+        } catch (final IOException exception) {
+            // e.g. a string longer than the modified UTF-8 limit, JSON has no such limit
+            log.debug("Unable to encode {} with the compact codec, using the fallback serializer", value.getClass().getName(), exception);
+            return this.fallback.serialize(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(final byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_LENGTH || bytes[0] != MARKER) {
+            return this.fallback.deserialize(bytes);
+        }
+
+        final CacheValueCodec<?> codec = this.codecsByTag[Byte.toUnsignedInt(bytes[1])];
+        if (codec == null) {
+            // Written by a node that knows a codec this one does not, treated as a miss
+            log.debug("No cache value codec registered for tag {}", Byte.toUnsignedInt(bytes[1]));
+            return null;
+        }
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH))) {
+            return codec.read(input);
+        } catch (final IOException exception) {
+            throw new SerializationException("Unable to decode cached " + codec.type().getName(), exception);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.aaivan28.cache.redis.configuration;
+
+import com.github.aaivan28.cache.redis.metrics.CacheEntrySizes;
+import com.github.aaivan28.cache.redis.metrics.CacheStatsEndpoint;
+import com.github.aaivan28.cache.redis.metrics.TwoLevelCacheMetrics;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import com.github.aaivan28.cache.redis.properties.CacheMetricsProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "github.aaivan28.cache.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class CacheMetricsConfiguration {
+
+    private final CacheMetricsProperties cacheMetricsProperties;
+
+    @Bean
+    CacheEntrySizes cacheEntrySizes() {
+        return new CacheEntrySizes(this.cacheMetricsProperties.largestEntries());
+    }
+
+    @Bean
+    TwoLevelCacheMetrics twoLevelCacheMetrics(final TwoLevelCacheManager cacheManager) {
+        return new TwoLevelCacheMetrics(cacheManager);
+    }
+
+    @Bean
+    CacheStatsEndpoint cacheStatsEndpoint(final TwoLevelCacheManager cacheManager, final CacheEntrySizes cacheEntrySizes) {
+        return new CacheStatsEndpoint(cacheManager, cacheEntrySizes);
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.aaivan28.cache.redis.configuration;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationListener;
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import com.github.aaivan28.cache.redis.properties.NearCacheProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.UUID;
+
+@Configuration
+@RequiredArgsConstructor
+public class NearCacheConfiguration {
+
+    // Identifies the messages sent by this node so they are not applied twice
+    private final String origin = UUID.randomUUID().toString();
+
+    private final NearCacheProperties nearCacheProperties;
+
+    @Bean
+    CacheInvalidationPublisher cacheInvalidationPublisher(final StringRedisTemplate stringRedisTemplate,
+                                                          final ApplicationEventPublisher eventPublisher) {
+        return new CacheInvalidationPublisher(this.origin, this.nearCacheProperties.invalidationChannel(),
+                this.nearCacheProperties.batchInvalidations(), stringRedisTemplate, eventPublisher);
+    }
+
+    @Bean
+    CacheInvalidationListener cacheInvalidationListener(final TwoLevelCacheManager cacheManager,
+                                                        final ApplicationEventPublisher eventPublisher) {
+        return new CacheInvalidationListener(this.origin, cacheManager, eventPublisher);
+    }
+
+    @Bean
+    RedisMessageListenerContainer cacheInvalidationListenerContainer(final RedisConnectionFactory connectionFactory,
+                                                                     final CacheInvalidationListener cacheInvalidationListener) {
+        final SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("cache-invalidation-");
+        taskExecutor.setVirtualThreads(true);
+
+        final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(taskExecutor);
+        container.addMessageListener(cacheInvalidationListener, new ChannelTopic(this.nearCacheProperties.invalidationChannel()));
+        return container;
+    }
+}
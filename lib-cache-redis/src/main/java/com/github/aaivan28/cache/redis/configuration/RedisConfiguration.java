@@ -1,13 +1,37 @@
 package com.github.aaivan28.cache.redis.configuration;
 
+import com.github.aaivan28.cache.redis.batch.BatchingRedisCacheWriter;
+import com.github.aaivan28.cache.redis.batch.RedisCacheBatchOperations;
+import com.github.aaivan28.cache.redis.batch.RedisCommandBatcher;
+import com.github.aaivan28.cache.redis.codec.CacheValueCodec;
+import com.github.aaivan28.cache.redis.codec.CompactRedisSerializer;
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.metrics.CacheEntrySizes;
+import com.github.aaivan28.cache.redis.metrics.InstrumentedRedisCacheWriter;
+import com.github.aaivan28.cache.redis.metrics.InstrumentedRedisSerializer;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import com.github.aaivan28.cache.redis.properties.CacheBatchingProperties;
+import com.github.aaivan28.cache.redis.properties.CacheMetricsProperties;
+import com.github.aaivan28.cache.redis.properties.CacheRefreshProperties;
+import com.github.aaivan28.cache.redis.properties.CacheValueProperties;
+import com.github.aaivan28.cache.redis.properties.NearCacheProperties;
+import com.github.aaivan28.cache.redis.refresh.EarlyRefresh;
+import com.github.aaivan28.cache.redis.refresh.JitteredTtlFunction;
+import com.github.aaivan28.cache.redis.refresh.TimeToLiveRedisCacheWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.cache.CacheManager;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
@@ -16,40 +40,97 @@ import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSeriali
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
 @Configuration
-@EnableConfigurationProperties(CacheProperties.class)
+@EnableConfigurationProperties({CacheProperties.class, NearCacheProperties.class, CacheValueProperties.class,
+        CacheRefreshProperties.class, CacheBatchingProperties.class, CacheMetricsProperties.class})
 @RequiredArgsConstructor
 public class RedisConfiguration implements CachingConfigurer {
 
     private static final int BATCH_SIZE = 1000;
 
     private final CacheProperties cacheProperties;
+    private final NearCacheProperties nearCacheProperties;
+    private final CacheValueProperties cacheValueProperties;
+    private final CacheRefreshProperties cacheRefreshProperties;
+    private final CacheBatchingProperties cacheBatchingProperties;
+    private final CacheMetricsProperties cacheMetricsProperties;
+
+    @Bean
+    RedisCacheConfiguration redisCacheConfiguration(final ObjectProvider<CacheValueCodec<?>> cacheValueCodecs,
+                                                    final ObjectProvider<MeterRegistry> meterRegistry) {
+        return this.getRedisCacheConfiguration(this.cacheProperties, cacheValueCodecs.orderedStream().toList(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "github.aaivan28.cache.batching", name = "enabled", havingValue = "true")
+    RedisCommandBatcher redisCommandBatcher(final RedisConnectionFactory connectionFactory,
+                                            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RedisCommandBatcher(connectionFactory, this.cacheBatchingProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
 
     @Bean
-    CacheManager cacheManager(final RedisConnectionFactory connectionFactory) {
-        final RedisCacheConfiguration defaultCacheConfig = this.getRedisCacheConfiguration(this.cacheProperties);
+    TwoLevelCacheManager cacheManager(final RedisConnectionFactory connectionFactory,
+                                      final RedisCacheConfiguration redisCacheConfiguration,
+                                      final CacheInvalidationPublisher cacheInvalidationPublisher,
+                                      final ObjectProvider<RedisCommandBatcher> redisCommandBatcher,
+                                      final ObjectProvider<CacheEntrySizes> cacheEntrySizes,
+                                      final ObjectProvider<MeterRegistry> meterRegistry) {
+        RedisCacheWriter cacheWriter = new TimeToLiveRedisCacheWriter(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(BATCH_SIZE)), connectionFactory);
+        final RedisCommandBatcher batcher = redisCommandBatcher.getIfAvailable();
+        if (batcher != null) {
+            cacheWriter = new BatchingRedisCacheWriter(cacheWriter, batcher);
+        }
+        final CacheEntrySizes entrySizes = cacheEntrySizes.getIfAvailable();
+        if (entrySizes != null) {
+            cacheWriter = new InstrumentedRedisCacheWriter(cacheWriter, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), entrySizes);
+        }
 
         RedisCacheManager.RedisCacheManagerBuilder redisCacheManagerBuilder = RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultCacheConfig)
-                .cacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(BATCH_SIZE)));
+                .cacheDefaults(redisCacheConfiguration)
+                .cacheWriter(cacheWriter);
 
         if (this.cacheProperties.getRedis().isEnableStatistics()) {
             redisCacheManagerBuilder = redisCacheManagerBuilder.enableStatistics();
         }
 
-        return redisCacheManagerBuilder.build();
+        // Reads go through the writer of each cache, the one holding its statistics collector
+        final Function<Cache, EarlyRefresh> earlyRefreshFactory = this.cacheRefreshProperties.earlyRefresh()
+                ? remote -> new EarlyRefresh(remote.getName(), connectionFactory, redisCacheConfiguration,
+                        ((RedisCache) remote).getNativeCache(), this.cacheRefreshProperties.beta(), this.cacheRefreshProperties.leaseTime())
+                : remote -> null;
+        final SimpleAsyncTaskExecutor refreshExecutor = new SimpleAsyncTaskExecutor("cache-refresh-");
+        refreshExecutor.setVirtualThreads(true);
+
+        return new TwoLevelCacheManager(redisCacheManagerBuilder.build(), this.nearCacheProperties, cacheInvalidationPublisher,
+                earlyRefreshFactory, refreshExecutor);
     }
 
-    private RedisCacheConfiguration getRedisCacheConfiguration(final CacheProperties cacheProperties) {
+    @Bean
+    RedisCacheBatchOperations redisCacheBatchOperations(final RedisConnectionFactory connectionFactory,
+                                                        final RedisCacheConfiguration redisCacheConfiguration,
+                                                        final TwoLevelCacheManager cacheManager,
+                                                        final CacheInvalidationPublisher cacheInvalidationPublisher) {
+        return new RedisCacheBatchOperations(connectionFactory, redisCacheConfiguration, cacheManager, cacheInvalidationPublisher);
+    }
+
+    private RedisCacheConfiguration getRedisCacheConfiguration(final CacheProperties cacheProperties,
+                                                               final List<CacheValueCodec<?>> cacheValueCodecs,
+                                                               final MeterRegistry meterRegistry) {
 
         final CacheProperties.Redis redisProperties = cacheProperties.getRedis();
 
         RedisCacheConfiguration redisConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.string()))
-                .serializeValuesWith(this.getValueSerializer());
+                .serializeValuesWith(this.getValueSerializer(cacheValueCodecs, meterRegistry));
 
         if (redisProperties.getTimeToLive() != null) {
-            redisConfig = redisConfig.entryTtl(redisProperties.getTimeToLive());
+            redisConfig = redisConfig.entryTtl(new JitteredTtlFunction(redisProperties.getTimeToLive(), this.cacheRefreshProperties.ttlJitter()));
         }
 
         if (redisProperties.getKeyPrefix() != null) {
@@ -67,8 +148,14 @@ public class RedisConfiguration implements CachingConfigurer {
         return redisConfig;
     }
 
-    private RedisSerializationContext.SerializationPair<Object> getValueSerializer() {
-        final RedisSerializer<Object> serializer = new GenericJackson2JsonRedisSerializer();
+    private RedisSerializationContext.SerializationPair<Object> getValueSerializer(final List<CacheValueCodec<?>> cacheValueCodecs,
+                                                                                   final MeterRegistry meterRegistry) {
+        RedisSerializer<Object> serializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(),
+                this.cacheValueProperties.format(), cacheValueCodecs);
+        if (this.cacheMetricsProperties.enabled()) {
+            serializer = new InstrumentedRedisSerializer(serializer, this.cacheValueProperties.format().name().toLowerCase(Locale.ROOT),
+                    meterRegistry);
+        }
         return RedisSerializationContext.SerializationPair.fromSerializer(serializer);
     }
 }
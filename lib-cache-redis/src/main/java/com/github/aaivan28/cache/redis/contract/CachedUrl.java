@@ -0,0 +1,9 @@
+package com.github.aaivan28.cache.redis.contract;
+
+/**
+ * Value of a redirect cache entry: what a redirect needs and nothing else.
+ *
+ * @param redirectStatus {@code null} for URLs created before it existed, which use the default redirect
+ */
+public record CachedUrl(String url, boolean enabled, Integer redirectStatus) {
+}
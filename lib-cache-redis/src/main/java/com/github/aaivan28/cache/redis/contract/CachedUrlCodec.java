@@ -0,0 +1,52 @@
+package com.github.aaivan28.cache.redis.contract;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Layout of {@link UrlCacheContract#VERSION} 1 of the redirect cache value: a flags byte (enabled, has URL, has redirect
+ * status), the URL as modified UTF-8 and the status as an unsigned short. The status goes last and is flagged, so
+ * entries written before it existed read as the default redirect and older readers ignore it.
+ * <p>
+ * Services that cache their own document type delegate to this codec, so every service writes the same bytes.
+ */
+public class CachedUrlCodec implements CacheValueCodec<CachedUrl> {
+
+    private static final int ENABLED = 1;
+    private static final int HAS_URL = 1 << 1;
+    private static final int HAS_REDIRECT_STATUS = 1 << 2;
+
+    @Override
+    public byte tag() {
+        return UrlCacheContract.VALUE_TAG;
+    }
+
+    @Override
+    public Class<CachedUrl> type() {
+        return CachedUrl.class;
+    }
+
+    @Override
+    public void write(final CachedUrl cachedUrl, final DataOutput output) throws IOException {
+        output.writeByte((cachedUrl.enabled() ? ENABLED : 0)
+                | (cachedUrl.url() != null ? HAS_URL : 0)
+                | (cachedUrl.redirectStatus() != null ? HAS_REDIRECT_STATUS : 0));
+        if (cachedUrl.url() != null) {
+            output.writeUTF(cachedUrl.url());
+        }
+        if (cachedUrl.redirectStatus() != null) {
+            output.writeShort(cachedUrl.redirectStatus());
+        }
+    }
+
+    @Override
+    public CachedUrl read(final DataInput input) throws IOException {
+        final int flags = input.readUnsignedByte();
+        final String url = (flags & HAS_URL) != 0 ? input.readUTF() : null;
+        final Integer redirectStatus = (flags & HAS_REDIRECT_STATUS) != 0 ? input.readUnsignedShort() : null;
+        return new CachedUrl(url, (flags & ENABLED) != 0, redirectStatus);
+    }
+}
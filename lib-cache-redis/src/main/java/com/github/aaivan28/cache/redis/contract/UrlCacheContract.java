@@ -0,0 +1,31 @@
+package com.github.aaivan28.cache.redis.contract;
+
+/**
+ * What every service reading or writing the redirect cache has to agree on: the cache and collection names, the Redis
+ * key of an entry, the invalidation channel and the {@link CachedUrlCodec} layout of the value. Services import the
+ * prefix, format and channel with {@code spring.config.import: classpath:url-cache-contract.yaml}, which ships with
+ * this library and is checked against these constants.
+ * <p>
+ * A change to the value layout is a new {@link #VERSION} with a new {@link #VALUE_TAG}; the previous codec stays
+ * registered until the entries written with it have expired.
+ */
+public final class UrlCacheContract {
+
+    public static final int VERSION = 1;
+
+    public static final String CACHE_NAME = "url";
+    public static final String COLLECTION_NAME = "shortened_url";
+    public static final String KEY_PREFIX = "url-shortener-cache-";
+    public static final String INVALIDATION_CHANNEL = "url-shortener-cache-invalidation";
+    public static final byte VALUE_TAG = 1;
+
+    private UrlCacheContract() {
+    }
+
+    /**
+     * @return the Redis key of the entry of a short URL, as {@code RedisCache} builds it with {@link #KEY_PREFIX}
+     */
+    public static String redisKey(final String urlKey) {
+        return KEY_PREFIX + CACHE_NAME + "::" + urlKey;
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.aaivan28.cache.redis.invalidation;
+
+/**
+ * Published in the application context every time an entry is evicted or rewritten, either by this node or by a
+ * remote node through the invalidation channel. A {@code null} key means the whole cache was cleared.
+ */
+public record CacheInvalidationEvent(
+        String cacheName,
+        String key) {
+
+    public boolean isClear() {
+        return this.key == null;
+    }
+}
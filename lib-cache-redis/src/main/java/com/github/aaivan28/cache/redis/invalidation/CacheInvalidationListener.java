@@ -0,0 +1,51 @@
+package com.github.aaivan28.cache.redis.invalidation;
+
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final String origin;
+    private final TwoLevelCacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void onMessage(final @NonNull Message message, final byte[] pattern) {
+        final CacheInvalidationMessage invalidation;
+        try {
+            invalidation = CacheInvalidationMessage.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (final IllegalArgumentException exception) {
+            log.warn("Ignoring cache invalidation: {}", exception.getMessage());
+            return;
+        }
+
+        if (this.origin.equals(invalidation.origin())) {
+            return;
+        }
+
+        if (invalidation.isClear()) {
+            log.debug("Remote clear of {}", invalidation.cacheName());
+            this.invalidate(invalidation.cacheName(), null);
+            return;
+        }
+
+        log.debug("Remote invalidation of {} keys of {}", invalidation.keys().size(), invalidation.cacheName());
+        for (final String key : invalidation.keys()) {
+            this.invalidate(invalidation.cacheName(), key);
+        }
+    }
+
+    private void invalidate(final String cacheName, final String key) {
+        this.cacheManager.invalidateLocal(cacheName, key);
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(cacheName, key));
+    }
+}
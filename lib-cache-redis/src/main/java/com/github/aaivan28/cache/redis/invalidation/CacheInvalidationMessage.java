@@ -0,0 +1,33 @@
+package com.github.aaivan28.cache.redis.invalidation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code origin\ncacheName[\nkey...]}; no keys means the whole cache was cleared. Nodes that predate several keys read
+ * them as a single key, so the publisher only sends them with {@code batch-invalidations}.
+ */
+record CacheInvalidationMessage(
+        String origin,
+        String cacheName,
+        List<String> keys) {
+
+    private static final String SEPARATOR = "\n";
+
+    String encode() {
+        final String message = this.origin + SEPARATOR + this.cacheName;
+        return this.keys.isEmpty() ? message : message + SEPARATOR + String.join(SEPARATOR, this.keys);
+    }
+
+    boolean isClear() {
+        return this.keys.isEmpty();
+    }
+
+    static CacheInvalidationMessage decode(final String message) {
+        final String[] parts = message.split(SEPARATOR);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + message);
+        }
+        return new CacheInvalidationMessage(parts[0], parts[1], List.of(Arrays.copyOfRange(parts, 2, parts.length)));
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.aaivan28.cache.redis.invalidation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    private final String origin;
+    private final String channel;
+    // Nodes that predate batched messages read a batch as one key, so batches are only sent once every node decodes them
+    private final boolean batch;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void publish(final String cacheName, final String key) {
+        this.eventPublisher.publishEvent(new CacheInvalidationEvent(cacheName, key));
+        this.send(new CacheInvalidationMessage(this.origin, cacheName, key == null ? List.of() : List.of(key)));
+    }
+
+    // One message for the whole batch, or one per key in a single pipeline; local listeners get one event per key
+    public void publishAll(final String cacheName, final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        keys.forEach(key -> this.eventPublisher.publishEvent(new CacheInvalidationEvent(cacheName, key)));
+        if (this.batch) {
+            this.send(new CacheInvalidationMessage(this.origin, cacheName, List.copyOf(keys)));
+        } else {
+            this.sendEach(cacheName, keys);
+        }
+    }
+
+    public void publishClear(final String cacheName) {
+        this.publish(cacheName, null);
+    }
+
+    private void sendEach(final String cacheName, final Collection<String> keys) {
+        final byte[] channel = this.channel.getBytes(StandardCharsets.UTF_8);
+        try {
+            this.redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (final String key : keys) {
+                    final CacheInvalidationMessage message = new CacheInvalidationMessage(this.origin, cacheName, List.of(key));
+                    connection.publish(channel, message.encode().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (final DataAccessException exception) {
+            log.warn("Unable to publish invalidation of {} keys of {}", keys.size(), cacheName, exception);
+        }
+    }
+
+    private void send(final CacheInvalidationMessage message) {
+        try {
+            this.redisTemplate.convertAndSend(this.channel, message.encode());
+        } catch (final DataAccessException exception) {
+            // Remote near caches fall back to their own time to live
+            log.warn("Unable to publish invalidation of {} keys of {}", message.keys().size(), message.cacheName(), exception);
+        }
+    }
+}
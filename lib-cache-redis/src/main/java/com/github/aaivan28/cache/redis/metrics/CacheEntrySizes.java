@@ -0,0 +1,81 @@
+package com.github.aaivan28.cache.redis.metrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps, per cache, the largest values written to Redis. Most writes are smaller than the smallest entry kept and
+ * return after a single volatile read. An entry that expired, was evicted or shrank stays until a larger one replaces
+ * it or the cache is cleared.
+ */
+public class CacheEntrySizes {
+
+    private final int capacity;
+    private final Map<String, Largest> caches = new ConcurrentHashMap<>();
+
+    public CacheEntrySizes(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    void record(final String cacheName, final byte[] key, final int size) {
+        if (this.capacity > 0) {
+            this.caches.computeIfAbsent(cacheName, name -> new Largest(this.capacity)).record(key, size);
+        }
+    }
+
+    void clear(final String cacheName) {
+        this.caches.remove(cacheName);
+    }
+
+    /**
+     * @return the largest entries of the cache, largest first
+     */
+    public List<Entry> largest(final String cacheName) {
+        final Largest largest = this.caches.get(cacheName);
+        return largest == null ? List.of() : largest.snapshot();
+    }
+
+    public record Entry(String key, int size) {
+    }
+
+    private static final class Largest {
+
+        private final int capacity;
+        private final Map<String, Integer> sizes = new HashMap<>();
+        // Size a write has to exceed to get in once full
+        private volatile int threshold = -1;
+
+        private Largest(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void record(final byte[] key, final int size) {
+            if (size <= this.threshold) {
+                return;
+            }
+            synchronized (this) {
+                this.sizes.put(new String(key, StandardCharsets.UTF_8), size);
+                if (this.sizes.size() > this.capacity) {
+                    this.sizes.entrySet().stream()
+                            .min(Map.Entry.comparingByValue())
+                            .ifPresent(smallest -> this.sizes.remove(smallest.getKey()));
+                }
+                if (this.sizes.size() == this.capacity) {
+                    this.threshold = this.sizes.values().stream().mapToInt(Integer::intValue).min().orElse(-1);
+                }
+            }
+        }
+
+        private synchronized List<Entry> snapshot() {
+            final List<Entry> entries = new ArrayList<>(this.sizes.size());
+            this.sizes.forEach((key, size) -> entries.add(new Entry(key, size)));
+            entries.sort(Comparator.comparingInt(Entry::size).reversed());
+            return entries;
+        }
+    }
+}
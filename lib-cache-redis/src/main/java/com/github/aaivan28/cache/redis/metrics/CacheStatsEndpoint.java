@@ -0,0 +1,89 @@
+package com.github.aaivan28.cache.redis.metrics;
+
+import com.github.aaivan28.cache.redis.near.TwoLevelCache;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hit ratios of each cache since startup, per tier and as seen by Redis, with its largest entries.
+ */
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheEntrySizes entrySizes;
+
+    @ReadOperation
+    public Map<String, CacheStats> caches() {
+        final Map<String, CacheStats> caches = new TreeMap<>();
+        this.cacheManager.getCaches().forEach(cache -> caches.put(cache.getName(), this.stats(cache)));
+        return caches;
+    }
+
+    @ReadOperation
+    public CacheStats cache(final @Selector String name) {
+        return this.cacheManager.getCaches().stream()
+                .filter(cache -> cache.getName().equals(name))
+                .findFirst()
+                .map(this::stats)
+                .orElse(null);
+    }
+
+    private CacheStats stats(final TwoLevelCache cache) {
+        final TwoLevelCacheStatistics statistics = cache.getStatistics();
+        final long gets = statistics.gets();
+        return new CacheStats(
+                gets,
+                ratio(statistics.localHits() + statistics.remoteHits(), gets),
+                ratio(statistics.localHits(), gets),
+                ratio(statistics.remoteHits(), gets),
+                statistics.loads(),
+                statistics.loads() == 0 ? 0 : statistics.loadNanos() / 1e6 / statistics.loads(),
+                cache.estimatedLocalSize(),
+                cache.getRemote() instanceof RedisCache redisCache ? RedisStats.of(redisCache.getStatistics()) : null,
+                this.entrySizes.largest(cache.getName()));
+    }
+
+    private static double ratio(final long count, final long total) {
+        return total == 0 ? 0 : (double) count / total;
+    }
+
+    /**
+     * @param hitRatio       reads answered by either tier
+     * @param localHitRatio  reads answered from the memory of this node
+     * @param remoteHitRatio reads answered by Redis after missing the local tier
+     */
+    public record CacheStats(
+            long gets,
+            double hitRatio,
+            double localHitRatio,
+            double remoteHitRatio,
+            long loads,
+            double meanLoadMillis,
+            long localSize,
+            RedisStats redis,
+            List<CacheEntrySizes.Entry> largestEntries) {
+    }
+
+    /**
+     * Counters kept by the Redis cache itself, zero unless {@code spring.cache.redis.enable-statistics} is set.
+     */
+    public record RedisStats(long gets, long hits, long misses, long puts, long deletes, double hitRatio) {
+
+        static RedisStats of(final CacheStatistics statistics) {
+            return new RedisStats(statistics.getGets(), statistics.getHits(), statistics.getMisses(), statistics.getPuts(),
+                    statistics.getDeletes(), ratio(statistics.getHits(), statistics.getGets()));
+        }
+    }
+}
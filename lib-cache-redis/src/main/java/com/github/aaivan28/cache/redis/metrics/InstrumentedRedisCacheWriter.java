@@ -0,0 +1,197 @@
+package com.github.aaivan28.cache.redis.metrics;
+
+import com.github.aaivan28.cache.redis.refresh.TimeToLiveReader;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RedisCacheWriter} that times every command sent for a cache and records the size of the values read and
+ * written, keeping the largest ones in {@link CacheEntrySizes}. Wrapping the batching writer, the latency includes the
+ * time a command waited for its batch.
+ */
+public class InstrumentedRedisCacheWriter implements RedisCacheWriter, TimeToLiveReader {
+
+    static final String COMMAND_METER = "cache.redis.command";
+    static final String VALUE_SIZE_METER = "cache.redis.value.size";
+
+    private final RedisCacheWriter delegate;
+    private final MeterRegistry meterRegistry;
+    private final CacheEntrySizes entrySizes;
+    private final Map<String, Meters> meters;
+
+    public InstrumentedRedisCacheWriter(final RedisCacheWriter delegate,
+                                        final MeterRegistry meterRegistry,
+                                        final CacheEntrySizes entrySizes) {
+        this(delegate, meterRegistry, entrySizes, new ConcurrentHashMap<>());
+    }
+
+    private InstrumentedRedisCacheWriter(final RedisCacheWriter delegate,
+                                         final MeterRegistry meterRegistry,
+                                         final CacheEntrySizes entrySizes,
+                                         final Map<String, Meters> meters) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.entrySizes = entrySizes;
+        this.meters = meters;
+    }
+
+    @Override
+    public byte[] get(final String name, final byte[] key) {
+        final long start = System.nanoTime();
+        final byte[] value = this.delegate.get(name, key);
+        this.recordRead(this.meters(name), start, value);
+        return value;
+    }
+
+    @Override
+    public ExpiringValue getWithTimeToLive(final String name, final byte[] key) {
+        final long start = System.nanoTime();
+        final ExpiringValue value = TimeToLiveReader.read(this.delegate, name, key);
+        this.recordRead(this.meters(name), start, value.value());
+        return value;
+    }
+
+    @Override
+    public byte[] get(final String name, final byte[] key, final Duration ttl) {
+        final long start = System.nanoTime();
+        final byte[] value = this.delegate.get(name, key, ttl);
+        this.recordRead(this.meters(name), start, value);
+        return value;
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return this.delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(final String name, final byte[] key, final Duration ttl) {
+        final long start = System.nanoTime();
+        final Meters cacheMeters = this.meters(name);
+        return this.delegate.retrieve(name, key, ttl).whenComplete((value, exception) -> this.recordRead(cacheMeters, start, value));
+    }
+
+    @Override
+    public void put(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        final long start = System.nanoTime();
+        this.delegate.put(name, key, value, ttl);
+        this.recordWrite(name, this.meters(name).put(), start, key, value);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        final long start = System.nanoTime();
+        final Meters cacheMeters = this.meters(name);
+        return this.delegate.store(name, key, value, ttl)
+                .whenComplete((ignored, exception) -> this.recordWrite(name, cacheMeters.put(), start, key, value));
+    }
+
+    @Override
+    public byte[] putIfAbsent(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        final long start = System.nanoTime();
+        final byte[] existing = this.delegate.putIfAbsent(name, key, value, ttl);
+        this.recordWrite(name, this.meters(name).putIfAbsent(), start, key, existing == null ? value : null);
+        return existing;
+    }
+
+    @Override
+    public void remove(final String name, final byte[] key) {
+        final long start = System.nanoTime();
+        this.delegate.remove(name, key);
+        this.meters(name).remove().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void clean(final String name, final byte[] pattern) {
+        final long start = System.nanoTime();
+        this.delegate.clean(name, pattern);
+        this.meters(name).clean().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        this.entrySizes.clear(name);
+    }
+
+    @Override
+    public void clearStatistics(final String name) {
+        this.delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(final CacheStatisticsCollector cacheStatisticsCollector) {
+        return new InstrumentedRedisCacheWriter(this.delegate.withStatisticsCollector(cacheStatisticsCollector),
+                this.meterRegistry, this.entrySizes, this.meters);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(final String cacheName) {
+        return this.delegate.getCacheStatistics(cacheName);
+    }
+
+    private void recordRead(final Meters cacheMeters, final long start, final byte[] value) {
+        cacheMeters.get().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (value != null) {
+            cacheMeters.readSize().record(value.length);
+        }
+    }
+
+    private void recordWrite(final String name, final Timer timer, final long start, final byte[] key, final byte[] value) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (value != null) {
+            this.meters(name).writeSize().record(value.length);
+            this.entrySizes.record(name, key, value.length);
+        }
+    }
+
+    private Meters meters(final String name) {
+        final Meters cacheMeters = this.meters.get(name);
+        return cacheMeters != null ? cacheMeters : this.meters.computeIfAbsent(name, this::register);
+    }
+
+    private Meters register(final String name) {
+        return new Meters(
+                this.command(name, "get"),
+                this.command(name, "put"),
+                this.command(name, "put_if_absent"),
+                this.command(name, "remove"),
+                this.command(name, "clean"),
+                this.valueSize(name, "read"),
+                this.valueSize(name, "write"));
+    }
+
+    private Timer command(final String name, final String command) {
+        return Timer.builder(COMMAND_METER)
+                .description("Latency of the Redis commands sent for a cache")
+                .tag("cache", name)
+                .tag("command", command)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private DistributionSummary valueSize(final String name, final String operation) {
+        return DistributionSummary.builder(VALUE_SIZE_METER)
+                .description("Size of the values read from and written to Redis for a cache")
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private record Meters(
+            Timer get,
+            Timer put,
+            Timer putIfAbsent,
+            Timer remove,
+            Timer clean,
+            DistributionSummary readSize,
+            DistributionSummary writeSize) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.aaivan28.cache.redis.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the encoding and decoding of the cached values, which runs on the request thread for every Redis read and
+ * write. The serializer is shared by all caches, so the timings are tagged with the value format only.
+ */
+public class InstrumentedRedisSerializer implements RedisSerializer<Object> {
+
+    static final String SERIALIZER_METER = "cache.serializer";
+
+    private final RedisSerializer<Object> delegate;
+    private final Timer encode;
+    private final Timer decode;
+
+    public InstrumentedRedisSerializer(final RedisSerializer<Object> delegate, final String format, final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encode = timer("encode", format, meterRegistry);
+        this.decode = timer("decode", format, meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(final Object value) throws SerializationException {
+        final long start = System.nanoTime();
+        try {
+            return this.delegate.serialize(value);
+        } finally {
+            this.encode.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Object deserialize(final byte[] bytes) throws SerializationException {
+        final long start = System.nanoTime();
+        try {
+            return this.delegate.deserialize(bytes);
+        } finally {
+            this.decode.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(final String operation, final String format, final MeterRegistry meterRegistry) {
+        return Timer.builder(SERIALIZER_METER)
+                .description("Time spent encoding and decoding cached values")
+                .tag("operation", operation)
+                .tag("format", format)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.aaivan28.cache.redis.metrics;
+
+import com.github.aaivan28.cache.redis.near.TwoLevelCache;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheManager;
+import com.github.aaivan28.cache.redis.near.TwoLevelCacheStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Binds the reads of every {@link TwoLevelCache} by answering tier, its loads and the size of its local tier. Caches
+ * are created on first use, so each one is bound when the manager creates it.
+ */
+@RequiredArgsConstructor
+public class TwoLevelCacheMetrics implements MeterBinder {
+
+    static final String GETS_METER = "cache.tier.gets";
+    static final String LOAD_METER = "cache.load";
+    static final String LOCAL_SIZE_METER = "cache.local.size";
+
+    private final TwoLevelCacheManager cacheManager;
+
+    @Override
+    public void bindTo(final @NonNull MeterRegistry registry) {
+        this.cacheManager.onCacheCreated(cache -> bind(cache, registry));
+    }
+
+    private static void bind(final TwoLevelCache cache, final MeterRegistry registry) {
+        final TwoLevelCacheStatistics statistics = cache.getStatistics();
+        gets(cache, registry, "local", TwoLevelCacheStatistics::localHits);
+        gets(cache, registry, "remote", TwoLevelCacheStatistics::remoteHits);
+        gets(cache, registry, "source", TwoLevelCacheStatistics::misses);
+
+        FunctionTimer.builder(LOAD_METER, statistics, TwoLevelCacheStatistics::loads,
+                        TwoLevelCacheStatistics::loadNanos, TimeUnit.NANOSECONDS)
+                .description("Loads from the source of truth after a miss in both tiers")
+                .tag("cache", cache.getName())
+                .register(registry);
+
+        Gauge.builder(LOCAL_SIZE_METER, cache, TwoLevelCache::estimatedLocalSize)
+                .description("Approximate number of entries in the local tier")
+                .tag("cache", cache.getName())
+                .register(registry);
+    }
+
+    private static void gets(final TwoLevelCache cache, final MeterRegistry registry, final String tier,
+                             final ToDoubleFunction<TwoLevelCacheStatistics> count) {
+        FunctionCounter.builder(GETS_METER, cache.getStatistics(), count)
+                .description("Cache reads by the tier that answered them, source being a miss in both tiers")
+                .tag("cache", cache.getName())
+                .tag("tier", tier)
+                .register(registry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.aaivan28.cache.redis.near;
+
+/**
+ * Tier that answered the last {@link TwoLevelCache} read on the current thread. {@link #SOURCE} means neither tier had
+ * the entry and the caller had to load it.
+ */
+public enum CacheTier {
+    LOCAL,
+    REMOTE,
+    SOURCE;
+
+    private static final ThreadLocal<CacheTier> LAST = new ThreadLocal<>();
+
+    /**
+     * Returns and clears the tier recorded by the last read on this thread, or {@code null} if the cache was not read.
+     */
+    public static CacheTier pop() {
+        final CacheTier tier = LAST.get();
+        LAST.remove();
+        return tier;
+    }
+
+    static void record(final CacheTier tier) {
+        LAST.set(tier);
+    }
+}
@@ -0,0 +1,276 @@
+package com.github.aaivan28.cache.redis.near;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.refresh.EarlyRefresh;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Cache that keeps a bounded in-process copy of the hottest entries in front of the shared Redis cache. Values loaded
+ * on a miss are only stored; explicit writes and evictions are also broadcast so the other nodes drop their local copy.
+ * <p>
+ * Concurrent misses for the same key on this node share a single load. With {@link EarlyRefresh} (which needs the
+ * local tier to remember expiry times) hot entries are reloaded in the background shortly before they expire.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final EarlyRefresh earlyRefresh;
+    private final Executor refreshExecutor;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final TwoLevelCacheStatistics statistics = new TwoLevelCacheStatistics();
+
+    public TwoLevelCache(final Cache remote,
+                         final com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         final CacheInvalidationPublisher invalidationPublisher) {
+        this(remote, local, invalidationPublisher, null, null);
+    }
+
+    public TwoLevelCache(final Cache remote,
+                         final com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                         final CacheInvalidationPublisher invalidationPublisher,
+                         final EarlyRefresh earlyRefresh,
+                         final Executor refreshExecutor) {
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+        this.earlyRefresh = local == null ? null : earlyRefresh;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return this.remote.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return this.remote.getNativeCache();
+    }
+
+    public Cache getRemote() {
+        return this.remote;
+    }
+
+    public TwoLevelCacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * @return the approximate number of entries held by the local tier, {@code 0} when it is disabled
+     */
+    public long estimatedLocalSize() {
+        return this.local == null ? 0 : this.local.estimatedSize();
+    }
+
+    @Override
+    public ValueWrapper get(final @NonNull Object key) {
+        final LocalEntry localEntry = this.getLocal(key);
+        if (localEntry != null) {
+            this.record(CacheTier.LOCAL);
+            return new SimpleValueWrapper(localEntry.value());
+        }
+        return this.getRemote(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final @NonNull Object key, final Class<T> type) {
+        final ValueWrapper wrapper = this.get(key);
+        final Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final @NonNull Object key, final @NonNull Callable<T> valueLoader) {
+        final LocalEntry localEntry = this.getLocal(key);
+        if (localEntry != null) {
+            this.record(CacheTier.LOCAL);
+            if (this.earlyRefresh != null && this.earlyRefresh.shouldRefresh(localEntry.expiry())) {
+                this.refresh(key, valueLoader);
+            }
+            return (T) localEntry.value();
+        }
+
+        final ValueWrapper wrapper = this.getRemote(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        return (T) this.load(key, valueLoader);
+    }
+
+    @Override
+    public void put(final @NonNull Object key, final Object value) {
+        this.remote.put(key, value);
+        this.invalidateLocal(key);
+        this.invalidationPublisher.publish(this.getName(), String.valueOf(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final @NonNull Object key, final Object value) {
+        final ValueWrapper existing = this.remote.putIfAbsent(key, value);
+        if (existing == null) {
+            this.invalidateLocal(key);
+            this.invalidationPublisher.publish(this.getName(), String.valueOf(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(final @NonNull Object key) {
+        this.remote.evict(key);
+        this.invalidateLocal(key);
+        this.invalidationPublisher.publish(this.getName(), String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        this.remote.clear();
+        this.invalidateLocal(null);
+        this.invalidationPublisher.publishClear(this.getName());
+    }
+
+    void invalidateLocal(final Object key) {
+        if (this.local == null) {
+            return;
+        }
+        if (key == null) {
+            this.local.invalidateAll();
+        } else {
+            this.local.invalidate(String.valueOf(key));
+        }
+    }
+
+    private void record(final CacheTier tier) {
+        CacheTier.record(tier);
+        this.statistics.record(tier);
+    }
+
+    private ValueWrapper getRemote(final Object key) {
+        final ValueWrapper remoteValue;
+        long expiry = 0;
+        if (this.earlyRefresh == null) {
+            remoteValue = this.remote.get(key);
+        } else {
+            // The expiry comes in the same round trip, so entries written by other nodes are refreshed early as well
+            final EarlyRefresh.RemoteEntry remoteEntry = this.earlyRefresh.read(key);
+            remoteValue = remoteEntry == null ? null : new SimpleValueWrapper(remoteEntry.value());
+            expiry = remoteEntry == null ? 0 : remoteEntry.expiry();
+        }
+
+        if (remoteValue != null) {
+            this.record(CacheTier.REMOTE);
+            this.putLocal(key, remoteValue.get(), expiry);
+        } else {
+            this.record(CacheTier.SOURCE);
+        }
+        return remoteValue;
+    }
+
+    // The first miss loads, the others wait for its result
+    private Object load(final Object key, final Callable<?> valueLoader) {
+        final String localKey = String.valueOf(key);
+        final CompletableFuture<Object> load = new CompletableFuture<>();
+        final CompletableFuture<Object> running = this.loads.putIfAbsent(localKey, load);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (final CompletionException exception) {
+                throw exception.getCause() instanceof RuntimeException cause ? cause : exception;
+            }
+        }
+
+        try {
+            final Object value = this.loadAndStore(key, valueLoader);
+            load.complete(value);
+            return value;
+        } catch (final RuntimeException exception) {
+            load.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            this.loads.remove(localKey, load);
+        }
+    }
+
+    // At most one refresh per key on this node, and only on the node holding the lease. Misses never wait for it.
+    private void refresh(final Object key, final Callable<?> valueLoader) {
+        final String localKey = String.valueOf(key);
+        if (!this.refreshing.add(localKey)) {
+            return;
+        }
+
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    if (this.earlyRefresh.tryLease(key)) {
+                        this.loadAndStore(key, valueLoader);
+                    } else {
+                        // Another node is reloading it, read its value and expiry again from Redis
+                        this.invalidateLocal(key);
+                    }
+                } catch (final RuntimeException exception) {
+                    log.warn("Unable to refresh {} in cache {}", key, this.getName(), exception);
+                } finally {
+                    this.refreshing.remove(localKey);
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            this.refreshing.remove(localKey);
+        }
+    }
+
+    private Object loadAndStore(final Object key, final Callable<?> valueLoader) {
+        final long start = System.nanoTime();
+        final Object value;
+        try {
+            value = valueLoader.call();
+        } catch (final Exception exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+        final long elapsed = System.nanoTime() - start;
+        this.statistics.recordLoad(elapsed);
+        if (this.earlyRefresh != null) {
+            this.earlyRefresh.recordLoad(elapsed);
+        }
+
+        if (value != null) {
+            this.remote.put(key, value);
+            this.putLocal(key, value, this.earlyRefresh == null ? 0 : this.earlyRefresh.expiryOfWrite(key, value));
+        }
+        return value;
+    }
+
+    private LocalEntry getLocal(final Object key) {
+        return this.local == null ? null : (LocalEntry) this.local.getIfPresent(String.valueOf(key));
+    }
+
+    private void putLocal(final Object key, final Object value, final long expiry) {
+        if (this.local != null && value != null) {
+            this.local.put(String.valueOf(key), new LocalEntry(value, expiry));
+        }
+    }
+
+    private record LocalEntry(Object value, long expiry) {
+    }
+}
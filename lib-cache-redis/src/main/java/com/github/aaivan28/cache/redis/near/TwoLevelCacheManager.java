@@ -0,0 +1,102 @@
+package com.github.aaivan28.cache.redis.near;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.properties.NearCacheProperties;
+import com.github.aaivan28.cache.redis.refresh.EarlyRefresh;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@RequiredArgsConstructor
+public class TwoLevelCacheManager implements CacheManager, InitializingBean {
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<TwoLevelCache>> cacheListeners = new CopyOnWriteArrayList<>();
+
+    private final RedisCacheManager redisCacheManager;
+    private final NearCacheProperties nearCacheProperties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Function<Cache, EarlyRefresh> earlyRefreshFactory;
+    private final Executor refreshExecutor;
+
+    public TwoLevelCacheManager(final RedisCacheManager redisCacheManager,
+                                final NearCacheProperties nearCacheProperties,
+                                final CacheInvalidationPublisher invalidationPublisher) {
+        this(redisCacheManager, nearCacheProperties, invalidationPublisher, remote -> null, Runnable::run);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.redisCacheManager.afterPropertiesSet();
+    }
+
+    @Override
+    public Cache getCache(final @NonNull String name) {
+        final TwoLevelCache cache = this.caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        final Cache remote = this.redisCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return this.caches.computeIfAbsent(name, key -> {
+            final TwoLevelCache created = this.createCache(remote);
+            this.cacheListeners.forEach(listener -> listener.accept(created));
+            return created;
+        });
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return this.redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * @return the caches created so far, caches are created on their first use
+     */
+    public Collection<TwoLevelCache> getCaches() {
+        return this.caches.values();
+    }
+
+    /**
+     * Calls the listener with every cache already created and with each one created later.
+     */
+    public void onCacheCreated(final Consumer<TwoLevelCache> listener) {
+        this.cacheListeners.add(listener);
+        this.caches.values().forEach(listener);
+    }
+
+    public void invalidateLocal(final String cacheName, final String key) {
+        final TwoLevelCache cache = this.caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateLocal(key);
+        }
+    }
+
+    private TwoLevelCache createCache(final Cache remote) {
+        if (!this.nearCacheProperties.enabled()) {
+            return new TwoLevelCache(remote, null, this.invalidationPublisher);
+        }
+
+        return new TwoLevelCache(remote, Caffeine.newBuilder()
+                .maximumSize(this.nearCacheProperties.maximumSize())
+                .expireAfterWrite(this.nearCacheProperties.timeToLive())
+                .build(), this.invalidationPublisher, this.earlyRefreshFactory.apply(remote), this.refreshExecutor);
+    }
+}
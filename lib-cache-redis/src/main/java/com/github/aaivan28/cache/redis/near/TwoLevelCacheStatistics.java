@@ -0,0 +1,53 @@
+package com.github.aaivan28.cache.redis.near;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals of the reads of one {@link TwoLevelCache}, split by the {@link CacheTier} that answered them, and of
+ * the loads that followed the misses.
+ */
+public final class TwoLevelCacheStatistics {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public long localHits() {
+        return this.localHits.sum();
+    }
+
+    public long remoteHits() {
+        return this.remoteHits.sum();
+    }
+
+    public long misses() {
+        return this.misses.sum();
+    }
+
+    public long gets() {
+        return this.localHits() + this.remoteHits() + this.misses();
+    }
+
+    public long loads() {
+        return this.loads.sum();
+    }
+
+    public long loadNanos() {
+        return this.loadNanos.sum();
+    }
+
+    void record(final CacheTier tier) {
+        switch (tier) {
+            case LOCAL -> this.localHits.increment();
+            case REMOTE -> this.remoteHits.increment();
+            case SOURCE -> this.misses.increment();
+        }
+    }
+
+    void recordLoad(final long nanos) {
+        this.loads.increment();
+        this.loadNanos.add(nanos);
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.aaivan28.cache.redis.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.cache.batching")
+public record CacheBatchingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("256") int maxBatchSize,
+        @DefaultValue("0s") Duration maxWait,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("2") int flushers) {
+}
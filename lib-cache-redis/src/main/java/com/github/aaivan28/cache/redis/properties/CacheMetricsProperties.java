@@ -0,0 +1,10 @@
+package com.github.aaivan28.cache.redis.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "github.aaivan28.cache.metrics")
+public record CacheMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int largestEntries) {
+}
@@ -0,0 +1,14 @@
+package com.github.aaivan28.cache.redis.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.cache.refresh")
+public record CacheRefreshProperties(
+        @DefaultValue("0.1") double ttlJitter,
+        @DefaultValue("true") boolean earlyRefresh,
+        @DefaultValue("1.0") double beta,
+        @DefaultValue("5s") Duration leaseTime) {
+}
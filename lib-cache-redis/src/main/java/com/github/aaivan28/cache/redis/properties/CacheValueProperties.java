@@ -0,0 +1,10 @@
+package com.github.aaivan28.cache.redis.properties;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueFormat;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "github.aaivan28.cache.value")
+public record CacheValueProperties(
+        @DefaultValue("json") CacheValueFormat format) {
+}
@@ -0,0 +1,15 @@
+package com.github.aaivan28.cache.redis.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "github.aaivan28.cache.near")
+public record NearCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("1m") Duration timeToLive,
+        @DefaultValue("cache-invalidation") String invalidationChannel,
+        @DefaultValue("false") boolean batchInvalidations) {
+}
@@ -0,0 +1,111 @@
+package com.github.aaivan28.cache.redis.refresh;
+
+import com.github.aaivan28.cache.redis.support.RedisCacheKeys;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probabilistic early expiration (XFetch) for one cache. Every read of an entry refreshes it early with a probability
+ * that grows as its expiry approaches, scaled by how long a load takes ({@code delta}) and {@code beta}: an entry is
+ * refreshed when {@code now - delta * beta * ln(random) >= expiry}. Hot entries are therefore reloaded shortly before
+ * they expire, by a single reader, instead of being reloaded by every reader right after.
+ * <p>
+ * Expiry times are kept as {@link System#nanoTime()} instants, {@code 0} meaning unknown or never. Entries written by
+ * other nodes are read through the cache writer together with their time to live, see {@link TimeToLiveReader}.
+ */
+public class EarlyRefresh {
+
+    private static final long INITIAL_LOAD_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final byte[] LEASE_VALUE = "1".getBytes(StandardCharsets.UTF_8);
+    private static final String LEASE_SUFFIX = ":refresh";
+
+    private final String cacheName;
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheConfiguration cacheConfiguration;
+    private final RedisCacheWriter cacheWriter;
+    private final double beta;
+    private final Duration leaseTime;
+
+    private volatile long loadNanos = INITIAL_LOAD_NANOS;
+
+    public EarlyRefresh(final String cacheName,
+                        final RedisConnectionFactory connectionFactory,
+                        final RedisCacheConfiguration cacheConfiguration,
+                        final RedisCacheWriter cacheWriter,
+                        final double beta,
+                        final Duration leaseTime) {
+        this.cacheName = cacheName;
+        this.connectionFactory = connectionFactory;
+        this.cacheConfiguration = cacheConfiguration;
+        this.cacheWriter = cacheWriter;
+        this.beta = beta;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * Expiry of an entry this node has just written.
+     */
+    public long expiryOfWrite(final Object key, final Object value) {
+        final Duration timeToLive = this.cacheConfiguration.getTtlFunction().getTimeToLive(key, value);
+        return timeToLive.isZero() || timeToLive.isNegative() ? 0 : System.nanoTime() + timeToLive.toNanos();
+    }
+
+    /**
+     * Reads an entry written by someone else with its expiry, in the same round trip.
+     *
+     * @return {@code null} if there is no entry
+     */
+    public RemoteEntry read(final Object key) {
+        final TimeToLiveReader.ExpiringValue read = TimeToLiveReader.read(this.cacheWriter, this.cacheName, this.cacheKey(key));
+        if (read.value() == null) {
+            return null;
+        }
+        final Object value = this.cacheConfiguration.getValueSerializationPair().read(ByteBuffer.wrap(read.value()));
+        final long remainingMillis = read.timeToLiveMillis();
+        return new RemoteEntry(value instanceof NullValue ? null : value,
+                remainingMillis <= 0 ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+    }
+
+    public boolean shouldRefresh(final long expiry) {
+        if (expiry == 0) {
+            return false;
+        }
+        final double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        final long gap = (long) (this.loadNanos * this.beta * -Math.log(random));
+        return System.nanoTime() + gap - expiry >= 0;
+    }
+
+    public void recordLoad(final long nanos) {
+        // Exponentially weighted, a single slow load should not trigger refreshes everywhere
+        this.loadNanos = (this.loadNanos * 4 + nanos) / 5;
+    }
+
+    /**
+     * Claims the refresh of an entry across nodes for {@code lease-time}; only the node holding the lease reloads it.
+     */
+    public boolean tryLease(final Object key) {
+        final byte[] leaseKey = RedisCacheKeys.of(this.cacheConfiguration, this.cacheName, key + LEASE_SUFFIX);
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            return Boolean.TRUE.equals(connection.stringCommands().set(leaseKey, LEASE_VALUE, Expiration.from(this.leaseTime),
+                    RedisStringCommands.SetOption.ifAbsent()));
+        }
+    }
+
+    private byte[] cacheKey(final Object key) {
+        return RedisCacheKeys.of(this.cacheConfiguration, this.cacheName, String.valueOf(key));
+    }
+
+    public record RemoteEntry(Object value, long expiry) {
+    }
+}
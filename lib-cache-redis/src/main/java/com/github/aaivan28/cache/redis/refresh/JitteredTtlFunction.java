@@ -0,0 +1,45 @@
+package com.github.aaivan28.cache.redis.refresh;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Shortens the time to live of each entry by up to {@code jitter} of it, so entries written together do not expire
+ * together. The reduction is derived from the key, so every writer computes the same time to live for the same entry.
+ */
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long timeToLiveMillis;
+    private final double jitter;
+
+    public JitteredTtlFunction(final Duration timeToLive, final double jitter) {
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("TTL jitter must be in [0, 1): " + jitter);
+        }
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.jitter = jitter;
+    }
+
+    @Override
+    @NonNull
+    public Duration getTimeToLive(final @NonNull Object key, final @Nullable Object value) {
+        if (this.timeToLiveMillis <= 0) {
+            return Duration.ofMillis(this.timeToLiveMillis);
+        }
+        return Duration.ofMillis(this.timeToLiveMillis - (long) (this.timeToLiveMillis * this.jitter * fraction(key)));
+    }
+
+    // Murmur3 finalizer, String#hashCode alone is too regular for sequential keys
+    private static double fraction(final Object key) {
+        int hash = String.valueOf(key).hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return (hash >>> 8) / (double) (1 << 24);
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.aaivan28.cache.redis.refresh;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * Implemented by cache writers that can read an entry together with its remaining time to live in a single round trip,
+ * so early refresh learns when entries written by other nodes expire without sending a command of its own.
+ */
+public interface TimeToLiveReader {
+
+    ExpiringValue getWithTimeToLive(String name, byte[] key);
+
+    /**
+     * Reads through the writer, falling back to a plain get with an unknown time to live if it cannot read both.
+     */
+    static ExpiringValue read(final RedisCacheWriter cacheWriter, final String name, final byte[] key) {
+        return cacheWriter instanceof TimeToLiveReader reader
+                ? reader.getWithTimeToLive(name, key)
+                : new ExpiringValue(cacheWriter.get(name, key), -1);
+    }
+
+    /**
+     * @param value            {@code null} if there is no entry
+     * @param timeToLiveMillis remaining time to live, negative when the entry does not expire or it is unknown
+     */
+    record ExpiringValue(byte[] value, long timeToLiveMillis) {
+    }
+}
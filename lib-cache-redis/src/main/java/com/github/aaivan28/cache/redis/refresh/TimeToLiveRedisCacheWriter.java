@@ -0,0 +1,116 @@
+package com.github.aaivan28.cache.redis.refresh;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link RedisCacheWriter} that pipelines a {@code PTTL} with the {@code GET} of {@link #getWithTimeToLive}, and
+ * otherwise hands every command to the delegate writer.
+ */
+public class TimeToLiveRedisCacheWriter implements RedisCacheWriter, TimeToLiveReader {
+
+    private final RedisCacheWriter delegate;
+    private final RedisConnectionFactory connectionFactory;
+    private final CacheStatisticsCollector statistics;
+
+    public TimeToLiveRedisCacheWriter(final RedisCacheWriter delegate, final RedisConnectionFactory connectionFactory) {
+        this(delegate, connectionFactory, CacheStatisticsCollector.none());
+    }
+
+    private TimeToLiveRedisCacheWriter(final RedisCacheWriter delegate,
+                                       final RedisConnectionFactory connectionFactory,
+                                       final CacheStatisticsCollector statistics) {
+        this.delegate = delegate;
+        this.connectionFactory = connectionFactory;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public ExpiringValue getWithTimeToLive(final String name, final byte[] key) {
+        final List<Object> results;
+        try (RedisConnection connection = this.connectionFactory.getConnection()) {
+            connection.openPipeline();
+            connection.stringCommands().get(key);
+            connection.keyCommands().pTtl(key);
+            results = connection.closePipeline();
+        }
+
+        final byte[] value = (byte[]) results.get(0);
+        this.statistics.incGets(name);
+        if (value == null) {
+            this.statistics.incMisses(name);
+        } else {
+            this.statistics.incHits(name);
+        }
+        return new ExpiringValue(value, results.get(1) instanceof Long millis ? millis : -1);
+    }
+
+    @Override
+    public byte[] get(final String name, final byte[] key) {
+        return this.delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] get(final String name, final byte[] key, final Duration ttl) {
+        return this.delegate.get(name, key, ttl);
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return this.delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(final String name, final byte[] key, final Duration ttl) {
+        return this.delegate.retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void put(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        this.delegate.put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        return this.delegate.store(name, key, value, ttl);
+    }
+
+    @Override
+    public byte[] putIfAbsent(final String name, final byte[] key, final byte[] value, final Duration ttl) {
+        return this.delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(final String name, final byte[] key) {
+        this.delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(final String name, final byte[] pattern) {
+        this.delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(final String name) {
+        this.delegate.clearStatistics(name);
+    }
+
+    // The delegate gets the same collector, so commands it sends are counted once as well
+    @Override
+    public RedisCacheWriter withStatisticsCollector(final CacheStatisticsCollector cacheStatisticsCollector) {
+        return new TimeToLiveRedisCacheWriter(this.delegate.withStatisticsCollector(cacheStatisticsCollector), this.connectionFactory,
+                cacheStatisticsCollector);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(final String cacheName) {
+        return this.delegate.getCacheStatistics(cacheName);
+    }
+}
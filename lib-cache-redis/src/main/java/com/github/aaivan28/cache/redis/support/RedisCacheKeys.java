@@ -0,0 +1,19 @@
+package com.github.aaivan28.cache.redis.support;
+
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.util.ByteUtils;
+
+/**
+ * Builds the Redis key of a cache entry exactly as {@link org.springframework.data.redis.cache.RedisCache} does, for
+ * code that talks to the connection directly.
+ */
+public final class RedisCacheKeys {
+
+    private RedisCacheKeys() {
+    }
+
+    public static byte[] of(final RedisCacheConfiguration cacheConfiguration, final String cacheName, final String key) {
+        final String cacheKey = cacheConfiguration.usePrefix() ? cacheConfiguration.getKeyPrefixFor(cacheName) + key : key;
+        return ByteUtils.getBytes(cacheConfiguration.getKeySerializationPair().write(cacheKey));
+    }
+}
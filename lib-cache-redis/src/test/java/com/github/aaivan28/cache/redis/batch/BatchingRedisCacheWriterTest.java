@@ -0,0 +1,109 @@
+package com.github.aaivan28.cache.redis.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BatchingRedisCacheWriter Tests")
+class BatchingRedisCacheWriterTest {
+
+    private static final String CACHE_NAME = "url";
+    private static final byte[] KEY = "url::abc123".getBytes();
+    private static final byte[] VALUE = "https://example.com".getBytes();
+
+    @Mock
+    private RedisCacheWriter delegate;
+
+    @Mock
+    private RedisCommandBatcher batcher;
+
+    private CacheStatisticsCollector statistics;
+
+    private RedisCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        statistics = CacheStatisticsCollector.create();
+        when(delegate.withStatisticsCollector(statistics)).thenReturn(delegate);
+        writer = new BatchingRedisCacheWriter(delegate, batcher).withStatisticsCollector(statistics);
+    }
+
+    @Test
+    @DisplayName("Should read through the batcher and count hits and misses")
+    void shouldReadThroughBatcherAndCountHitsAndMisses() {
+        // Given
+        final byte[] missingKey = "url::missing".getBytes();
+        when(batcher.get(KEY)).thenReturn(CompletableFuture.completedFuture(VALUE));
+        when(batcher.get(missingKey)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        final byte[] hit = writer.get(CACHE_NAME, KEY);
+        final byte[] miss = writer.get(CACHE_NAME, missingKey);
+
+        // Then
+        assertThat(hit).isEqualTo(VALUE);
+        assertThat(miss).isNull();
+        assertThat(statistics.getCacheStatistics(CACHE_NAME).getGets()).isEqualTo(2);
+        assertThat(statistics.getCacheStatistics(CACHE_NAME).getHits()).isEqualTo(1);
+        assertThat(statistics.getCacheStatistics(CACHE_NAME).getMisses()).isEqualTo(1);
+        verify(delegate, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should write through the batcher with the entry time to live")
+    void shouldWriteThroughBatcherWithTimeToLive() {
+        // Given
+        when(batcher.set(KEY, VALUE, Expiration.from(Duration.ofHours(1)))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        writer.put(CACHE_NAME, KEY, VALUE, Duration.ofHours(1));
+
+        // Then
+        verify(batcher).set(KEY, VALUE, Expiration.from(Duration.ofHours(1)));
+        assertThat(statistics.getCacheStatistics(CACHE_NAME).getPuts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send the command directly when the batcher queue is full")
+    void shouldSendCommandDirectlyWhenQueueIsFull() {
+        // Given
+        when(batcher.get(KEY)).thenReturn(null);
+        when(delegate.get(CACHE_NAME, KEY)).thenReturn(VALUE);
+
+        // When
+        final byte[] value = writer.get(CACHE_NAME, KEY);
+
+        // Then
+        assertThat(value).isEqualTo(VALUE);
+        verify(delegate).get(CACHE_NAME, KEY);
+    }
+
+    @Test
+    @DisplayName("Should leave time-to-idle reads and conditional writes to the delegate")
+    void shouldLeaveTimeToIdleReadsAndConditionalWritesToDelegate() {
+        // When
+        writer.get(CACHE_NAME, KEY, Duration.ofMinutes(5));
+        writer.putIfAbsent(CACHE_NAME, KEY, VALUE, Duration.ofHours(1));
+
+        // Then
+        verify(delegate).get(CACHE_NAME, KEY, Duration.ofMinutes(5));
+        verify(delegate).putIfAbsent(CACHE_NAME, KEY, VALUE, Duration.ofHours(1));
+        verify(batcher, never()).get(any());
+    }
+}
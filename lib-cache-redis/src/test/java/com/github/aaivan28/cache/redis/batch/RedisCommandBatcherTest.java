@@ -0,0 +1,142 @@
+package com.github.aaivan28.cache.redis.batch;
+
+import com.github.aaivan28.cache.redis.properties.CacheBatchingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisCommandBatcher Tests")
+class RedisCommandBatcherTest {
+
+    private static final byte[] KEY_1 = "key1".getBytes();
+    private static final byte[] KEY_2 = "key2".getBytes();
+    private static final byte[] KEY_3 = "key3".getBytes();
+    private static final byte[] VALUE_1 = "value1".getBytes();
+    private static final byte[] VALUE_3 = "value3".getBytes();
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RedisCommandBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(connectionFactory.getConnection()).thenReturn(connection);
+        lenient().when(connection.stringCommands()).thenReturn(stringCommands);
+        // A single flusher that lingers long enough for the test thread to queue the whole batch
+        batcher = new RedisCommandBatcher(connectionFactory, new CacheBatchingProperties(true, 3, Duration.ofSeconds(2), 100, 1),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+
+    @Test
+    @DisplayName("Should send concurrent gets as one MGET in a single round trip")
+    void shouldSendConcurrentGetsAsOneMget() {
+        // Given
+        when(connection.closePipeline()).thenReturn(List.of(Arrays.asList(VALUE_1, null, VALUE_3)));
+
+        // When
+        final CompletableFuture<byte[]> first = batcher.get(KEY_1);
+        final CompletableFuture<byte[]> second = batcher.get(KEY_2);
+        final CompletableFuture<byte[]> third = batcher.get(KEY_3);
+
+        // Then
+        assertThat(first.join()).isEqualTo(VALUE_1);
+        assertThat(second.join()).isNull();
+        assertThat(third.join()).isEqualTo(VALUE_3);
+        verify(connectionFactory, times(1)).getConnection();
+        verify(stringCommands).mGet(KEY_1, KEY_2, KEY_3);
+        assertThat(meterRegistry.get(RedisCommandBatcher.BATCH_SIZE_METER).summary().max()).isEqualTo(3);
+        assertThat(meterRegistry.get(RedisCommandBatcher.WAIT_METER).timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the order of gets and sets within a batch")
+    void shouldKeepOrderOfGetsAndSets() {
+        // Given
+        final Expiration expiration = Expiration.from(Duration.ofMinutes(1));
+        when(connection.closePipeline()).thenReturn(List.of(Arrays.asList(VALUE_1), true, Arrays.asList(VALUE_3)));
+
+        // When
+        final CompletableFuture<byte[]> first = batcher.get(KEY_1);
+        final CompletableFuture<byte[]> written = batcher.set(KEY_2, VALUE_1, expiration);
+        final CompletableFuture<byte[]> third = batcher.get(KEY_3);
+
+        // Then
+        assertThat(first.join()).isEqualTo(VALUE_1);
+        assertThat(written.join()).isNull();
+        assertThat(third.join()).isEqualTo(VALUE_3);
+        final InOrder order = inOrder(stringCommands);
+        order.verify(stringCommands).mGet(KEY_1);
+        order.verify(stringCommands).set(KEY_2, VALUE_1, expiration, RedisStringCommands.SetOption.upsert());
+        order.verify(stringCommands).mGet(KEY_3);
+    }
+
+    @Test
+    @DisplayName("Should fail every command of a batch whose round trip failed")
+    void shouldFailEveryCommandOfFailedBatch() {
+        // Given
+        when(connection.closePipeline()).thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // When
+        final CompletableFuture<byte[]> first = batcher.get(KEY_1);
+        final CompletableFuture<byte[]> second = batcher.get(KEY_2);
+        final CompletableFuture<byte[]> third = batcher.get(KEY_3);
+
+        // Then
+        for (final CompletableFuture<byte[]> result : List.of(first, second, third)) {
+            assertThatThrownBy(result::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(RedisConnectionFailureException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse commands once closed so callers send them directly")
+    void shouldRefuseCommandsOnceClosed() {
+        // When
+        batcher.close();
+
+        // Then
+        assertThat(batcher.get(KEY_1)).isNull();
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.aaivan28.cache.redis.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactRedisSerializer Tests")
+class CompactRedisSerializerTest {
+
+    private static final Target TARGET = new Target("https://example.com", true);
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    @DisplayName("Should round trip values with a codec in the compact format")
+    void shouldRoundTripCompactValues() {
+        // Given
+        final CompactRedisSerializer serializer = serializer(CacheValueFormat.COMPACT);
+
+        // When
+        final byte[] bytes = serializer.serialize(TARGET);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.MARKER);
+        assertThat(bytes.length).isLessThan(json.serialize(TARGET).length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(TARGET);
+    }
+
+    @Test
+    @DisplayName("Should use the fallback serializer for values without a codec")
+    void shouldUseFallbackForValuesWithoutCodec() {
+        // Given
+        final CompactRedisSerializer serializer = serializer(CacheValueFormat.COMPACT);
+
+        // When
+        final byte[] bytes = serializer.serialize("https://example.com");
+
+        // Then
+        assertThat(bytes).isEqualTo(json.serialize("https://example.com"));
+        assertThat(serializer.deserialize(bytes)).isEqualTo("https://example.com");
+    }
+
+    @Test
+    @DisplayName("Should read entries written as JSON before switching to the compact format")
+    void shouldReadLegacyJsonEntries() {
+        // Given
+        final byte[] legacy = serializer(CacheValueFormat.JSON).serialize(TARGET);
+
+        // When
+        final Object value = serializer(CacheValueFormat.COMPACT).deserialize(legacy);
+
+        // Then
+        assertThat(legacy[0]).isNotEqualTo(CompactRedisSerializer.MARKER);
+        assertThat(value).isEqualTo(TARGET);
+    }
+
+    @Test
+    @DisplayName("Should read compact entries while still writing JSON")
+    void shouldReadCompactEntriesWhenWritingJson() {
+        // Given
+        final byte[] compact = serializer(CacheValueFormat.COMPACT).serialize(TARGET);
+
+        // When
+        final Object value = serializer(CacheValueFormat.JSON).deserialize(compact);
+
+        // Then
+        assertThat(value).isEqualTo(TARGET);
+    }
+
+    @Test
+    @DisplayName("Should treat entries with an unknown codec tag as a miss")
+    void shouldTreatUnknownTagAsMiss() {
+        // Given
+        final byte[] bytes = serializer(CacheValueFormat.COMPACT).serialize(TARGET);
+
+        // When
+        final Object value = new CompactRedisSerializer(json, CacheValueFormat.COMPACT, List.of()).deserialize(bytes);
+
+        // Then
+        assertThat(value).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject codecs sharing a tag")
+    void shouldRejectDuplicateTags() {
+        // When / Then
+        assertThatThrownBy(() -> new CompactRedisSerializer(json, CacheValueFormat.COMPACT, List.of(new TargetCodec(), new TargetCodec())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private CompactRedisSerializer serializer(final CacheValueFormat format) {
+        return new CompactRedisSerializer(json, format, List.of(new TargetCodec()));
+    }
+
+    record Target(String url, boolean enabled) {
+    }
+
+    static class TargetCodec implements CacheValueCodec<Target> {
+
+        @Override
+        public byte tag() {
+            return 7;
+        }
+
+        @Override
+        public Class<Target> type() {
+            return Target.class;
+        }
+
+        @Override
+        public void write(final Target value, final DataOutput output) throws IOException {
+            output.writeBoolean(value.enabled());
+            output.writeUTF(value.url());
+        }
+
+        @Override
+        public Target read(final DataInput input) throws IOException {
+            final boolean enabled = input.readBoolean();
+            return new Target(input.readUTF(), enabled);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.aaivan28.cache.redis.contract;
+
+import com.github.aaivan28.cache.redis.codec.CacheValueFormat;
+import com.github.aaivan28.cache.redis.codec.CompactRedisSerializer;
+import com.github.aaivan28.cache.redis.support.RedisCacheKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Entries already in Redis, and services not yet redeployed, depend on these bytes: a failure here means the change
+ * needs a new {@link UrlCacheContract#VERSION} and value tag, not new expected bytes.
+ */
+@DisplayName("UrlCacheContract Tests")
+class UrlCacheContractTest {
+
+    // MARKER, tag 1, flags enabled | has URL | has status, UTF length 19, URL, status 301
+    private static final String VERSION_1_ENTRY = "c10107" + "0013" + HexFormat.of().formatHex("https://example.com".getBytes()) + "012d";
+    // Written before the redirect status existed
+    private static final String VERSION_1_ENTRY_WITHOUT_STATUS = "c10103" + "0013" + HexFormat.of().formatHex("https://example.com".getBytes());
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(),
+            CacheValueFormat.COMPACT, List.of(new CachedUrlCodec()));
+
+    @Test
+    @DisplayName("Should encode version 1 entries byte for byte")
+    void shouldEncodeVersion1Entries() {
+        // When
+        final byte[] bytes = serializer.serialize(new CachedUrl("https://example.com", true, 301));
+
+        // Then
+        assertThat(HexFormat.of().formatHex(bytes)).isEqualTo(VERSION_1_ENTRY);
+    }
+
+    @Test
+    @DisplayName("Should decode version 1 entries, with and without redirect status")
+    void shouldDecodeVersion1Entries() {
+        // When / Then
+        assertThat(serializer.deserialize(HexFormat.of().parseHex(VERSION_1_ENTRY)))
+                .isEqualTo(new CachedUrl("https://example.com", true, 301));
+        assertThat(serializer.deserialize(HexFormat.of().parseHex(VERSION_1_ENTRY_WITHOUT_STATUS)))
+                .isEqualTo(new CachedUrl("https://example.com", true, null));
+        assertThat(serializer.deserialize(HexFormat.of().parseHex("c10100")))
+                .isEqualTo(new CachedUrl(null, false, null));
+    }
+
+    @Test
+    @DisplayName("Should name keys as the Redis cache does with the shared prefix")
+    void shouldNameKeysAsRedisCache() {
+        // Given
+        final RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(RedisSerializer.string()))
+                .prefixCacheNameWith(UrlCacheContract.KEY_PREFIX);
+
+        // When
+        final byte[] key = RedisCacheKeys.of(configuration, UrlCacheContract.CACHE_NAME, "abc123");
+
+        // Then
+        assertThat(new String(key, StandardCharsets.UTF_8))
+                .isEqualTo(UrlCacheContract.redisKey("abc123"))
+                .isEqualTo("url-shortener-cache-url::abc123");
+    }
+
+    @Test
+    @DisplayName("Should ship the shared key prefix, value format and invalidation channel for services to import")
+    void shouldShipSharedCacheSettings() throws IOException {
+        // When
+        final PropertySource<?> configuration = new YamlPropertySourceLoader()
+                .load("url-cache-contract", new ClassPathResource("url-cache-contract.yaml")).getFirst();
+
+        // Then
+        assertThat(configuration.getProperty("spring.cache.redis.key-prefix")).isEqualTo(UrlCacheContract.KEY_PREFIX);
+        assertThat(configuration.getProperty("spring.cache.redis.use-key-prefix")).isEqualTo(true);
+        assertThat(configuration.getProperty("github.aaivan28.cache.value.format")).isEqualTo("compact");
+        assertThat(configuration.getProperty("github.aaivan28.cache.near.invalidation-channel"))
+                .isEqualTo(UrlCacheContract.INVALIDATION_CHANNEL);
+    }
+}
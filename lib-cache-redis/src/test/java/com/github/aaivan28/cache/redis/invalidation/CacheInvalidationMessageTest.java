@@ -0,0 +1,46 @@
+package com.github.aaivan28.cache.redis.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CacheInvalidationMessage Tests")
+class CacheInvalidationMessageTest {
+
+    @Test
+    @DisplayName("Should round trip a message with several keys")
+    void shouldRoundTripSeveralKeys() {
+        // Given
+        final CacheInvalidationMessage message = new CacheInvalidationMessage("node-1", "url", List.of("a", "b", "c"));
+
+        // When
+        final CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(message.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(message);
+        assertThat(decoded.isClear()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should decode single key and clear messages")
+    void shouldDecodeSingleKeyAndClearMessages() {
+        // When
+        final CacheInvalidationMessage single = CacheInvalidationMessage.decode("node-1\nurl\nabc");
+        final CacheInvalidationMessage clear = CacheInvalidationMessage.decode("node-1\nurl");
+
+        // Then
+        assertThat(single.keys()).containsExactly("abc");
+        assertThat(clear.isClear()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed messages")
+    void shouldRejectMalformedMessages() {
+        assertThatThrownBy(() -> CacheInvalidationMessage.decode("node-1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
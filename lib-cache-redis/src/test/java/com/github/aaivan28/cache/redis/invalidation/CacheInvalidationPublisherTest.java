@@ -0,0 +1,73 @@
+package com.github.aaivan28.cache.redis.invalidation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationPublisher Tests")
+class CacheInvalidationPublisherTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Test
+    @DisplayName("Should send one message per key in a pipeline until batches are enabled")
+    void shouldSendOneMessagePerKeyByDefault() {
+        // Given
+        final CacheInvalidationPublisher publisher = new CacheInvalidationPublisher("node-1", "channel", false,
+                redisTemplate, eventPublisher);
+
+        // When
+        publisher.publishAll("url", List.of("a", "b"));
+
+        // Then
+        @SuppressWarnings("unchecked") final ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+        verify(connection).publish(bytes("channel"), bytes("node-1\nurl\na"));
+        verify(connection).publish(bytes("channel"), bytes("node-1\nurl\nb"));
+        verify(redisTemplate, never()).convertAndSend(any(), any());
+        verify(eventPublisher, times(2)).publishEvent(any(CacheInvalidationEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should send the whole batch in one message when enabled")
+    void shouldSendOneMessagePerBatchWhenEnabled() {
+        // Given
+        final CacheInvalidationPublisher publisher = new CacheInvalidationPublisher("node-1", "channel", true,
+                redisTemplate, eventPublisher);
+
+        // When
+        publisher.publishAll("url", List.of("a", "b"));
+
+        // Then
+        verify(redisTemplate).convertAndSend("channel", "node-1\nurl\na\nb");
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.aaivan28.cache.redis.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheEntrySizes Tests")
+class CacheEntrySizesTest {
+
+    @Test
+    @DisplayName("Should keep only the largest entries of each cache, largest first")
+    void shouldKeepOnlyLargestEntries() {
+        // Given
+        final CacheEntrySizes entrySizes = new CacheEntrySizes(2);
+
+        // When
+        entrySizes.record("url", "url::small".getBytes(), 10);
+        entrySizes.record("url", "url::large".getBytes(), 300);
+        entrySizes.record("url", "url::medium".getBytes(), 50);
+        entrySizes.record("url", "url::tiny".getBytes(), 5);
+        entrySizes.record("other", "other::key".getBytes(), 1000);
+
+        // Then
+        assertThat(entrySizes.largest("url")).containsExactly(
+                new CacheEntrySizes.Entry("url::large", 300),
+                new CacheEntrySizes.Entry("url::medium", 50));
+        assertThat(entrySizes.largest("other")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should forget the entries of a cleared cache")
+    void shouldForgetEntriesOfClearedCache() {
+        // Given
+        final CacheEntrySizes entrySizes = new CacheEntrySizes(2);
+        entrySizes.record("url", "url::large".getBytes(), 300);
+
+        // When
+        entrySizes.clear("url");
+
+        // Then
+        assertThat(entrySizes.largest("url")).isEmpty();
+    }
+}
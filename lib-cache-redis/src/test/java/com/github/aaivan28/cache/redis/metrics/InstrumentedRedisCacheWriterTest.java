@@ -0,0 +1,88 @@
+package com.github.aaivan28.cache.redis.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstrumentedRedisCacheWriter Tests")
+class InstrumentedRedisCacheWriterTest {
+
+    private static final String CACHE_NAME = "url";
+    private static final byte[] KEY = "url::abc123".getBytes();
+    private static final byte[] VALUE = "https://example.com".getBytes();
+
+    @Mock
+    private RedisCacheWriter delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CacheEntrySizes entrySizes;
+
+    private RedisCacheWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        entrySizes = new CacheEntrySizes(10);
+        writer = new InstrumentedRedisCacheWriter(delegate, meterRegistry, entrySizes);
+    }
+
+    @Test
+    @DisplayName("Should time reads and record the size of the values found")
+    void shouldTimeReadsAndRecordValueSizes() {
+        // Given
+        when(delegate.get(CACHE_NAME, KEY)).thenReturn(VALUE);
+
+        // When
+        writer.get(CACHE_NAME, KEY);
+        writer.get(CACHE_NAME, "url::missing".getBytes());
+
+        // Then
+        assertThat(meterRegistry.get(InstrumentedRedisCacheWriter.COMMAND_METER)
+                .tags("cache", CACHE_NAME, "command", "get").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(InstrumentedRedisCacheWriter.VALUE_SIZE_METER)
+                .tags("cache", CACHE_NAME, "operation", "read").summary().totalAmount()).isEqualTo(VALUE.length);
+    }
+
+    @Test
+    @DisplayName("Should record the size of written values and keep the largest entries")
+    void shouldRecordWrittenValuesAndKeepLargestEntries() {
+        // When
+        writer.put(CACHE_NAME, KEY, VALUE, Duration.ofHours(1));
+
+        // Then
+        verify(delegate).put(CACHE_NAME, KEY, VALUE, Duration.ofHours(1));
+        assertThat(meterRegistry.get(InstrumentedRedisCacheWriter.VALUE_SIZE_METER)
+                .tags("cache", CACHE_NAME, "operation", "write").summary().count()).isEqualTo(1);
+        assertThat(entrySizes.largest(CACHE_NAME)).containsExactly(new CacheEntrySizes.Entry("url::abc123", VALUE.length));
+    }
+
+    @Test
+    @DisplayName("Should keep recording into the same meters once statistics are enabled")
+    void shouldKeepRecordingOnceStatisticsAreEnabled() {
+        // Given
+        final CacheStatisticsCollector statistics = CacheStatisticsCollector.create();
+        when(delegate.withStatisticsCollector(statistics)).thenReturn(delegate);
+        writer.remove(CACHE_NAME, KEY);
+
+        // When
+        writer.withStatisticsCollector(statistics).remove(CACHE_NAME, KEY);
+
+        // Then
+        assertThat(meterRegistry.get(InstrumentedRedisCacheWriter.COMMAND_METER)
+                .tags("cache", CACHE_NAME, "command", "remove").timer().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,259 @@
+package com.github.aaivan28.cache.redis.near;
+
+import com.github.aaivan28.cache.redis.invalidation.CacheInvalidationPublisher;
+import com.github.aaivan28.cache.redis.refresh.EarlyRefresh;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    @Mock
+    private Cache remote;
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoLevelCache(remote, Caffeine.newBuilder().maximumSize(10).build(), invalidationPublisher);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the local tier")
+    void shouldServeRepeatedReadsFromLocalTier() {
+        // Given
+        when(remote.get("abc123")).thenReturn(new SimpleValueWrapper("https://example.com"));
+
+        // When
+        cache.get("abc123");
+        final Cache.ValueWrapper value = cache.get("abc123");
+
+        // Then
+        assertThat(value).isNotNull();
+        assertThat(value.get()).isEqualTo("https://example.com");
+        verify(remote, times(1)).get("abc123");
+    }
+
+    @Test
+    @DisplayName("Should store loaded values in both tiers without broadcasting")
+    void shouldStoreLoadedValuesWithoutBroadcasting() {
+        // When
+        final String value = cache.get("abc123", () -> "https://example.com");
+
+        // Then
+        assertThat(value).isEqualTo("https://example.com");
+        assertThat(cache.get("abc123", String.class)).isEqualTo("https://example.com");
+        verify(remote).put("abc123", "https://example.com");
+        verify(invalidationPublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not store null values returned by the loader")
+    void shouldNotStoreNullValues() {
+        // When
+        final String value = cache.get("missing", () -> null);
+
+        // Then
+        assertThat(value).isNull();
+        verify(remote, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should count reads by the tier that answered them and time the loads")
+    void shouldCountReadsByTierAndTimeLoads() {
+        // Given
+        when(remote.get("abc123")).thenReturn(new SimpleValueWrapper("https://example.com"));
+
+        // When
+        cache.get("abc123", () -> "unused");
+        cache.get("abc123", () -> "unused");
+        cache.get("missing", () -> "https://example.org");
+
+        // Then
+        final TwoLevelCacheStatistics statistics = cache.getStatistics();
+        assertThat(statistics.remoteHits()).isEqualTo(1);
+        assertThat(statistics.localHits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.gets()).isEqualTo(3);
+        assertThat(statistics.loads()).isEqualTo(1);
+        assertThat(cache.estimatedLocalSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop local copy and broadcast on evict")
+    void shouldDropLocalCopyAndBroadcastOnEvict() {
+        // Given
+        when(remote.getName()).thenReturn("url");
+        when(remote.get("abc123")).thenReturn(new SimpleValueWrapper("https://example.com"));
+        cache.get("abc123");
+
+        // When
+        cache.evict("abc123");
+        cache.get("abc123");
+
+        // Then
+        verify(remote).evict("abc123");
+        verify(remote, times(2)).get("abc123");
+        verify(invalidationPublisher).publish("url", "abc123");
+    }
+
+    @Test
+    @DisplayName("Should drop local copy when invalidated by a remote node")
+    void shouldDropLocalCopyOnRemoteInvalidation() {
+        // Given
+        when(remote.get("abc123")).thenReturn(new SimpleValueWrapper("https://example.com"));
+        cache.get("abc123");
+
+        // When
+        cache.invalidateLocal("abc123");
+        cache.get("abc123");
+
+        // Then
+        verify(remote, times(2)).get("abc123");
+        verify(invalidationPublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should share a single load between concurrent misses for the same key")
+    void shouldShareSingleLoadBetweenConcurrentMisses() throws Exception {
+        // Given
+        final int threads = 16;
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "https://example.com";
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        final List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get("abc123", loader)));
+        loading.await();
+        for (int i = 1; i < threads; i++) {
+            results.add(executor.submit(() -> cache.get("abc123", loader)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // Then
+        for (final Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("https://example.com");
+        }
+        executor.shutdown();
+        assertThat(loads).hasValue(1);
+        verify(remote, times(1)).put("abc123", "https://example.com");
+    }
+
+    @Test
+    @DisplayName("Should refresh a local entry in the background when early refresh triggers")
+    void shouldRefreshLocalEntryEarly() {
+        // Given
+        final EarlyRefresh earlyRefresh = mock(EarlyRefresh.class);
+        final TwoLevelCache refreshing = new TwoLevelCache(remote, Caffeine.newBuilder().maximumSize(10).build(),
+                invalidationPublisher, earlyRefresh, Runnable::run);
+        when(earlyRefresh.expiryOfWrite(any(), any())).thenReturn(42L);
+        when(earlyRefresh.shouldRefresh(42L)).thenReturn(true);
+        when(earlyRefresh.tryLease("abc123")).thenReturn(true);
+        refreshing.get("abc123", () -> "https://example.com");
+
+        // When
+        final String value = refreshing.get("abc123", () -> "https://example.org");
+
+        // Then
+        assertThat(value).isEqualTo("https://example.com");
+        verify(remote).put("abc123", "https://example.org");
+        assertThat(refreshing.get("abc123", String.class)).isEqualTo("https://example.org");
+    }
+
+    @Test
+    @DisplayName("Should leave the refresh to the node holding the lease")
+    void shouldLeaveRefreshToLeaseHolder() {
+        // Given
+        final EarlyRefresh earlyRefresh = mock(EarlyRefresh.class);
+        final TwoLevelCache refreshing = new TwoLevelCache(remote, Caffeine.newBuilder().maximumSize(10).build(),
+                invalidationPublisher, earlyRefresh, Runnable::run);
+        when(earlyRefresh.expiryOfWrite(any(), any())).thenReturn(42L);
+        when(earlyRefresh.shouldRefresh(42L)).thenReturn(true);
+        when(earlyRefresh.tryLease("abc123")).thenReturn(false);
+        when(earlyRefresh.read("abc123")).thenReturn(null, new EarlyRefresh.RemoteEntry("https://example.net", 0));
+        refreshing.get("abc123", () -> "https://example.com");
+
+        // When
+        refreshing.get("abc123", () -> "https://example.org");
+
+        // Then
+        verify(remote, never()).put("abc123", "https://example.org");
+        assertThat(refreshing.get("abc123", String.class)).isEqualTo("https://example.net");
+    }
+
+    @Test
+    @DisplayName("Should keep the expiry read with a remote entry so it is refreshed early on this node too")
+    void shouldKeepExpiryReadWithRemoteEntry() {
+        // Given
+        final EarlyRefresh earlyRefresh = mock(EarlyRefresh.class);
+        final TwoLevelCache refreshing = new TwoLevelCache(remote, Caffeine.newBuilder().maximumSize(10).build(),
+                invalidationPublisher, earlyRefresh, Runnable::run);
+        when(earlyRefresh.read("abc123")).thenReturn(new EarlyRefresh.RemoteEntry("https://example.com", 42L));
+        when(earlyRefresh.shouldRefresh(42L)).thenReturn(true);
+        when(earlyRefresh.tryLease("abc123")).thenReturn(true);
+        refreshing.get("abc123", () -> "https://example.org");
+
+        // When
+        final String value = refreshing.get("abc123", () -> "https://example.org");
+
+        // Then
+        assertThat(value).isEqualTo("https://example.com");
+        verify(remote, never()).get("abc123");
+        verify(remote).put("abc123", "https://example.org");
+    }
+
+    @Test
+    @DisplayName("Should record the tier that answered the read")
+    void shouldRecordAnsweringTier() {
+        // Given
+        when(remote.get("missing")).thenReturn(null);
+        when(remote.get("abc123")).thenReturn(new SimpleValueWrapper("https://example.com"));
+
+        // When / Then
+        cache.get("missing", () -> "https://example.com/missing");
+        assertThat(CacheTier.pop()).isEqualTo(CacheTier.SOURCE);
+        cache.get("abc123");
+        assertThat(CacheTier.pop()).isEqualTo(CacheTier.REMOTE);
+        cache.get("abc123");
+        assertThat(CacheTier.pop()).isEqualTo(CacheTier.LOCAL);
+        assertThat(CacheTier.pop()).isNull();
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.aaivan28.cache.redis.refresh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JitteredTtlFunction Tests")
+class JitteredTtlFunctionTest {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+
+    @Test
+    @DisplayName("Should spread sequential keys within the jitter and repeat the same value per key")
+    void shouldSpreadKeysWithinJitter() {
+        // Given
+        final JitteredTtlFunction function = new JitteredTtlFunction(TIME_TO_LIVE, 0.1);
+        final Set<Duration> distinct = new HashSet<>();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            final Duration timeToLive = function.getTimeToLive("key" + i, null);
+
+            // Then
+            assertThat(timeToLive).isBetween(Duration.ofMinutes(54), TIME_TO_LIVE);
+            assertThat(function.getTimeToLive("key" + i, "other value")).isEqualTo(timeToLive);
+            distinct.add(timeToLive);
+        }
+        assertThat(distinct).hasSizeGreaterThan(900);
+    }
+
+    @Test
+    @DisplayName("Should keep the time to live when jitter is disabled")
+    void shouldKeepTimeToLiveWithoutJitter() {
+        assertThat(new JitteredTtlFunction(TIME_TO_LIVE, 0).getTimeToLive("key", null)).isEqualTo(TIME_TO_LIVE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.aaivan28.cache.redis.refresh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeToLiveRedisCacheWriter Tests")
+class TimeToLiveRedisCacheWriterTest {
+
+    private static final String CACHE_NAME = "url";
+    private static final byte[] KEY = "url::abc123".getBytes();
+    private static final byte[] VALUE = "https://example.com".getBytes();
+
+    @Mock
+    private RedisCacheWriter delegate;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    @Test
+    @DisplayName("Should read the value and its time to live in one pipeline and count the read")
+    void shouldReadValueAndTimeToLiveInOnePipeline() {
+        // Given
+        final CacheStatisticsCollector statistics = CacheStatisticsCollector.create();
+        when(delegate.withStatisticsCollector(statistics)).thenReturn(delegate);
+        final TimeToLiveReader writer = (TimeToLiveReader) new TimeToLiveRedisCacheWriter(delegate, connectionFactory)
+                .withStatisticsCollector(statistics);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.closePipeline()).thenReturn(Arrays.asList(VALUE, 60_000L));
+
+        // When
+        final TimeToLiveReader.ExpiringValue value = writer.getWithTimeToLive(CACHE_NAME, KEY);
+
+        // Then
+        assertThat(value.value()).isEqualTo(VALUE);
+        assertThat(value.timeToLiveMillis()).isEqualTo(60_000L);
+        assertThat(statistics.getCacheStatistics(CACHE_NAME).getHits()).isEqualTo(1);
+        final InOrder pipeline = inOrder(connection, stringCommands, keyCommands);
+        pipeline.verify(connection).openPipeline();
+        pipeline.verify(stringCommands).get(KEY);
+        pipeline.verify(keyCommands).pTtl(KEY);
+        pipeline.verify(connection).closePipeline();
+        pipeline.verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should fall back to a plain get for writers that cannot read the time to live")
+    void shouldFallBackToPlainGet() {
+        // Given
+        when(delegate.get(CACHE_NAME, KEY)).thenReturn(VALUE);
+
+        // When
+        final TimeToLiveReader.ExpiringValue value = TimeToLiveReader.read(delegate, CACHE_NAME, KEY);
+
+        // Then
+        assertThat(value.value()).isEqualTo(VALUE);
+        assertThat(value.timeToLiveMillis()).isNegative();
+    }
+}
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Runs the same closed-loop load against the redirect API twice: once on the Tomcat platform thread pool and once with
+# the virtual-threads profile. Requires MongoDB and Redis (docker compose up mongo redis) and a few seeded keys.
+# Each report is also written to $RESULTS/<mode>.txt (load-tests/results by default).
+#
+#   ./load-tests/compare-thread-modes.sh --keys=abc123,def456 --concurrency=2000 --duration=60s
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+PORT="${PORT:-8080}"
+RESULTS="${RESULTS:-$ROOT/load-tests/results}"
+
+# The load test jar copies the API and its runtime dependencies, built with the versions managed by the parent pom
+mvn -q -f "$ROOT/pom.xml" -pl load-tests -am package -DskipTests
+mkdir -p "$RESULTS"
+
+run_mode() {
+  local label="$1" profiles="$2"
+  shift 2
+  java -cp "$ROOT/load-tests/target/lib/*" com.github.aaivan28.url.shortener.UrlShortenerApplication \
+    --spring.profiles.active="$profiles" --server.port="$PORT" &
+  local app=$!
+
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+  java -jar "$ROOT/load-tests/target/load-tests.jar" --base-url="http://localhost:$PORT/" --label="$label" "$@" \
+    | tee "$RESULTS/$label.txt"
+
+  kill "$app"
+  wait "$app" 2>/dev/null || true
+}
+
+run_mode platform-threads default "$@"
+run_mode virtual-threads virtual-threads "$@"
@@ -0,0 +1,55 @@
+package com.github.aaivan28.url.shortener.loadtest;
+
+import com.github.aaivan28.url.shortener.UrlShortenerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link UrlShortenerApplication} started in this JVM on a random port. Load generator and application share the CPU,
+ * so results are comparable between runs on the same machine, not with a deployed node.
+ */
+final class EmbeddedApplication implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    EmbeddedApplication(final String mongo, final String redis, final String database, final Map<String, String> overrides) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.data.mongodb.host", host(mongo));
+        properties.put("spring.data.mongodb.port", port(mongo));
+        properties.put("spring.data.mongodb.database", database);
+        properties.put("spring.data.redis.host", host(redis));
+        properties.put("spring.data.redis.port", port(redis));
+        properties.put("github.aaivan28.url-shortener.metrics.outcome-header", "true");
+        properties.putAll(overrides);
+
+        // Default properties lose against application.yaml, command line arguments do not
+        this.context = new SpringApplicationBuilder(UrlShortenerApplication.class)
+                .run(properties.entrySet().stream()
+                        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                        .toArray(String[]::new));
+    }
+
+    URI baseUrl() {
+        final int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port + "/");
+    }
+
+    @Override
+    public void close() {
+        this.context.close();
+    }
+
+    private static String host(final String address) {
+        return address.substring(0, address.lastIndexOf(':'));
+    }
+
+    private static String port(final String address) {
+        return address.substring(address.lastIndexOf(':') + 1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.aaivan28.url.shortener.loadtest;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.outbound.persistence.UrlDocument;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Inserts {@code count} enabled URLs with the keys {@link #key(long)} straight into MongoDB, before the application
+ * starts, so the key filter and the cache warm-up see them. A collection already seeded with the same count is kept.
+ */
+final class KeySeeder {
+
+    private static final String KEY_PREFIX = "lt";
+    private static final int BATCH_SIZE = 10_000;
+
+    private KeySeeder() {
+    }
+
+    static String key(final long index) {
+        return KEY_PREFIX + Long.toString(index, 36);
+    }
+
+    static String unknownKey(final long index) {
+        return "unknown" + Long.toString(index, 36);
+    }
+
+    static void seed(final String mongo, final String database, final long count) {
+        try (MongoClient client = MongoClients.create("mongodb://" + mongo)) {
+            final MongoCollection<Document> collection = client.getDatabase(database).getCollection(UrlDocument.COLLECTION_NAME);
+            if (collection.find(Filters.eq("key", key(count - 1))).first() != null
+                    && collection.find(Filters.eq("key", key(count))).first() == null) {
+                System.out.printf("Keeping %,d seeded keys%n", count);
+                return;
+            }
+
+            collection.deleteMany(Filters.regex("key", "^" + KEY_PREFIX));
+            final long start = System.nanoTime();
+            final long now = System.currentTimeMillis();
+            final List<Document> batch = new ArrayList<>(BATCH_SIZE);
+            for (long index = 0; index < count; index++) {
+                final Date createdAt = new Date(now - index * 1000);
+                batch.add(new Document("key", key(index))
+                        .append("url", "https://www.example.com/articles/" + index + "?utm_source=load-test")
+                        .append("enabled", true)
+                        .append("createdAt", createdAt)
+                        .append("updatedAt", createdAt));
+                if (batch.size() == BATCH_SIZE) {
+                    collection.insertMany(batch, new InsertManyOptions().ordered(false));
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                collection.insertMany(batch, new InsertManyOptions().ordered(false));
+            }
+            System.out.printf("Seeded %,d keys in %.1f s%n", count, (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
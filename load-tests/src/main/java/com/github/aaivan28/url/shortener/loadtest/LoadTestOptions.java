@@ -0,0 +1,99 @@
+package com.github.aaivan28.url.shortener.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options as {@code --name=value}. Options starting with {@code --app.} are passed to the application
+ * started with {@code --boot}, without the prefix.
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        List<String> keys,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        String label,
+        int rate,
+        int maxInFlight,
+        long seed,
+        double zipfExponent,
+        double unknownRatio,
+        boolean boot,
+        String mongo,
+        String redis,
+        String database,
+        Map<String, String> applicationProperties) {
+
+    private static final String APPLICATION_PREFIX = "app.";
+
+    static LoadTestOptions parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        final Map<String, String> applicationProperties = new HashMap<>();
+        for (final String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            final int separator = arg.indexOf('=');
+            final String name = arg.substring(2, separator);
+            if (name.startsWith(APPLICATION_PREFIX)) {
+                applicationProperties.put(name.substring(APPLICATION_PREFIX.length()), arg.substring(separator + 1));
+            } else {
+                options.put(name, arg.substring(separator + 1));
+            }
+        }
+
+        final String baseUrl = options.getOrDefault("base-url", "http://localhost:8080/");
+        final LoadTestOptions parsed = new LoadTestOptions(
+                URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/"),
+                keys(options),
+                Integer.parseInt(options.getOrDefault("concurrency", "256")),
+                Duration.parse("PT" + options.getOrDefault("warmup", "10s")),
+                Duration.parse("PT" + options.getOrDefault("duration", "60s")),
+                options.getOrDefault("label", "redirect"),
+                Integer.parseInt(options.getOrDefault("rate", "0")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "10000")),
+                Long.parseLong(options.getOrDefault("seed", "0")),
+                Double.parseDouble(options.getOrDefault("zipf-exponent", "0.99")),
+                Double.parseDouble(options.getOrDefault("unknown-ratio", "0")),
+                Boolean.parseBoolean(options.getOrDefault("boot", "false")),
+                options.get("mongo"),
+                options.get("redis"),
+                options.getOrDefault("database", "url-shortener"),
+                Map.copyOf(applicationProperties));
+
+        if (parsed.seed() > 0 && !parsed.boot() && parsed.mongo() == null) {
+            throw new IllegalArgumentException("--seed needs --mongo, or --boot to start a local MongoDB");
+        }
+        if (parsed.zipfExponent() <= 0 || parsed.zipfExponent() >= 1) {
+            throw new IllegalArgumentException("--zipf-exponent must be between 0 and 1 exclusive");
+        }
+        return parsed;
+    }
+
+    boolean openLoop() {
+        return this.rate > 0;
+    }
+
+    private static List<String> keys(final Map<String, String> options) {
+        if (options.containsKey("keys-file")) {
+            try {
+                return Files.readAllLines(Path.of(options.get("keys-file"))).stream()
+                        .map(String::strip)
+                        .filter(line -> !line.isEmpty())
+                        .toList();
+            } catch (final IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+        return Arrays.asList(options.getOrDefault("keys", "abc123").split(","));
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.aaivan28.url.shortener.loadtest;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MongoDB and Redis in local containers for whichever of the two was not given on the command line. Needs Docker.
+ */
+final class LocalEnvironment implements AutoCloseable {
+
+    private static final int REDIS_PORT = 6379;
+
+    private final MongoDBContainer mongo;
+    private final GenericContainer<?> redis;
+    private final String mongoAddress;
+    private final String redisAddress;
+
+    LocalEnvironment(final String mongo, final String redis) {
+        if (mongo == null) {
+            this.mongo = new MongoDBContainer(DockerImageName.parse("mongo:7.0"));
+            this.mongo.start();
+            this.mongoAddress = this.mongo.getHost() + ":" + this.mongo.getMappedPort(27017);
+        } else {
+            this.mongo = null;
+            this.mongoAddress = mongo;
+        }
+
+        if (redis == null) {
+            this.redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(REDIS_PORT);
+            this.redis.start();
+            this.redisAddress = this.redis.getHost() + ":" + this.redis.getMappedPort(REDIS_PORT);
+        } else {
+            this.redis = null;
+            this.redisAddress = redis;
+        }
+    }
+
+    String mongo() {
+        return this.mongoAddress;
+    }
+
+    String redis() {
+        return this.redisAddress;
+    }
+
+    @Override
+    public void close() {
+        if (this.redis != null) {
+            this.redis.stop();
+        }
+        if (this.mongo != null) {
+            this.mongo.stop();
+        }
+    }
+}
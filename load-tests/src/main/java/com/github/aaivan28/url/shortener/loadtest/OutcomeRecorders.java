@@ -0,0 +1,49 @@
+package com.github.aaivan28.url.shortener.loadtest;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.RedirectMetrics;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One latency recorder for all responses and one per redirect outcome, taken from the
+ * {@link RedirectMetrics#OUTCOME_HEADER} header. Responses without it, from an application that does not send it, are recorded as {@code unknown}.
+ */
+final class OutcomeRecorders {
+
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final String UNKNOWN = "unknown";
+
+    private final Recorder all = newRecorder();
+    private final Map<String, Recorder> byOutcome = new ConcurrentHashMap<>();
+
+    void record(final String outcome, final long nanos) {
+        final long value = Math.min(nanos, HIGHEST_TRACKABLE_NANOS);
+        this.all.recordValue(value);
+        this.byOutcome.computeIfAbsent(outcome == null ? UNKNOWN : outcome, ignored -> newRecorder()).recordValue(value);
+    }
+
+    void reset() {
+        this.all.reset();
+        this.byOutcome.values().forEach(Recorder::reset);
+    }
+
+    Histogram all() {
+        return this.all.getIntervalHistogram();
+    }
+
+    Map<String, Histogram> byOutcome() {
+        final Map<String, Histogram> histograms = new TreeMap<>();
+        this.byOutcome.forEach((outcome, recorder) -> histograms.put(outcome, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    private static Recorder newRecorder() {
+        return new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+    }
+}
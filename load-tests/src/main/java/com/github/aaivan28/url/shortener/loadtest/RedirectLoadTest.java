@@ -0,0 +1,212 @@
+package com.github.aaivan28.url.shortener.loadtest;
+
+import com.github.aaivan28.url.shortener.infrastructure.adapter.inbound.metrics.RedirectMetrics;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for the redirect API. Redirects are not followed, so only the time spent by the API is measured.
+ * <p>
+ * Without {@code --rate} it runs a closed loop: every worker sends a request, waits for the response and sends the next
+ * one. With {@code --rate} requests are sent on a fixed schedule whatever the response times are, and latency is taken
+ * from the time each request should have been sent, so a stalled server is not hidden by a stalled generator.
+ */
+public final class RedirectLoadTest {
+
+    private final LoadTestOptions options;
+    private final URI baseUrl;
+    private final List<URI> uris;
+    private final ZipfianGenerator zipfian;
+    private final HttpClient httpClient;
+    private final OutcomeRecorders recorders = new OutcomeRecorders();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private RedirectLoadTest(final LoadTestOptions options, final URI baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.uris = options.keys().stream().map(baseUrl::resolve).toList();
+        this.zipfian = options.seed() > 0 ? new ZipfianGenerator(options.seed(), options.zipfExponent()) : null;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (LocalEnvironment environment = options.boot() ? new LocalEnvironment(options.mongo(), options.redis()) : null) {
+            final String mongo = environment == null ? options.mongo() : environment.mongo();
+            if (options.seed() > 0) {
+                KeySeeder.seed(mongo, options.database(), options.seed());
+            }
+            if (environment == null) {
+                new RedirectLoadTest(options, options.baseUrl()).run();
+                return;
+            }
+            try (EmbeddedApplication application = new EmbeddedApplication(
+                    mongo, environment.redis(), options.database(), options.applicationProperties())) {
+                new RedirectLoadTest(options, application.baseUrl()).run();
+            }
+        }
+    }
+
+    private void run() throws InterruptedException {
+        System.out.printf("Warming up %s for %s%n", this.baseUrl, this.options.warmup());
+        this.drive(this.options.warmup());
+        this.recorders.reset();
+        this.errors.reset();
+        this.dropped.reset();
+
+        System.out.printf("Measuring for %s%n", this.options.duration());
+        final long start = System.nanoTime();
+        this.drive(this.options.duration());
+        final long elapsed = System.nanoTime() - start;
+
+        this.report(elapsed);
+    }
+
+    private void drive(final Duration duration) {
+        if (this.options.openLoop()) {
+            this.driveOpenLoop(duration);
+        } else {
+            this.driveClosedLoop(duration);
+        }
+    }
+
+    private void driveClosedLoop(final Duration duration) {
+        final long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < this.options.concurrency(); worker++) {
+                final SplittableRandom random = new SplittableRandom(worker);
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        if (!this.send(this.nextUri(random), System.nanoTime())) {
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private void driveOpenLoop(final Duration duration) {
+        final double intervalNanos = 1e9 / this.options.rate();
+        final Semaphore inFlight = new Semaphore(this.options.maxInFlight());
+        final SplittableRandom random = new SplittableRandom(this.options.rate());
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            final long start = System.nanoTime();
+            final long deadline = start + duration.toNanos();
+            for (long sent = 0; ; sent++) {
+                final long intended = start + (long) (sent * intervalNanos);
+                if (intended >= deadline) {
+                    break;
+                }
+                for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                final URI uri = this.nextUri(random);
+                if (!inFlight.tryAcquire()) {
+                    // The server is so far behind that waiting for it would turn this into a closed loop
+                    this.dropped.increment();
+                    continue;
+                }
+                requests.submit(() -> {
+                    try {
+                        this.send(uri, intended);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private URI nextUri(final SplittableRandom random) {
+        if (this.options.unknownRatio() > 0 && random.nextDouble() < this.options.unknownRatio()) {
+            final long bound = Math.max(this.options.seed(), this.uris.size());
+            return this.baseUrl.resolve(KeySeeder.unknownKey(random.nextLong(bound)));
+        }
+        if (this.zipfian != null) {
+            return this.baseUrl.resolve(KeySeeder.key(this.zipfian.nextIndex(random)));
+        }
+        return this.uris.get(random.nextInt(this.uris.size()));
+    }
+
+    /**
+     * @return {@code false} if the thread was interrupted
+     */
+    private boolean send(final URI uri, final long startNanos) {
+        final HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        try {
+            final HttpResponse<Void> response = this.httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            this.recorders.record(response.headers().firstValue(RedirectMetrics.OUTCOME_HEADER).orElse(null),
+                    System.nanoTime() - startNanos);
+            if (response.statusCode() / 100 != 3) {
+                this.errors.increment();
+            }
+        } catch (final IOException exception) {
+            this.errors.increment();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private void report(final long elapsedNanos) {
+        final double seconds = elapsedNanos / 1e9;
+        final Histogram all = this.recorders.all();
+        if (this.options.openLoop()) {
+            System.out.printf("%n[%s] open loop at %,d req/s, %.1f s%n", this.options.label(), this.options.rate(), seconds);
+        } else {
+            System.out.printf("%n[%s] %d workers, %.1f s%n", this.options.label(), this.options.concurrency(), seconds);
+        }
+        System.out.printf("requests   %,d (%,d errors, %,d dropped)%n", all.getTotalCount(), this.errors.sum(), this.dropped.sum());
+        System.out.printf("throughput %,.0f req/s%n%n", all.getTotalCount() / seconds);
+
+        System.out.printf("%-10s %12s %7s %9s %9s %9s %9s %9s%n", "outcome", "requests", "share", "p50", "p90", "p99", "p99.9", "max");
+        this.printRow("all", all, all.getTotalCount());
+        for (final Map.Entry<String, Histogram> outcome : this.recorders.byOutcome().entrySet()) {
+            this.printRow(outcome.getKey(), outcome.getValue(), all.getTotalCount());
+        }
+    }
+
+    private void printRow(final String outcome, final Histogram histogram, final long total) {
+        System.out.printf("%-10s %,12d %6.1f%% %7.2fms %7.2fms %7.2fms %7.2fms %7.2fms%n",
+                outcome,
+                histogram.getTotalCount(),
+                total == 0 ? 0 : 100.0 * histogram.getTotalCount() / total,
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.aaivan28.url.shortener.loadtest;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipfian ranks in {@code [0, items)} after Gray et al., "Quickly Generating Billion-Record Synthetic Databases", the
+ * same generator YCSB uses. Rank 0 is the most popular. Ranks are spread over the key space with a multiplicative
+ * permutation, so the hottest keys are not the ones seeded first or last.
+ */
+final class ZipfianGenerator {
+
+    // Prime larger than any key count, so the permutation is a bijection
+    private static final long STRIDE = 2_147_483_647L;
+
+    private final long items;
+    private final double theta;
+    private final double zetaN;
+    private final double alpha;
+    private final double eta;
+
+    ZipfianGenerator(final long items, final double theta) {
+        if (items < 2 || items >= STRIDE) {
+            throw new IllegalArgumentException("Zipfian key count must be between 2 and " + (STRIDE - 1));
+        }
+        this.items = items;
+        this.theta = theta;
+        this.zetaN = zeta(items, theta);
+        this.alpha = 1.0 / (1.0 - theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / this.zetaN);
+    }
+
+    long nextRank(final SplittableRandom random) {
+        final double u = random.nextDouble();
+        final double uz = u * this.zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, this.theta)) {
+            return 1;
+        }
+        return Math.min(this.items - 1, (long) (this.items * Math.pow(this.eta * u - this.eta + 1, this.alpha)));
+    }
+
+    /**
+     * Position of the next key among the seeded ones.
+     */
+    long nextIndex(final SplittableRandom random) {
+        return Math.floorMod(this.nextRank(random) * STRIDE, this.items);
+    }
+
+    private static double zeta(final long items, final double theta) {
+        double sum = 0;
+        for (long i = 1; i <= items; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}